@@ -24,6 +24,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -71,6 +72,11 @@ public class AutomationComposition extends ToscaEntity implements Comparable<Aut
      * @param otherAutomationComposition the other element to copy from
      */
     public AutomationComposition(final AutomationComposition otherAutomationComposition) {
+        this(otherAutomationComposition, AutomationCompositionElement::new);
+    }
+
+    private AutomationComposition(final AutomationComposition otherAutomationComposition,
+            final UnaryOperator<AutomationCompositionElement> elementCopier) {
         super(otherAutomationComposition);
         this.instanceId = otherAutomationComposition.instanceId;
         this.compositionId = otherAutomationComposition.compositionId;
@@ -81,11 +87,23 @@ public class AutomationComposition extends ToscaEntity implements Comparable<Aut
         this.lastMsg = otherAutomationComposition.lastMsg;
         this.phase = otherAutomationComposition.phase;
         this.subState = otherAutomationComposition.subState;
-        this.elements = PfUtils.mapMap(otherAutomationComposition.elements, AutomationCompositionElement::new);
+        this.elements = PfUtils.mapMap(otherAutomationComposition.elements, elementCopier);
         this.stateChangeResult = otherAutomationComposition.stateChangeResult;
         this.revisionId = otherAutomationComposition.revisionId;
     }
 
+    /**
+     * Copy of the automation composition used to publish a message.
+     * The elements are copied, but they share their properties with the elements of the other automation
+     * composition, so the properties of the copy must be replaced and not modified.
+     *
+     * @param otherAutomationComposition the other automation composition to copy from
+     * @return the copy
+     */
+    public static AutomationComposition snapshotOf(final AutomationComposition otherAutomationComposition) {
+        return new AutomationComposition(otherAutomationComposition, AutomationCompositionElement::snapshotOf);
+    }
+
     @Override
     public int compareTo(final AutomationComposition other) {
         return compareNameVersion(this, other);
@@ -24,6 +24,7 @@ import jakarta.validation.constraints.NotNull;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
@@ -74,12 +75,17 @@ public class AutomationCompositionElement {
      * @param otherElement the other element to copy from
      */
     public AutomationCompositionElement(final AutomationCompositionElement otherElement) {
+        this(otherElement, AcmUtils::cloneMap);
+    }
+
+    private AutomationCompositionElement(final AutomationCompositionElement otherElement,
+            final UnaryOperator<Map<String, Object>> mapCopier) {
         this.id = otherElement.id;
         this.definition = new ToscaConceptIdentifier(otherElement.definition);
         this.participantId = otherElement.participantId;
         this.description = otherElement.description;
-        this.properties = AcmUtils.cloneMap(otherElement.properties);
-        this.outProperties = AcmUtils.cloneMap(otherElement.outProperties);
+        this.properties = mapCopier.apply(otherElement.properties);
+        this.outProperties = mapCopier.apply(otherElement.outProperties);
         this.deployState = otherElement.deployState;
         this.lockState = otherElement.lockState;
         this.subState = otherElement.subState;
@@ -89,4 +95,15 @@ public class AutomationCompositionElement {
         this.message = otherElement.message;
         this.migrationState = otherElement.migrationState;
     }
+
+    /**
+     * Copy of the element that shares the properties and the outProperties with the other element.
+     * The Maps of the copy must be replaced and not modified.
+     *
+     * @param otherElement the other element to copy from
+     * @return the copy
+     */
+    public static AutomationCompositionElement snapshotOf(final AutomationCompositionElement otherElement) {
+        return new AutomationCompositionElement(otherElement, UnaryOperator.identity());
+    }
 }
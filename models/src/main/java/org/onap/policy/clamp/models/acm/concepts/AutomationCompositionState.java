@@ -0,0 +1,56 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.concepts;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Class to represent the state of an automation composition instance, without the properties of its elements.
+ * It is used where the state is enough, to avoid loading and decoding the properties of all elements.
+ */
+@NoArgsConstructor
+@Data
+public class AutomationCompositionState {
+
+    private UUID instanceId;
+
+    private UUID compositionId;
+
+    private UUID compositionTargetId;
+
+    private DeployState deployState;
+
+    private LockState lockState;
+
+    private SubState subState;
+
+    private StateChangeResult stateChangeResult;
+
+    private Integer phase;
+
+    private UUID revisionId;
+
+    private Map<UUID, AutomationCompositionElementState> elements = new LinkedHashMap<>();
+}
@@ -21,6 +21,7 @@
 package org.onap.policy.clamp.models.acm.messages.kafka.participant;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.Getter;
@@ -33,6 +34,7 @@ import org.onap.policy.clamp.models.acm.concepts.StateChangeResult;
 /**
  * Class to represent participant Ack message.
  */
+@JsonPropertyOrder("messageType")
 @Getter
 @Setter
 @ToString
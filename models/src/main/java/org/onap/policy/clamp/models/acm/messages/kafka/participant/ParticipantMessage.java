@@ -21,6 +21,7 @@
 package org.onap.policy.clamp.models.acm.messages.kafka.participant;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
@@ -36,6 +37,8 @@ import lombok.ToString;
  * Class to represent the base class for various request messages that will be exchanged between the ACM runtime and
  * participants.
  */
+// messageType first, so the deserializer can resolve the target class without parsing the whole message
+@JsonPropertyOrder("messageType")
 @Getter
 @Setter
 @ToString
@@ -20,7 +20,10 @@
 
 package org.onap.policy.clamp.models.acm.messages.kafka.participant;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -38,6 +41,12 @@ public class ParticipantRegister extends ParticipantMessage {
 
     private String intermediaryVersion;
 
+    // revisionId by compositionId of the compositions in the cache of the participant
+    private Map<UUID, UUID> compositionRevisions = new HashMap<>();
+
+    // revisionId by instanceId of the automation compositions in the cache of the participant
+    private Map<UUID, UUID> instanceRevisions = new HashMap<>();
+
     /**
      * Constructor for instantiating ParticipantRegister class with message name.
      *
@@ -36,14 +36,18 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import org.onap.policy.clamp.models.acm.base.PfAuthorative;
 import org.onap.policy.clamp.models.acm.concepts.AutomationComposition;
 import org.onap.policy.clamp.models.acm.concepts.DeployState;
@@ -61,6 +65,7 @@ import org.onap.policy.models.base.PfUtils;
 @Entity
 @Table(name = "AutomationComposition", indexes = {@Index(name = "ac_compositionId", columnList = "compositionId")})
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
+@DynamicUpdate
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -186,9 +191,8 @@ public class JpaAutomationComposition implements PfAuthorative<AutomationComposi
         this.name = automationComposition.getName();
         this.version = automationComposition.getVersion();
         this.compositionId = automationComposition.getCompositionId().toString();
-        if (automationComposition.getCompositionTargetId() != null) {
-            this.compositionTargetId = automationComposition.getCompositionTargetId().toString();
-        }
+        this.compositionTargetId = automationComposition.getCompositionTargetId() != null
+                ? automationComposition.getCompositionTargetId().toString() : null;
         this.deployState = automationComposition.getDeployState();
         this.lockState = automationComposition.getLockState();
         this.lastMsg = TimestampHelper.toTimestamp(automationComposition.getLastMsg());
@@ -205,4 +209,44 @@ public class JpaAutomationComposition implements PfAuthorative<AutomationComposi
             this.elements.add(jpaAutomationCompositionElement);
         }
     }
+
+    /**
+     * Apply the changes of the authorative concept to this entity loaded from the database.
+     * Unlike {@link #fromAuthorative(AutomationComposition)}, the elements are updated in place and only the
+     * attributes that have changed are set, so the persistence context writes only the modified rows and columns.
+     *
+     * @param automationComposition the authorative concept
+     */
+    public void mergeFromAuthorative(@NonNull final AutomationComposition automationComposition) {
+        this.name = automationComposition.getName();
+        this.version = automationComposition.getVersion();
+        this.compositionId = automationComposition.getCompositionId().toString();
+        this.compositionTargetId = automationComposition.getCompositionTargetId() != null
+                ? automationComposition.getCompositionTargetId().toString() : null;
+        this.deployState = automationComposition.getDeployState();
+        this.lockState = automationComposition.getLockState();
+        this.lastMsg = TimestampHelper.toTimestamp(automationComposition.getLastMsg());
+        this.phase = automationComposition.getPhase();
+        this.subState = automationComposition.getSubState();
+        this.description = automationComposition.getDescription();
+        this.stateChangeResult = automationComposition.getStateChangeResult();
+        this.revisionId = automationComposition.getRevisionId().toString();
+
+        var elementMap = automationComposition.getElements();
+        this.elements.removeIf(element -> !elementMap.containsKey(UUID.fromString(element.getElementId())));
+        var jpaElementMap = this.elements.stream()
+                .collect(Collectors.toMap(JpaAutomationCompositionElement::getElementId, Function.identity(),
+                        (first, second) -> first, HashMap::new));
+        for (var elementEntry : elementMap.entrySet()) {
+            var elementId = elementEntry.getKey().toString();
+            var jpaElement = jpaElementMap.get(elementId);
+            if (jpaElement != null) {
+                jpaElement.mergeFromAuthorative(elementEntry.getValue());
+            } else {
+                jpaElement = new JpaAutomationCompositionElement(elementId, this.instanceId);
+                jpaElement.fromAuthorative(elementEntry.getValue());
+                this.elements.add(jpaElement);
+            }
+        }
+    }
 }
@@ -33,12 +33,14 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.function.UnaryOperator;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import org.onap.policy.clamp.models.acm.base.PfAuthorative;
 import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionElement;
 import org.onap.policy.clamp.models.acm.concepts.DeployState;
@@ -57,6 +59,7 @@ import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
 @Entity
 @Table(name = "AutomationCompositionElement")
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
+@DynamicUpdate
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -224,4 +227,31 @@ public class JpaAutomationCompositionElement implements PfAuthorative<Automation
         this.stage = element.getStage();
         this.message = element.getMessage();
     }
+
+    /**
+     * Apply the changes of the authorative concept to this entity loaded from the database.
+     * The properties and the outProperties are copied only if they have changed.
+     *
+     * @param element the authorative concept
+     */
+    public void mergeFromAuthorative(@NonNull final AutomationCompositionElement element) {
+        this.definitionName = element.getDefinition().getName();
+        this.definitionVersion = element.getDefinition().getVersion();
+        this.participantId = element.getParticipantId().toString();
+        this.description = element.getDescription();
+        if (!Objects.equals(this.properties, element.getProperties())) {
+            this.properties = PfUtils.mapMap(element.getProperties(), UnaryOperator.identity());
+        }
+        if (!Objects.equals(this.outProperties, element.getOutProperties())) {
+            this.outProperties = PfUtils.mapMap(element.getOutProperties(), UnaryOperator.identity());
+        }
+        this.deployState = element.getDeployState();
+        this.lockState = element.getLockState();
+        this.subState = element.getSubState();
+        this.migrationState = element.getMigrationState();
+        this.operationalState = element.getOperationalState();
+        this.useState = element.getUseState();
+        this.stage = element.getStage();
+        this.message = element.getMessage();
+    }
 }
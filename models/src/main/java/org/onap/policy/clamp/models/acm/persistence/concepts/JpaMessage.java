@@ -27,25 +27,34 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotNull;
 import java.sql.Timestamp;
 import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import org.onap.policy.clamp.models.acm.base.PfAuthorative;
 import org.onap.policy.clamp.models.acm.document.concepts.DocMessage;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantMessageType;
 import org.onap.policy.clamp.models.acm.utils.TimestampHelper;
+import org.springframework.data.domain.Persistable;
 
 @Entity
-@Table(name = "Message", indexes = {@Index(name = "m_identificationId", columnList = "identificationId")})
+@Table(name = "Message", indexes = {@Index(name = "m_identificationId", columnList = "identificationId"),
+    @Index(name = "message_instanceId_index", columnList = "instanceId"),
+    @Index(name = "message_compositionId_index", columnList = "compositionId"),
+    @Index(name = "message_statusElementId_index", columnList = "instanceId,statusElementId")})
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-public class JpaMessage implements PfAuthorative<DocMessage> {
+public class JpaMessage implements PfAuthorative<DocMessage>, Persistable<String> {
 
     @Id
     @NotNull
@@ -58,6 +67,17 @@ public class JpaMessage implements PfAuthorative<DocMessage> {
     // instanceId or compositionId
     private String identificationId;
 
+    // copied from docMessage, so the ids can be queried without decoding the document
+    @Column
+    private String instanceId;
+
+    @Column
+    private String compositionId;
+
+    // instance element id of a PARTICIPANT_STATUS message, null for the other messages
+    @Column
+    private String statusElementId;
+
     @NotNull
     @Column(nullable = false)
     private Timestamp lastMsg = TimestampHelper.nowTimestamp();
@@ -67,6 +87,12 @@ public class JpaMessage implements PfAuthorative<DocMessage> {
     @Convert(converter = StringToDocMessageConverter.class)
     private DocMessage docMessage;
 
+    // messages are only inserted or deleted, so a new message is persisted without looking up its assigned id
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
     public JpaMessage() {
         this(UUID.randomUUID().toString(), new DocMessage());
     }
@@ -79,6 +105,8 @@ public class JpaMessage implements PfAuthorative<DocMessage> {
     public JpaMessage(@NonNull final JpaMessage copyConcept) {
         this.messageId = copyConcept.messageId;
         this.identificationId = copyConcept.identificationId;
+        this.instanceId = copyConcept.instanceId;
+        this.compositionId = copyConcept.compositionId;
         this.lastMsg = copyConcept.lastMsg;
         fromAuthorative(copyConcept.docMessage);
     }
@@ -88,6 +116,22 @@ public class JpaMessage implements PfAuthorative<DocMessage> {
         fromAuthorative(docMessage);
     }
 
+    @Override
+    public String getId() {
+        return messageId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+
     @Override
     public DocMessage toAuthorative() {
         return new DocMessage(this.docMessage);
@@ -97,5 +141,9 @@ public class JpaMessage implements PfAuthorative<DocMessage> {
     public void fromAuthorative(@NonNull final DocMessage docMessage) {
         this.docMessage = new DocMessage(docMessage);
         this.docMessage.setMessageId(messageId);
+        this.instanceId = docMessage.getInstanceId() != null ? docMessage.getInstanceId().toString() : null;
+        this.compositionId = docMessage.getCompositionId() != null ? docMessage.getCompositionId().toString() : null;
+        this.statusElementId = ParticipantMessageType.PARTICIPANT_STATUS.equals(docMessage.getMessageType())
+                && docMessage.getInstanceElementId() != null ? docMessage.getInstanceElementId().toString() : null;
     }
 }
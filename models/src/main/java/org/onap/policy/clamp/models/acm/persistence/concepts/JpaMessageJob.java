@@ -25,15 +25,20 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotNull;
 import java.sql.Timestamp;
 import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import org.onap.policy.clamp.models.acm.utils.TimestampHelper;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "MessageJob")
@@ -41,7 +46,7 @@ import org.onap.policy.clamp.models.acm.utils.TimestampHelper;
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-public class JpaMessageJob {
+public class JpaMessageJob implements Persistable<String> {
 
     @Id
     @NotNull
@@ -57,6 +62,12 @@ public class JpaMessageJob {
     @NotNull
     private Timestamp jobStarted = TimestampHelper.nowTimestamp();
 
+    // jobs are only inserted or deleted, so a new job is persisted without looking up its assigned id
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
     public JpaMessageJob() {
         this(UUID.randomUUID().toString());
     }
@@ -64,4 +75,20 @@ public class JpaMessageJob {
     public JpaMessageJob(@NonNull final String identificationId) {
         this.identificationId = identificationId;
     }
+
+    @Override
+    public String getId() {
+        return jobId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
 }
@@ -66,6 +66,11 @@ public class JpaParticipant implements PfAuthorative<Participant> {
     @Column
     private String description;
 
+    // incremented in the database when the supported elements change, so the runtime replicas can detect that
+    // their cached data are outdated; it is never written by a merge of the entity
+    @Column(updatable = false)
+    private Long versionStamp = 0L;
+
     @NotNull
     @OneToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
     @JoinColumn(name = "participantId", referencedColumnName = "participantId",
@@ -110,6 +115,7 @@ public class JpaParticipant implements PfAuthorative<Participant> {
     public JpaParticipant(@NonNull final JpaParticipant copyConcept) {
         this.description = copyConcept.description;
         this.participantId = copyConcept.participantId;
+        this.versionStamp = copyConcept.versionStamp;
         this.supportedElements = copyConcept.supportedElements;
         this.replicas = copyConcept.replicas;
     }
@@ -27,9 +27,12 @@ import static org.springframework.data.jpa.domain.Specification.where;
 import jakarta.ws.rs.core.Response;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +43,7 @@ import org.onap.policy.clamp.models.acm.document.base.ToscaServiceTemplateValida
 import org.onap.policy.clamp.models.acm.document.concepts.DocToscaServiceTemplate;
 import org.onap.policy.clamp.models.acm.persistence.concepts.JpaAutomationCompositionDefinition;
 import org.onap.policy.clamp.models.acm.persistence.repository.AutomationCompositionDefinitionRepository;
+import org.onap.policy.clamp.models.acm.persistence.repository.NodeTemplateStateRepository;
 import org.onap.policy.clamp.models.acm.utils.AcmUtils;
 import org.onap.policy.clamp.models.acm.utils.TimestampHelper;
 import org.onap.policy.models.base.PfModelRuntimeException;
@@ -55,7 +59,19 @@ public class AcDefinitionProvider {
 
     private static final String NAME = "AutomationCompositionDefinition";
 
+    // upper bound of cached service templates, the cache is cleared when it is reached
+    static final int MAX_CACHED_SERVICE_TEMPLATES = 100;
+
     private final AutomationCompositionDefinitionRepository acmDefinitionRepository;
+    private final NodeTemplateStateRepository nodeTemplateStateRepository;
+
+    // decoded service templates by compositionId, valid while the revisionId in the database is the same
+    private final Map<UUID, CachedServiceTemplate> serviceTemplateCache = new ConcurrentHashMap<>();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
+    private record CachedServiceTemplate(String revisionId, ToscaServiceTemplate serviceTemplate) {
+    }
 
     /**
      * Create Automation Composition Definition.
@@ -131,6 +147,7 @@ public class AcDefinitionProvider {
         if (! validationResult.isValid()) {
             throw new PfModelRuntimeException(Response.Status.BAD_REQUEST, validationResult.getResult());
         }
+        serviceTemplateCache.remove(acDefinition.getCompositionId());
         acmDefinitionRepository.save(jpaAcmDefinition);
         acmDefinitionRepository.flush();
     }
@@ -162,6 +179,7 @@ public class AcDefinitionProvider {
         }
 
         var item = jpaDelete.get().getServiceTemplate();
+        serviceTemplateCache.remove(compositionId);
         acmDefinitionRepository.deleteById(compositionId.toString());
         return item.toAuthorative();
     }
@@ -169,18 +187,74 @@ public class AcDefinitionProvider {
     /**
      * Get the requested automation composition definitions.
      *
+     * <p>The state columns are always read from the database. The service template is taken from the cache when
+     * the revisionId in the database is the one it was cached with, so a change made by another runtime replica
+     * is seen at the next call.
+     *
      * @param compositionId The UUID of the automation composition definition to delete
      * @return the automation composition definition
      */
     @Transactional(readOnly = true)
     public AutomationCompositionDefinition getAcDefinition(UUID compositionId) {
+        var stateView = acmDefinitionRepository.findStateByCompositionId(compositionId.toString());
+        if (stateView.isEmpty()) {
+            throw notFound(compositionId);
+        }
+        var cached = serviceTemplateCache.get(compositionId);
+        if (cached != null && cached.revisionId().equals(stateView.get().getRevisionId())) {
+            cacheHits.incrementAndGet();
+            return toAcDefinition(stateView.get(), new ToscaServiceTemplate(cached.serviceTemplate()));
+        }
+        cacheMisses.incrementAndGet();
         var jpaGet = acmDefinitionRepository.findById(compositionId.toString());
         if (jpaGet.isEmpty()) {
-            String errorMessage =
-                    "Get serviceTemplate \"" + compositionId + "\" failed, serviceTemplate does not exist";
-            throw new PfModelRuntimeException(Response.Status.NOT_FOUND, errorMessage);
+            throw notFound(compositionId);
+        }
+        var acDefinition = jpaGet.get().toAuthorative();
+        if (serviceTemplateCache.size() >= MAX_CACHED_SERVICE_TEMPLATES) {
+            serviceTemplateCache.clear();
+        }
+        serviceTemplateCache.put(compositionId, new CachedServiceTemplate(jpaGet.get().getRevisionId(),
+                new ToscaServiceTemplate(acDefinition.getServiceTemplate())));
+        return acDefinition;
+    }
+
+    private static PfModelRuntimeException notFound(UUID compositionId) {
+        String errorMessage = "Get serviceTemplate \"" + compositionId + "\" failed, serviceTemplate does not exist";
+        return new PfModelRuntimeException(Response.Status.NOT_FOUND, errorMessage);
+    }
+
+    private AutomationCompositionDefinition toAcDefinition(
+            AutomationCompositionDefinitionRepository.StateView stateView, ToscaServiceTemplate serviceTemplate) {
+        var acDefinition = new AutomationCompositionDefinition();
+        acDefinition.setCompositionId(UUID.fromString(stateView.getCompositionId()));
+        acDefinition.setState(stateView.getState());
+        acDefinition.setStateChangeResult(stateView.getStateChangeResult());
+        acDefinition.setLastMsg(stateView.getLastMsg().toString());
+        acDefinition.setRevisionId(UUID.fromString(stateView.getRevisionId()));
+        acDefinition.setServiceTemplate(serviceTemplate);
+        for (var element : nodeTemplateStateRepository.findByCompositionId(stateView.getCompositionId())) {
+            acDefinition.getElementStateMap().put(element.getNodeTemplateName(), element.toAuthorative());
         }
-        return jpaGet.get().toAuthorative();
+        return acDefinition;
+    }
+
+    /**
+     * Get the number of calls to getAcDefinition that used a cached service template.
+     *
+     * @return the number of cache hits
+     */
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * Get the number of calls to getAcDefinition that decoded the service template from the database.
+     *
+     * @return the number of cache misses
+     */
+    public long getCacheMisses() {
+        return cacheMisses.get();
     }
 
     /**
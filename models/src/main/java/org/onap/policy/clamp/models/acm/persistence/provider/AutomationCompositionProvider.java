@@ -29,6 +29,7 @@ import static org.springframework.data.jpa.domain.Specification.where;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -39,7 +40,9 @@ import org.onap.policy.clamp.models.acm.base.validation.BeanValidationResult;
 import org.onap.policy.clamp.models.acm.base.validation.ValidationStatus;
 import org.onap.policy.clamp.models.acm.concepts.AutomationComposition;
 import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionElement;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionElementState;
 import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionRollback;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionState;
 import org.onap.policy.clamp.models.acm.concepts.DeployState;
 import org.onap.policy.clamp.models.acm.concepts.LockState;
 import org.onap.policy.clamp.models.acm.concepts.StateChangeResult;
@@ -104,6 +107,40 @@ public class AutomationCompositionProvider {
     }
 
 
+    /**
+     * Find the state of an automation composition, without loading the properties of its elements.
+     *
+     * @param instanceId the ID of the automation composition to get
+     * @return the state of the automation composition found
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_UNCOMMITTED)
+    public Optional<AutomationCompositionState> findAutomationCompositionState(final UUID instanceId) {
+        var stateOpt = automationCompositionRepository.findStateByInstanceId(instanceId.toString());
+        if (stateOpt.isEmpty()) {
+            return Optional.empty();
+        }
+        var stateView = stateOpt.get();
+        var state = new AutomationCompositionState();
+        state.setInstanceId(instanceId);
+        state.setCompositionId(UUID.fromString(stateView.getCompositionId()));
+        if (stateView.getCompositionTargetId() != null) {
+            state.setCompositionTargetId(UUID.fromString(stateView.getCompositionTargetId()));
+        }
+        state.setDeployState(stateView.getDeployState());
+        state.setLockState(stateView.getLockState());
+        state.setSubState(stateView.getSubState());
+        state.setStateChangeResult(stateView.getStateChangeResult());
+        state.setPhase(stateView.getPhase());
+        state.setRevisionId(UUID.fromString(stateView.getRevisionId()));
+        for (var elementView : acElementRepository.findStateByInstanceId(instanceId.toString())) {
+            var elementId = UUID.fromString(elementView.getElementId());
+            state.getElements().put(elementId, new AutomationCompositionElementState(elementId,
+                UUID.fromString(elementView.getParticipantId()), elementView.getDeployState(),
+                elementView.getLockState(), elementView.getSubState()));
+        }
+        return Optional.of(state);
+    }
+
     /**
      * Create automation composition.
      *
@@ -128,8 +165,17 @@ public class AutomationCompositionProvider {
      */
     public AutomationComposition updateAutomationComposition(
         @NonNull final AutomationComposition automationComposition) {
-        var result = automationCompositionRepository.save(ProviderUtils.getJpaAndValidate(automationComposition,
-            JpaAutomationComposition::new, "automation composition"));
+        var jpaOpt = automationCompositionRepository.findById(automationComposition.getInstanceId().toString());
+        JpaAutomationComposition result;
+        if (jpaOpt.isPresent()) {
+            // apply the changes to the loaded entity, only the modified rows and columns are written
+            result = jpaOpt.get();
+            result.mergeFromAuthorative(automationComposition);
+            ProviderUtils.validate(automationComposition, result, "automation composition");
+        } else {
+            result = automationCompositionRepository.save(ProviderUtils.getJpaAndValidate(automationComposition,
+                JpaAutomationComposition::new, "automation composition"));
+        }
         automationCompositionRepository.flush();
         // Return the saved automation composition
         return result.toAuthorative();
@@ -147,6 +193,19 @@ public class AutomationCompositionProvider {
             .asEntityList(automationCompositionRepository.findByCompositionId(compositionId.toString()));
     }
 
+    /**
+     * Get the revisionId of all automation compositions by compositionId, without loading the elements.
+     *
+     * @param compositionId the compositionId of the automation composition definition
+     * @return the revisionId by instanceId
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, UUID> getAcInstanceRevisionsByCompositionId(UUID compositionId) {
+        return automationCompositionRepository.findRevisionByCompositionId(compositionId.toString()).stream()
+            .collect(Collectors.toMap(view -> UUID.fromString(view.getInstanceId()),
+                view -> UUID.fromString(view.getRevisionId())));
+    }
+
     /**
      * Get all automation compositions by targetCompositionId.
      *
@@ -177,6 +236,16 @@ public class AutomationCompositionProvider {
             .map(UUID::fromString).collect(Collectors.toSet());
     }
 
+    /**
+     * Count the automation compositions by state.
+     *
+     * @return the number of automation compositions by DeployState, LockState and SubState
+     */
+    @Transactional(readOnly = true)
+    public List<AutomationCompositionRepository.StateCount> countAcInstancesByState() {
+        return automationCompositionRepository.countByState();
+    }
+
     /**
      * Get automation compositions.
      *
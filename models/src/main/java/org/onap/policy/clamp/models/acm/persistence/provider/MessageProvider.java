@@ -22,9 +22,11 @@ package org.onap.policy.clamp.models.acm.persistence.provider;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -55,16 +57,22 @@ public class MessageProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageProvider.class);
 
+    // a job older than the lease is considered abandoned by its replica
+    static final long JOB_LEASE_SECONDS = 200;
+
     private final MessageRepository messageRepository;
     private final MessageJobRepository messageJobRepository;
 
     /**
      * Save ParticipantPrimeAck message.
+     * An element reported more than once in the message is saved once, with its last outProperties.
      *
      * @param message the ParticipantPrimeAck message
      */
     public void save(ParticipantPrimeAck message) {
+        var jpaList = new ArrayList<JpaMessage>();
         if (message.getOutPropertiesList() != null) {
+            var outPropertiesMap = new LinkedHashMap<ToscaConceptIdentifier, JpaMessage>();
             for (var element : message.getOutPropertiesList()) {
                 var jpaElement = new JpaMessage();
                 jpaElement.setIdentificationId(message.getCompositionId().toString());
@@ -75,8 +83,9 @@ public class MessageProvider {
                 docElement.setAcElementDefinitionId(element.elementDefinitionId());
                 jpaElement.fromAuthorative(docElement);
                 ProviderUtils.validate(docElement, jpaElement, "ParticipantPrimeAck outProperties message");
-                messageRepository.save(jpaElement);
+                outPropertiesMap.put(element.elementDefinitionId(), jpaElement);
             }
+            jpaList.addAll(outPropertiesMap.values());
         }
         var doc = from(message);
         doc.setCompositionState(message.getCompositionState());
@@ -88,7 +97,8 @@ public class MessageProvider {
             jpa.setLastMsg(getDelay());
         }
         ProviderUtils.validate(doc, jpa, "ParticipantPrimeAck message");
-        messageRepository.save(jpa);
+        jpaList.add(jpa);
+        messageRepository.saveAll(jpaList);
     }
 
     /**
@@ -97,6 +107,8 @@ public class MessageProvider {
      * @param message the AutomationCompositionDeployAck message
      */
     public void save(AutomationCompositionDeployAck message) {
+        var jpaList = new ArrayList<JpaMessage>(message.getAutomationCompositionResultMap().size() * 2);
+        var statusMap = new LinkedHashMap<UUID, JpaMessage>();
         for (var entry : message.getAutomationCompositionResultMap().entrySet()) {
             if (Boolean.TRUE.equals(message.getOutPropertiesUpdated())) {
                 var jpaElement = new JpaMessage();
@@ -111,7 +123,7 @@ public class MessageProvider {
                 docElement.setInstanceElementId(entry.getKey());
                 jpaElement.fromAuthorative(docElement);
                 ProviderUtils.validate(docElement, jpaElement, "AutomationCompositionDeployAck outProperties message");
-                messageRepository.save(jpaElement);
+                statusMap.put(entry.getKey(), jpaElement);
             }
             var doc = from(message);
             doc.setStage(message.getStage());
@@ -127,8 +139,13 @@ public class MessageProvider {
                 jpa.setLastMsg(getDelay());
             }
             ProviderUtils.validate(doc, jpa, "AutomationCompositionDeployAck message");
-            messageRepository.save(jpa);
+            jpaList.add(jpa);
+        }
+        if (!statusMap.isEmpty()) {
+            replaceStatusMessages(message.getAutomationCompositionId().toString(), statusMap);
+            jpaList.addAll(statusMap.values());
         }
+        messageRepository.saveAll(jpaList);
     }
 
     private Timestamp getDelay() {
@@ -138,11 +155,15 @@ public class MessageProvider {
 
     /**
      * Save instance OutProperties.
+     * Only the most recent status of an element is kept: an element reported more than once in the message is
+     * saved once, and replaces the status of that element still waiting in the message table.
      *
      * @param message the ParticipantStatus message
      */
     public void saveInstanceOutProperties(ParticipantStatus message) {
+        var jpaList = new ArrayList<JpaMessage>();
         for (var instance : message.getAutomationCompositionInfoList()) {
+            var jpaMap = new LinkedHashMap<UUID, JpaMessage>();
             for (var element : instance.getElements()) {
                 var jpa = new JpaMessage();
                 jpa.setIdentificationId(instance.getAutomationCompositionId().toString());
@@ -155,19 +176,54 @@ public class MessageProvider {
                 doc.setInstanceElementId(element.getAutomationCompositionElementId());
                 jpa.fromAuthorative(doc);
                 ProviderUtils.validate(doc, jpa, "ParticipantStatus instance message");
-                messageRepository.save(jpa);
+                jpaMap.put(element.getAutomationCompositionElementId(), jpa);
+            }
+            if (!jpaMap.isEmpty()) {
+                replaceStatusMessages(instance.getAutomationCompositionId().toString(), jpaMap);
+                jpaList.addAll(jpaMap.values());
+            }
+        }
+        messageRepository.saveAll(jpaList);
+    }
+
+    /**
+     * Delete the PARTICIPANT_STATUS messages of the instance that are replaced by the new ones.
+     * The old messages are deleted rather than updated, so a scanner that is processing one of them cannot remove
+     * the newer status when it is done. A new status older than the stored one is dropped from the map.
+     *
+     * @param instanceId the instanceId
+     * @param statusMap the new PARTICIPANT_STATUS messages by instance element id
+     */
+    private void replaceStatusMessages(String instanceId, Map<UUID, JpaMessage> statusMap) {
+        var elementIds = statusMap.keySet().stream().map(UUID::toString).toList();
+        var replaced = new ArrayList<JpaMessage>();
+        for (var old : messageRepository.findByInstanceIdAndStatusElementIdIn(instanceId, elementIds)) {
+            var elementId = UUID.fromString(old.getStatusElementId());
+            var jpa = statusMap.get(elementId);
+            if (jpa == null) {
+                continue;
+            }
+            if (old.getLastMsg().after(jpa.getLastMsg())) {
+                statusMap.remove(elementId);
+            } else {
+                replaced.add(old);
             }
         }
+        if (!replaced.isEmpty()) {
+            messageRepository.deleteAll(replaced);
+        }
     }
 
     /**
      * Save composition OutProperties.
+     * An element reported more than once in the message is saved once, with its last outProperties.
      *
      * @param message the ParticipantStatus message
      * @param elementStateMap the NodeTemplateState map
      */
     public void saveCompositionOutProperties(ParticipantStatus message,
             Map<ToscaConceptIdentifier, NodeTemplateState> elementStateMap) {
+        var jpaMap = new LinkedHashMap<ToscaConceptIdentifier, JpaMessage>();
         for (var acDefinition : message.getParticipantDefinitionUpdates()) {
             for (var element : acDefinition.getAutomationCompositionElementDefinitionList()) {
                 var elementState = elementStateMap.get(element.getAcElementDefinitionId());
@@ -180,10 +236,11 @@ public class MessageProvider {
                     doc.setAcElementDefinitionId(element.getAcElementDefinitionId());
                     jpa.fromAuthorative(doc);
                     ProviderUtils.validate(doc, jpa, "ParticipantStatus composition message");
-                    messageRepository.save(jpa);
+                    jpaMap.put(element.getAcElementDefinitionId(), jpa);
                 }
             }
         }
+        messageRepository.saveAll(jpaMap.values());
     }
 
     private DocMessage from(ParticipantStatus message) {
@@ -225,11 +282,8 @@ public class MessageProvider {
      */
     @Transactional(readOnly = true)
     public Set<UUID> findCompositionMessages() {
-        var result = messageRepository.findAll();
-        return result.stream()
-                .map(JpaMessage::toAuthorative)
-                .filter(doc -> doc.getInstanceId() == null)
-                .map(DocMessage::getCompositionId)
+        return messageRepository.findDistinctCompositionIds().stream()
+                .map(UUID::fromString)
                 .collect(Collectors.toSet());
     }
 
@@ -240,14 +294,23 @@ public class MessageProvider {
      */
     @Transactional(readOnly = true)
     public Set<UUID> findInstanceMessages() {
-        var result = messageRepository.findAll();
-        return result.stream()
-                .map(JpaMessage::toAuthorative)
-                .map(DocMessage::getInstanceId)
-                .filter(Objects::nonNull)
+        return messageRepository.findDistinctInstanceIds().stream()
+                .map(UUID::fromString)
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Count the pending messages by identificationId.
+     *
+     * @return the number of messages by instanceId or compositionId
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, Long> countMessages() {
+        return messageRepository.countByIdentificationId().stream()
+                .collect(Collectors.toMap(count -> UUID.fromString(count.getIdentificationId()),
+                        MessageRepository.MessageCount::getCount));
+    }
+
     /**
      * Remove the message.
      *
@@ -258,15 +321,13 @@ public class MessageProvider {
     }
 
     /**
-     * Remove old jobs.
+     * Remove the jobs whose lease has expired, in a single statement.
      */
     public void removeOldJobs() {
-        var list = messageJobRepository.findAll();
-        var old = Timestamp.from(Instant.now().minusSeconds(200));
-        for (var job : list) {
-            if (job.getJobStarted().before(old)) {
-                messageJobRepository.deleteById(job.getJobId());
-            }
+        var expiry = Timestamp.from(Instant.now().minusSeconds(JOB_LEASE_SECONDS));
+        var removed = messageJobRepository.deleteExpired(expiry);
+        if (removed > 0) {
+            LOGGER.debug("Removed {} expired jobs", removed);
         }
     }
 
@@ -288,6 +349,20 @@ public class MessageProvider {
         return Optional.of(result.getJobId());
     }
 
+    /**
+     * Create the Jobs of a batch of identificationIds, with a single statement on PostgreSQL.
+     * The identificationIds that already have a job, also claimed by another replica at the same time, are skipped.
+     *
+     * @param identificationIds the instanceIds or compositionIds
+     * @return the map of the identificationIds claimed to their jobId
+     */
+    public Map<UUID, String> createJobs(Collection<UUID> identificationIds) {
+        var ids = identificationIds.stream().map(UUID::toString).toList();
+        var result = new LinkedHashMap<UUID, String>();
+        messageJobRepository.claimJobs(ids).forEach((id, jobId) -> result.put(UUID.fromString(id), jobId));
+        return result;
+    }
+
     /**
      * Remove the job by jobId.
      *
@@ -296,4 +371,15 @@ public class MessageProvider {
     public void removeJob(String jobId) {
         messageJobRepository.deleteById(jobId);
     }
+
+    /**
+     * Remove the jobs by jobId, in a single statement.
+     *
+     * @param jobIds the jobIds
+     */
+    public void removeJobs(Collection<String> jobIds) {
+        if (!jobIds.isEmpty()) {
+            messageJobRepository.deleteAllByIdInBatch(jobIds);
+        }
+    }
 }
@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- * Copyright (C) 2021-2025 OpenInfra Foundation Europe. All rights reserved.
+ * Copyright (C) 2021-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,9 +22,11 @@ package org.onap.policy.clamp.models.acm.persistence.provider;
 
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -51,6 +53,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * This class provides information on participant concepts in the database to callers.
+ * The map of the supported elements is kept in memory and rebuilt only when the version stamp of the participant
+ * table has changed, also by another runtime replica. The stamp of a participant is incremented in the database
+ * only when its supported elements change.
  */
 @Service
 @Transactional
@@ -65,6 +70,16 @@ public class ParticipantProvider {
 
     private final ParticipantReplicaRepository replicaRepository;
 
+    private volatile SupportedElementIndex supportedElementIndex;
+
+    private record SupportedElementIndex(long count, long versionStamp, Map<ToscaConceptIdentifier, UUID> map) {
+
+        boolean isValid(ParticipantRepository.VersionStampView view) {
+            return view != null && view.getCount() != null && count == view.getCount()
+                    && versionStamp == Objects.requireNonNullElse(view.getVersionStamp(), 0L);
+        }
+    }
+
     /**
      * Get all participants.
      *
@@ -110,8 +125,20 @@ public class ParticipantProvider {
      * @return the participant created
      */
     public Participant saveParticipant(@NonNull final Participant participant) {
-        var result = participantRepository
-            .save(ProviderUtils.getJpaAndValidate(participant, JpaParticipant::new, "participant"));
+        var jpaParticipant = ProviderUtils.getJpaAndValidate(participant, JpaParticipant::new, "participant");
+        var existing = participantRepository.findById(jpaParticipant.getParticipantId());
+        existing.ifPresent(jpa -> jpaParticipant.setVersionStamp(jpa.getVersionStamp()));
+        var supportedElementsChanged = existing
+                .map(jpa -> !getSupportedElements(jpa).equals(getSupportedElements(jpaParticipant)))
+                .orElse(true);
+        var result = participantRepository.save(jpaParticipant);
+        if (supportedElementsChanged) {
+            // a new participant changes the count, an existing one gets its stamp incremented
+            if (existing.isPresent()) {
+                participantRepository.incrementVersionStamp(jpaParticipant.getParticipantId());
+            }
+            supportedElementIndex = null;
+        }
 
         // Return the saved participant
         return result.toAuthorative();
@@ -120,18 +147,33 @@ public class ParticipantProvider {
     /**
      * Get a map with SupportedElement as key and the participantId as value.
      *
-     * @return a map
+     * @return an unmodifiable map
      */
+    @Transactional(readOnly = true)
     public Map<ToscaConceptIdentifier, UUID> getSupportedElementMap() {
+        var index = supportedElementIndex;
+        if (index != null && index.isValid(participantRepository.findVersionStamp())) {
+            return index.map();
+        }
         var list = participantRepository.findAll();
         Map<ToscaConceptIdentifier, UUID> map = new HashMap<>();
+        // the stamp is taken from the rows the map is built from, so it cannot be newer than the map
+        var versionStamp = 0L;
         for (var participant : list) {
-            for (var element : participant.getSupportedElements()) {
-                var supportedElement = new ToscaConceptIdentifier(element.getTypeName(), element.getTypeVersion());
+            versionStamp += Objects.requireNonNullElse(participant.getVersionStamp(), 0L);
+            for (var supportedElement : getSupportedElements(participant)) {
                 map.put(supportedElement, UUID.fromString(participant.getParticipantId()));
             }
         }
-        return map;
+        var result = Collections.unmodifiableMap(map);
+        supportedElementIndex = new SupportedElementIndex(list.size(), versionStamp, result);
+        return result;
+    }
+
+    private static Set<ToscaConceptIdentifier> getSupportedElements(JpaParticipant participant) {
+        return participant.getSupportedElements().stream()
+                .map(element -> new ToscaConceptIdentifier(element.getTypeName(), element.getTypeVersion()))
+                .collect(Collectors.toSet());
     }
 
     /**
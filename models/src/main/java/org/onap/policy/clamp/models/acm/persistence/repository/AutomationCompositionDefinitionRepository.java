@@ -20,9 +20,12 @@
 
 package org.onap.policy.clamp.models.acm.persistence.repository;
 
+import java.sql.Timestamp;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.onap.policy.clamp.models.acm.concepts.AcTypeState;
+import org.onap.policy.clamp.models.acm.concepts.StateChangeResult;
 import org.onap.policy.clamp.models.acm.persistence.concepts.JpaAutomationCompositionDefinition;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -34,4 +37,22 @@ public interface AutomationCompositionDefinitionRepository
         JpaSpecificationExecutor<JpaAutomationCompositionDefinition> {
 
     List<JpaAutomationCompositionDefinition> findByStateIn(Collection<AcTypeState> states);
+
+    Optional<StateView> findStateByCompositionId(String compositionId);
+
+    /**
+     * Projection of the state columns of an automation composition definition, without the service template.
+     */
+    interface StateView {
+
+        String getCompositionId();
+
+        AcTypeState getState();
+
+        StateChangeResult getStateChangeResult();
+
+        Timestamp getLastMsg();
+
+        String getRevisionId();
+    }
 }
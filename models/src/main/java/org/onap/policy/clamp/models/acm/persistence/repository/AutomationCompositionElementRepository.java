@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- * Copyright (C) 2025 OpenInfra Foundation Europe. All rights reserved.
+ * Copyright (C) 2025-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,9 @@
 package org.onap.policy.clamp.models.acm.persistence.repository;
 
 import java.util.List;
+import org.onap.policy.clamp.models.acm.concepts.DeployState;
+import org.onap.policy.clamp.models.acm.concepts.LockState;
+import org.onap.policy.clamp.models.acm.concepts.SubState;
 import org.onap.policy.clamp.models.acm.persistence.concepts.JpaAutomationCompositionElement;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -28,4 +31,22 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface AutomationCompositionElementRepository extends JpaRepository<JpaAutomationCompositionElement, String> {
 
     List<JpaAutomationCompositionElement> findByParticipantId(String participantId, Pageable pageable);
+
+    List<StateView> findStateByInstanceId(String instanceId);
+
+    /**
+     * Projection of the state columns of an automation composition element.
+     */
+    interface StateView {
+
+        String getElementId();
+
+        String getParticipantId();
+
+        DeployState getDeployState();
+
+        LockState getLockState();
+
+        SubState getSubState();
+    }
 }
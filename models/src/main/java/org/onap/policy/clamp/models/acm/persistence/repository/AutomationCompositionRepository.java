@@ -22,12 +22,15 @@ package org.onap.policy.clamp.models.acm.persistence.repository;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.onap.policy.clamp.models.acm.concepts.DeployState;
 import org.onap.policy.clamp.models.acm.concepts.LockState;
+import org.onap.policy.clamp.models.acm.concepts.StateChangeResult;
 import org.onap.policy.clamp.models.acm.concepts.SubState;
 import org.onap.policy.clamp.models.acm.persistence.concepts.JpaAutomationComposition;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -43,4 +46,61 @@ public interface AutomationCompositionRepository extends JpaRepository<JpaAutoma
     List<JpaAutomationComposition> findBySubStateIn(Collection<SubState> subStates);
 
     List<JpaAutomationComposition> findByCompositionTargetId(String compositionTargetId);
+
+    Optional<StateView> findStateByInstanceId(String instanceId);
+
+    List<RevisionView> findRevisionByCompositionId(String compositionId);
+
+    @Query("SELECT ac.deployState AS deployState, ac.lockState AS lockState, ac.subState AS subState, "
+            + "COUNT(ac) AS count FROM JpaAutomationComposition ac "
+            + "GROUP BY ac.deployState, ac.lockState, ac.subState")
+    List<StateCount> countByState();
+
+    /**
+     * Projection of the state columns of an automation composition.
+     */
+    interface StateView {
+
+        String getInstanceId();
+
+        String getCompositionId();
+
+        String getCompositionTargetId();
+
+        DeployState getDeployState();
+
+        LockState getLockState();
+
+        SubState getSubState();
+
+        StateChangeResult getStateChangeResult();
+
+        Integer getPhase();
+
+        String getRevisionId();
+    }
+
+    /**
+     * Projection of the revisionId of an automation composition.
+     */
+    interface RevisionView {
+
+        String getInstanceId();
+
+        String getRevisionId();
+    }
+
+    /**
+     * Number of automation compositions in a state.
+     */
+    interface StateCount {
+
+        DeployState getDeployState();
+
+        LockState getLockState();
+
+        SubState getSubState();
+
+        Long getCount();
+    }
 }
@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2025 Nordix Foundation.
+ *  Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,13 +21,21 @@
 
 package org.onap.policy.clamp.models.acm.persistence.repository;
 
+import java.sql.Timestamp;
 import java.util.Optional;
 import org.onap.policy.clamp.models.acm.persistence.concepts.JpaMessageJob;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MessageJobRepository extends JpaRepository<JpaMessageJob, String> {
+public interface MessageJobRepository extends JpaRepository<JpaMessageJob, String>, MessageJobRepositoryCustom {
 
     Optional<JpaMessageJob> findByIdentificationId(String identificationId);
+
+    @Modifying
+    @Query("DELETE FROM JpaMessageJob j WHERE j.jobStarted < :expiry")
+    int deleteExpired(@Param("expiry") Timestamp expiry);
 }
@@ -0,0 +1,36 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.persistence.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface MessageJobRepositoryCustom {
+
+    /**
+     * Claim the jobs of the identificationIds that have no job yet. The identificationIds already claimed,
+     * also by another runtime replica at the same time, are skipped.
+     *
+     * @param identificationIds the instanceIds or compositionIds
+     * @return the map of the identificationIds claimed to their jobId
+     */
+    Map<String, String> claimJobs(Collection<String> identificationIds);
+}
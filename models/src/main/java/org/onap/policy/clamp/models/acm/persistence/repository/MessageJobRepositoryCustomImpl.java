@@ -0,0 +1,89 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.onap.policy.clamp.models.acm.persistence.concepts.JpaMessageJob;
+import org.onap.policy.clamp.models.acm.utils.TimestampHelper;
+
+/**
+ * Claim of a batch of jobs. On PostgreSQL the batch is claimed with a single statement that skips the
+ * identificationIds already claimed; the other databases, used in the tests, run a query and a batched insert.
+ */
+@RequiredArgsConstructor
+public class MessageJobRepositoryCustomImpl implements MessageJobRepositoryCustom {
+
+    private static final String CLAIM_JOBS = "INSERT INTO MessageJob (jobId, identificationId, jobStarted) "
+            + "SELECT ids.jobId, ids.identificationId, :jobStarted "
+            + "FROM unnest(string_to_array(:jobIds, ','), string_to_array(:identificationIds, ',')) "
+            + "AS ids(jobId, identificationId) "
+            + "ON CONFLICT (identificationId) DO NOTHING "
+            + "RETURNING identificationId, jobId";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Map<String, String> claimJobs(Collection<String> identificationIds) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (identificationIds.isEmpty()) {
+            return result;
+        }
+        if (isPostgreSql()) {
+            var jobIds = identificationIds.stream().map(id -> UUID.randomUUID().toString()).toList();
+            var rows = entityManager.createNativeQuery(CLAIM_JOBS)
+                    .setParameter("jobStarted", TimestampHelper.nowTimestamp())
+                    .setParameter("jobIds", String.join(",", jobIds))
+                    .setParameter("identificationIds", String.join(",", identificationIds))
+                    .getResultList();
+            for (var row : rows) {
+                var columns = (Object[]) row;
+                result.put((String) columns[0], (String) columns[1]);
+            }
+            return result;
+        }
+        var claimed = new HashSet<>(entityManager.createQuery(
+                "SELECT j.identificationId FROM JpaMessageJob j WHERE j.identificationId IN :identificationIds",
+                String.class).setParameter("identificationIds", identificationIds).getResultList());
+        for (var identificationId : identificationIds) {
+            if (claimed.add(identificationId)) {
+                var job = new JpaMessageJob(identificationId);
+                entityManager.persist(job);
+                result.put(identificationId, job.getJobId());
+            }
+        }
+        // flush, so a conflict with another replica is reported here
+        entityManager.flush();
+        return result;
+    }
+
+    private boolean isPostgreSql() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+}
@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- * Copyright (C) 2025 OpenInfra Foundation Europe. All rights reserved.
+ * Copyright (C) 2025-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,11 +20,36 @@
 
 package org.onap.policy.clamp.models.acm.persistence.repository;
 
+import java.util.Collection;
 import java.util.List;
 import org.onap.policy.clamp.models.acm.persistence.concepts.JpaMessage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface MessageRepository extends JpaRepository<JpaMessage, String> {
 
     List<JpaMessage> findByIdentificationIdOrderByLastMsgAsc(String identificationId);
+
+    List<JpaMessage> findByInstanceIdAndStatusElementIdIn(String instanceId, Collection<String> statusElementIds);
+
+    @Query("SELECT DISTINCT m.instanceId FROM JpaMessage m WHERE m.instanceId IS NOT NULL")
+    List<String> findDistinctInstanceIds();
+
+    @Query("SELECT DISTINCT m.compositionId FROM JpaMessage m "
+            + "WHERE m.instanceId IS NULL AND m.compositionId IS NOT NULL")
+    List<String> findDistinctCompositionIds();
+
+    @Query("SELECT m.identificationId AS identificationId, COUNT(m) AS count FROM JpaMessage m "
+            + "GROUP BY m.identificationId")
+    List<MessageCount> countByIdentificationId();
+
+    /**
+     * Number of messages of an identificationId.
+     */
+    interface MessageCount {
+
+        String getIdentificationId();
+
+        Long getCount();
+    }
 }
@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- * Copyright (C) 2023,2025 OpenInfra Foundation Europe. All rights reserved.
+ * Copyright (C) 2023,2025-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,5 +30,7 @@ public interface NodeTemplateStateRepository extends JpaRepository<JpaNodeTempla
     List<JpaNodeTemplateState> findByParticipantId(String participantId);
 
     List<JpaNodeTemplateState> findByParticipantId(String participantId, Pageable pageable);
+
+    List<JpaNodeTemplateState> findByCompositionId(String compositionId);
 }
 
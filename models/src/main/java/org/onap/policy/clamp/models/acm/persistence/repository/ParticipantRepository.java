@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2021-2023 Nordix Foundation.
+ *  Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,9 +23,29 @@ package org.onap.policy.clamp.models.acm.persistence.repository;
 
 import org.onap.policy.clamp.models.acm.persistence.concepts.JpaParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ParticipantRepository extends JpaRepository<JpaParticipant, String> {
 
+    @Query("SELECT COUNT(p) AS count, SUM(p.versionStamp) AS versionStamp FROM JpaParticipant p")
+    VersionStampView findVersionStamp();
+
+    @Modifying
+    @Query("UPDATE JpaParticipant p SET p.versionStamp = p.versionStamp + 1 WHERE p.participantId = :participantId")
+    int incrementVersionStamp(@Param("participantId") String participantId);
+
+    /**
+     * Number of participants and sum of their version stamps. Participants are never deleted and each stamp is only
+     * incremented in the database, so the pair changes on each change of the supported elements.
+     */
+    interface VersionStampView {
+
+        Long getCount();
+
+        Long getVersionStamp();
+    }
 }
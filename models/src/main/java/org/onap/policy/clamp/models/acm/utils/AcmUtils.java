@@ -21,14 +21,19 @@
 package org.onap.policy.clamp.models.acm.utils;
 
 import jakarta.ws.rs.core.Response;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Function;
@@ -59,7 +64,7 @@ import org.onap.policy.clamp.models.acm.concepts.ParticipantRestartAc;
 import org.onap.policy.clamp.models.acm.dto.CompositionDto;
 import org.onap.policy.clamp.models.acm.dto.ParticipantPrimeDto;
 import org.onap.policy.clamp.models.acm.messages.rest.instantiation.DeployOrder;
-import org.onap.policy.clamp.models.acm.persistence.concepts.StringToMapConverter;
+import org.onap.policy.clamp.models.acm.persistence.concepts.AbstractConverter;
 import org.onap.policy.models.base.PfModelRuntimeException;
 import org.onap.policy.models.base.PfUtils;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
@@ -79,7 +84,6 @@ public final class AcmUtils {
     private static final String NOT_VALID_INSTANCE =
             "Instance cannot be deployed; There are elements in an invalid Migration state."
                     + "(ElementId: %s, MigrationState: %s)";
-    private static final StringToMapConverter MAP_CONVERTER = new StringToMapConverter();
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AcmUtils.class);
 
@@ -520,21 +524,145 @@ public final class AcmUtils {
         }
     }
 
+    /**
+     * Deep copy of a Map of properties.
+     * The copy is the same as the Map obtained by serializing the Map to JSON and parsing it back: nested Maps and
+     * Lists are copied, entries with null value are removed, integral numbers are converted to the smallest of
+     * Integer, Long and BigInteger, and decimal numbers are converted to Double.
+     *
+     * @param map the Map to copy
+     * @return the copy of the Map, an empty Map if the Map is null
+     */
     public static Map<String, Object> cloneMap(Map<String, Object> map) {
-        var str = MAP_CONVERTER.convertToDatabaseColumn(map);
-        return MAP_CONVERTER.convertToEntityAttribute(str);
+        if (map == null) {
+            return new HashMap<>();
+        }
+        return cloneMapValue(map);
     }
 
     /**
      * Compare two Maps.
+     * The Maps are equal if their copies made by {@link #cloneMap(Map)} are equal, so the order of the entries,
+     * the entries with null value and the Java type of the numbers are not relevant.
+     *
      * @param map1 the first Map
      * @param map2 the second Map
      * @return true the first Map is equal to second Map
      */
     public static boolean equalMap(@NonNull Map<String, Object> map1, @NonNull Map<String, Object> map2) {
-        var str1 = MAP_CONVERTER.convertToDatabaseColumn(map1);
-        var str2 = MAP_CONVERTER.convertToDatabaseColumn(map2);
-        return str1.equals(str2);
+        return equalMapValue(map1, map2);
+    }
+
+    private static Map<String, Object> cloneMapValue(Map<?, ?> map) {
+        Map<String, Object> copyMap = LinkedHashMap.newLinkedHashMap(map.size());
+        for (var entry : map.entrySet()) {
+            if (entry.getValue() != null) {
+                copyMap.put(String.valueOf(entry.getKey()), cloneValue(entry.getValue()));
+            }
+        }
+        return copyMap;
+    }
+
+    private static Object cloneValue(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Map<?, ?> map) {
+            return cloneMapValue(map);
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> copyList = new ArrayList<>(collection.size());
+            for (var item : collection) {
+                copyList.add(cloneValue(item));
+            }
+            return copyList;
+        }
+        var number = value instanceof Number ? normalizeNumber((Number) value) : null;
+        // other types are converted as the JSON parser does
+        return number != null ? number : AbstractConverter.convertObject(value, Object.class);
+    }
+
+    private static Number normalizeNumber(Number number) {
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return number.intValue();
+        }
+        if (number instanceof Long || number instanceof BigInteger) {
+            var bigInteger = number instanceof BigInteger value ? value : BigInteger.valueOf(number.longValue());
+            if (bigInteger.bitLength() < Integer.SIZE) {
+                return bigInteger.intValue();
+            }
+            return bigInteger.bitLength() < Long.SIZE ? (Number) bigInteger.longValue() : bigInteger;
+        }
+        if (number instanceof Double value && Double.isFinite(value)) {
+            return value;
+        }
+        if (number instanceof Float value && Float.isFinite(value)) {
+            // a Float is written with its shortest decimal representation
+            return Double.valueOf(Float.toString(value));
+        }
+        if (number instanceof BigDecimal value) {
+            return value.doubleValue();
+        }
+        return null;
+    }
+
+    private static boolean equalMapValue(Map<?, ?> map1, Map<?, ?> map2) {
+        if (map1 == map2) {
+            return true;
+        }
+        if (!hasStringKeys(map1) || !hasStringKeys(map2)) {
+            return cloneMapValue(map1).equals(cloneMapValue(map2));
+        }
+        var size = 0;
+        for (var entry : map1.entrySet()) {
+            if (entry.getValue() != null) {
+                size++;
+                var value2 = map2.get(entry.getKey());
+                if (value2 == null || !equalValue(entry.getValue(), value2)) {
+                    return false;
+                }
+            }
+        }
+        for (var value2 : map2.values()) {
+            if (value2 != null) {
+                size--;
+            }
+        }
+        return size == 0;
+    }
+
+    private static boolean hasStringKeys(Map<?, ?> map) {
+        for (var key : map.keySet()) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalValue(Object value1, Object value2) {
+        if (value1 == value2) {
+            return true;
+        }
+        if (value1 == null || value2 == null) {
+            return false;
+        }
+        if (value1 instanceof Map<?, ?> map1 && value2 instanceof Map<?, ?> map2) {
+            return equalMapValue(map1, map2);
+        }
+        if (value1 instanceof Collection<?> collection1 && value2 instanceof Collection<?> collection2) {
+            if (collection1.size() != collection2.size()) {
+                return false;
+            }
+            var iterator2 = collection2.iterator();
+            for (var item1 : collection1) {
+                if (!equalValue(item1, iterator2.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return Objects.equals(cloneValue(value1), cloneValue(value2));
     }
 
     /**
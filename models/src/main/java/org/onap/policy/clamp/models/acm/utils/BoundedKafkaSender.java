@@ -0,0 +1,104 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantKafkaMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * Sender of the participant messages shared by the runtime and the participants.
+ * In sync mode a send waits for the acknowledgement of the broker; in async mode it does not, but the number of
+ * messages not acknowledged yet is bounded by the permits of the in-flight semaphore. A failed send is logged and
+ * never thrown to the caller.
+ */
+public class BoundedKafkaSender {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BoundedKafkaSender.class);
+
+    private final KafkaTemplate<String, ? super ParticipantKafkaMessage> kafkaTemplate;
+    private final boolean async;
+    private final Semaphore inFlight;
+
+    /**
+     * Constructor.
+     *
+     * @param kafkaTemplate the kafka template
+     * @param async true if the send does not wait for the acknowledgement
+     * @param inFlight the semaphore bounding the messages not acknowledged yet in async mode
+     */
+    public BoundedKafkaSender(KafkaTemplate<String, ? super ParticipantKafkaMessage> kafkaTemplate, boolean async,
+            Semaphore inFlight) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.async = async;
+        this.inFlight = inFlight;
+    }
+
+    /**
+     * Send a message to a topic.
+     *
+     * @param topic the topic
+     * @param message the message
+     */
+    public void send(final String topic, final ParticipantKafkaMessage message) {
+        if (async) {
+            sendAsync(topic, message);
+            return;
+        }
+        try {
+            doSend(topic, message).join();
+        } catch (final Exception e) {
+            LOGGER.error("send to {} failed because of {}", topic, e.getMessage(), e);
+        }
+    }
+
+    private void sendAsync(final String topic, final ParticipantKafkaMessage message) {
+        try {
+            inFlight.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("send to {} interrupted", topic, e);
+            return;
+        }
+        try {
+            doSend(topic, message).whenComplete((result, e) -> {
+                inFlight.release();
+                if (e != null) {
+                    LOGGER.error("send to {} failed because of {}", topic, e.getMessage(), e);
+                }
+            });
+        } catch (final RuntimeException e) {
+            inFlight.release();
+            LOGGER.error("send to {} failed because of {}", topic, e.getMessage(), e);
+        }
+    }
+
+    private CompletableFuture<?> doSend(final String topic, final ParticipantKafkaMessage message) {
+        // the partition key keeps the messages of the same participant or composition in order
+        if (message.getPartitionKey() == null) {
+            return kafkaTemplate.send(topic, message);
+        } else {
+            return kafkaTemplate.send(topic, message.getPartitionKey(), message);
+        }
+    }
+}
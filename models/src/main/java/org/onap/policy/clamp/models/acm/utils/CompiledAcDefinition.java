@@ -0,0 +1,213 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.utils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Getter;
+import org.onap.policy.clamp.models.acm.concepts.AutomationComposition;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionDefinition;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionElement;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+
+/**
+ * Immutable view of a composition definition revision, with the start phase and the stages of each node template
+ * parsed once. It gives the same results as {@link AcmStageUtils} for the service template it was compiled from.
+ */
+public final class CompiledAcDefinition {
+
+    private static final int MAX_STAGE = 1000;
+    private static final int NOT_FOUND = -1;
+    private static final int[] NO_STAGE = {0};
+
+    @Getter
+    private final UUID compositionId;
+
+    @Getter
+    private final UUID revisionId;
+
+    // index of the node templates by name, used to read the arrays below
+    private final Map<String, Integer> indexes;
+    private final String[] versions;
+    private final int[] startPhases;
+
+    // stages sorted in ascending order
+    private final int[][] prepareStages;
+    private final int[][] migrateStages;
+
+    private CompiledAcDefinition(AutomationCompositionDefinition acDefinition) {
+        this.compositionId = acDefinition.getCompositionId();
+        this.revisionId = acDefinition.getRevisionId();
+        var nodeTemplates = acDefinition.getServiceTemplate().getToscaTopologyTemplate().getNodeTemplates();
+        var size = nodeTemplates != null ? nodeTemplates.size() : 0;
+        this.indexes = new HashMap<>(size * 2);
+        this.versions = new String[size];
+        this.startPhases = new int[size];
+        this.prepareStages = new int[size][];
+        this.migrateStages = new int[size][];
+        if (nodeTemplates == null) {
+            return;
+        }
+        var index = 0;
+        for (var entry : nodeTemplates.entrySet()) {
+            var properties = entry.getValue().getProperties() != null
+                    ? entry.getValue().getProperties() : Map.<String, Object>of();
+            indexes.put(entry.getKey(), index);
+            versions[index] = entry.getValue().getVersion();
+            startPhases[index] = AcmStageUtils.findStartPhase(properties);
+            prepareStages[index] = toSortedArray(AcmStageUtils.findStageSetPrepare(properties));
+            migrateStages[index] = toSortedArray(AcmStageUtils.findStageSetMigrate(properties));
+            index++;
+        }
+    }
+
+    /**
+     * Compile a composition definition.
+     *
+     * @param acDefinition the composition definition
+     * @return the compiled composition definition
+     */
+    public static CompiledAcDefinition compile(AutomationCompositionDefinition acDefinition) {
+        return new CompiledAcDefinition(acDefinition);
+    }
+
+    /**
+     * Check if this view was compiled from the same revision of a composition definition.
+     *
+     * @param acDefinition the composition definition
+     * @return true if the composition id and the revision id match
+     */
+    public boolean isRevisionOf(AutomationCompositionDefinition acDefinition) {
+        return compositionId != null && compositionId.equals(acDefinition.getCompositionId())
+                && revisionId != null && revisionId.equals(acDefinition.getRevisionId());
+    }
+
+    /**
+     * Get the StartPhase of an element definition, 0 if the node template is not present or has a different version.
+     *
+     * @param definition the element definition
+     * @return the StartPhase
+     */
+    public int getStartPhase(ToscaConceptIdentifier definition) {
+        var index = indexOf(definition.getName());
+        return index != NOT_FOUND && definition.getVersion().equals(versions[index]) ? startPhases[index] : 0;
+    }
+
+    /**
+     * Get the First StartPhase, see {@link AcmStageUtils#getFirstStartPhase}.
+     *
+     * @param automationComposition the automation composition
+     * @return the First StartPhase
+     */
+    public int getFirstStartPhase(AutomationComposition automationComposition) {
+        var minStartPhase = MAX_STAGE;
+        var maxStartPhase = 0;
+        for (var element : automationComposition.getElements().values()) {
+            var startPhase = getStartPhase(element.getDefinition());
+            minStartPhase = Math.min(minStartPhase, startPhase);
+            maxStartPhase = Math.max(maxStartPhase, startPhase);
+        }
+        return AcmStateUtils.isForward(automationComposition.getDeployState(), automationComposition.getLockState())
+                ? minStartPhase : maxStartPhase;
+    }
+
+    /**
+     * Get the First Stage from AutomationCompositionElement, see {@link AcmStageUtils#getFirstStage}.
+     *
+     * @param element the automation composition element
+     * @return the First stage
+     */
+    public int getFirstStage(AutomationCompositionElement element) {
+        var index = indexOf(element.getDefinition().getName());
+        if (index == NOT_FOUND) {
+            return 0;
+        }
+        var stages = AcmStateUtils.isMigrating(element.getDeployState())
+                ? migrateStages[index] : prepareStages[index];
+        return stages.length > 0 ? stages[0] : 0;
+    }
+
+    /**
+     * Get the First Stage from AutomationComposition.
+     *
+     * @param automationComposition the automation composition
+     * @return the First stage
+     */
+    public int getFirstStage(AutomationComposition automationComposition) {
+        var elements = automationComposition.getElements().values();
+        if (elements.isEmpty()) {
+            return 0;
+        }
+        var firstStage = Integer.MAX_VALUE;
+        for (var element : elements) {
+            firstStage = Math.min(firstStage, getFirstStage(element));
+        }
+        return firstStage;
+    }
+
+    /**
+     * Get the Last Stage from AutomationCompositionElement, see {@link AcmStageUtils#getLastStage}.
+     *
+     * @param element the automation composition element
+     * @param defaultValue default Value is not present
+     * @return the Last stage
+     */
+    public int getLastStage(AutomationCompositionElement element, int defaultValue) {
+        var index = indexOf(element.getDefinition().getName());
+        if (index == NOT_FOUND) {
+            return defaultValue;
+        }
+        var stages = migrateStages[index];
+        return stages.length > 0 ? stages[stages.length - 1] : defaultValue;
+    }
+
+    /**
+     * Get the Last Stage from AutomationComposition.
+     *
+     * @param automationComposition the automation composition
+     * @return the Last stage
+     */
+    public int getLastStage(AutomationComposition automationComposition) {
+        var elements = automationComposition.getElements().values();
+        if (elements.isEmpty()) {
+            return 0;
+        }
+        var lastStage = Integer.MIN_VALUE;
+        for (var element : elements) {
+            lastStage = Math.max(lastStage, getLastStage(element, 0));
+        }
+        return lastStage;
+    }
+
+    private int indexOf(String name) {
+        var index = indexes.get(name);
+        return index != null ? index : NOT_FOUND;
+    }
+
+    private static int[] toSortedArray(Collection<Integer> stageSet) {
+        if (stageSet.size() == 1 && stageSet.contains(0)) {
+            return NO_STAGE;
+        }
+        return stageSet.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+}
@@ -20,9 +20,13 @@
 
 package org.onap.policy.clamp.models.acm.utils.serialization;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
 import org.apache.commons.lang3.SerializationException;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.AutomationCompositionDeploy;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.AutomationCompositionDeployAck;
@@ -42,28 +46,76 @@ import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantSt
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantStatusReq;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantSync;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.PropertiesUpdate;
-import org.onap.policy.common.utils.coder.MapperFactory;
 
 public class ParticipantMessageDeserializer implements Deserializer<ParticipantKafkaMessage> {
 
-    private static final ObjectMapper MAPPER = MapperFactory.createJsonMapper();
+    private UUID participantId;
+    private UUID replicaId;
+
+    @Override
+    public void configure(final Map<String, ?> configs, final boolean isKey) {
+        // participant and replica of the consumer, when set the records addressed to others are discarded
+        var participant = configs.get(ParticipantMessageRouting.PARTICIPANT_ID_CONFIG);
+        var replica = configs.get(ParticipantMessageRouting.REPLICA_ID_CONFIG);
+        if (participant != null && replica != null) {
+            participantId = UUID.fromString(participant.toString());
+            replicaId = UUID.fromString(replica.toString());
+        }
+    }
+
+    @Override
+    public ParticipantKafkaMessage deserialize(final String topic, final Headers headers, final byte[] data) {
+        if (participantId != null && !ParticipantMessageRouting.appliesTo(headers, participantId, replicaId)) {
+            // not addressed to this participant, the record is dropped by the RecordFilterStrategy
+            return null;
+        }
+        return deserialize(ParticipantMessageFormat.fromHeaders(headers), data);
+    }
 
     @Override
     public ParticipantKafkaMessage deserialize(final String topic, final byte[] data) {
+        return deserialize(ParticipantMessageFormat.JSON, data);
+    }
+
+    private static ParticipantKafkaMessage deserialize(final ParticipantMessageFormat format, final byte[] data) {
         try {
-            // decode from JSON into a standard object
-            var jsonNode = MAPPER.readValue(new String(data), JsonNode.class);
-            // extract the message type
-            final var messageType = jsonNode.get("messageType").asText();
-            final var participantMessageType = ParticipantMessageType.valueOf(messageType);
+            var mapper = format.getMapper();
+            // extract the message type without building the JSON tree
+            final var participantMessageType = ParticipantMessageType.valueOf(readMessageType(mapper, data));
             final var targetClass = resolveClass(participantMessageType);
 
-            // deserialize into target class
-            return MAPPER.treeToValue(jsonNode, targetClass);
+            // deserialize into target class straight from the bytes
+            return mapper.readValue(data, targetClass);
 
         } catch (final Exception e) {
-            throw new SerializationException("Failed to deserialize JSON", e);
+            throw new SerializationException("Failed to deserialize " + format, e);
+        }
+    }
+
+    /**
+     * Read the messageType field with a streaming parser. The serializer writes messageType as the first field,
+     * otherwise the other top-level fields are skipped until it is found.
+     *
+     * @param mapper the mapper of the format
+     * @param data the encoded bytes
+     * @return the value of messageType
+     * @throws IOException if the data is invalid or messageType is missing
+     */
+    private static String readMessageType(final ObjectMapper mapper, final byte[] data) throws IOException {
+        try (var parser = mapper.createParser(data)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("JSON object expected");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var fieldName = parser.currentName();
+                parser.nextToken();
+                if ("messageType".equals(fieldName)) {
+                    return parser.getValueAsString();
+                }
+                parser.skipChildren();
+            }
         }
+        throw new IOException("messageType not found");
     }
 
     private static Class<? extends ParticipantKafkaMessage> resolveClass(
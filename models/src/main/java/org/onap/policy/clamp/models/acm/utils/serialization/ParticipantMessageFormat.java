@@ -0,0 +1,92 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.utils.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.nio.charset.StandardCharsets;
+import lombok.Getter;
+import org.apache.kafka.common.header.Headers;
+import org.onap.policy.common.utils.coder.MapperFactory;
+
+/**
+ * Wire formats of the participant messages.
+ * The format of a record is carried in the content type header, so consumers can decode records
+ * published in different formats on the same topic.
+ */
+@Getter
+public enum ParticipantMessageFormat {
+    JSON("application/json", MapperFactory.createJsonMapper()),
+    SMILE("application/x-jackson-smile", JSON.getMapper().copyWith(new SmileFactory()));
+
+    public static final String HEADER_CONTENT_TYPE = "acm_contentType";
+
+    // Serializer configuration, the format used by the producer
+    public static final String FORMAT_CONFIG = "acm.serialization.format";
+
+    private final String contentType;
+    private final ObjectMapper mapper;
+
+    ParticipantMessageFormat(String contentType, ObjectMapper mapper) {
+        this.contentType = contentType;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Get the format from the serializer configuration.
+     *
+     * @param value the configured value, JSON when not set
+     * @return the format
+     */
+    public static ParticipantMessageFormat fromConfig(final Object value) {
+        if (value == null || value.toString().isBlank()) {
+            return JSON;
+        }
+        return valueOf(value.toString().trim().toUpperCase());
+    }
+
+    /**
+     * Get the format of a record from its headers.
+     *
+     * @param headers the record headers
+     * @return the format, JSON for records published without content type
+     */
+    public static ParticipantMessageFormat fromHeaders(final Headers headers) {
+        var header = headers != null ? headers.lastHeader(HEADER_CONTENT_TYPE) : null;
+        if (header != null && header.value() != null
+                && SMILE.contentType.equals(new String(header.value(), StandardCharsets.UTF_8))) {
+            return SMILE;
+        }
+        return JSON;
+    }
+
+    /**
+     * Set the content type header of a record.
+     *
+     * @param headers the record headers
+     */
+    public void addHeader(final Headers headers) {
+        if (headers != null) {
+            headers.remove(HEADER_CONTENT_TYPE);
+            headers.add(HEADER_CONTENT_TYPE, contentType.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.utils.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.kafka.common.header.Headers;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantKafkaMessage;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantMessage;
+
+/**
+ * Routing of the participant messages using Kafka record headers.
+ * The target participant and replica are copied into the headers, so a consumer can discard the records
+ * that are not addressed to it without deserializing the payload.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParticipantMessageRouting {
+
+    public static final String HEADER_ROUTING = "acm_routing";
+    public static final String HEADER_PARTICIPANT_ID = "acm_participantId";
+    public static final String HEADER_REPLICA_ID = "acm_replicaId";
+    public static final String HEADER_PARTICIPANT_ID_LIST = "acm_participantIdList";
+
+    // Deserializer configuration used to discard the records addressed to other participants
+    public static final String PARTICIPANT_ID_CONFIG = "acm.routing.participant.id";
+    public static final String REPLICA_ID_CONFIG = "acm.routing.replica.id";
+
+    private static final String ROUTING_VERSION = "1";
+    private static final String LIST_SEPARATOR = ",";
+
+    /**
+     * Add the routing headers of the message.
+     *
+     * @param headers the record headers
+     * @param message the message
+     */
+    public static void addHeaders(final Headers headers, final ParticipantKafkaMessage message) {
+        if (headers == null || message == null) {
+            return;
+        }
+        setHeader(headers, HEADER_ROUTING, ROUTING_VERSION);
+        setHeader(headers, HEADER_PARTICIPANT_ID, message.getParticipantId());
+        setHeader(headers, HEADER_REPLICA_ID, message.getReplicaId());
+        if (message instanceof ParticipantMessage participantMessage
+                && participantMessage.getParticipantIdList() != null
+                && !participantMessage.getParticipantIdList().isEmpty()) {
+            setHeader(headers, HEADER_PARTICIPANT_ID_LIST, join(participantMessage.getParticipantIdList()));
+        } else {
+            headers.remove(HEADER_PARTICIPANT_ID_LIST);
+        }
+    }
+
+    /**
+     * Determines from the routing headers if a record applies to a participant replica.
+     * It follows the same rules as {@link ParticipantMessage#appliesTo(UUID, UUID)}.
+     * Records without routing headers are published by a runtime or a participant that does not support
+     * the header routing, so they always apply and are filtered after deserialization.
+     *
+     * @param headers the record headers
+     * @param refParticipantId id of the participant
+     * @param refReplicaId id of the replica
+     * @return {@code true} if the record applies to this participant replica, {@code false} otherwise
+     */
+    public static boolean appliesTo(final Headers headers, final UUID refParticipantId, final UUID refReplicaId) {
+        if (headers == null || headers.lastHeader(HEADER_ROUTING) == null) {
+            return true;
+        }
+        var participantIdList = getHeader(headers, HEADER_PARTICIPANT_ID_LIST);
+        if (participantIdList != null
+                && !Arrays.asList(participantIdList.split(LIST_SEPARATOR)).contains(refParticipantId.toString())) {
+            return false;
+        }
+        var participantId = getHeader(headers, HEADER_PARTICIPANT_ID);
+        var replicaId = getHeader(headers, HEADER_REPLICA_ID);
+        if (participantId == null || (refParticipantId.toString().equals(participantId) && replicaId == null)) {
+            return true;
+        }
+        return refReplicaId.toString().equals(replicaId);
+    }
+
+    /**
+     * Get the name of the operation topic dedicated to a participant.
+     *
+     * @param operationTopic the shared operation topic
+     * @param participantId the participant id
+     * @return the topic name
+     */
+    public static String getParticipantTopic(final String operationTopic, final UUID participantId) {
+        return operationTopic + "-" + participantId;
+    }
+
+    private static void setHeader(final Headers headers, final String key, final Object value) {
+        headers.remove(key);
+        if (value != null) {
+            headers.add(key, value.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String getHeader(final Headers headers, final String key) {
+        var header = headers.lastHeader(key);
+        return header != null && header.value() != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private static String join(final Collection<UUID> ids) {
+        return ids.stream().map(UUID::toString).collect(Collectors.joining(LIST_SEPARATOR));
+    }
+}
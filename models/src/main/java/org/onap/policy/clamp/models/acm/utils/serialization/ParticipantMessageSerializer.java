@@ -21,22 +21,42 @@
 package org.onap.policy.clamp.models.acm.utils.serialization;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
 import org.apache.commons.lang3.SerializationException;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Serializer;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantKafkaMessage;
-import org.onap.policy.common.utils.coder.MapperFactory;
 
 public class ParticipantMessageSerializer implements Serializer<ParticipantKafkaMessage> {
 
-    private static final ObjectMapper MAPPER = MapperFactory.createJsonMapper();
+    private ParticipantMessageFormat format = ParticipantMessageFormat.JSON;
+
+    @Override
+    public void configure(final Map<String, ?> configs, final boolean isKey) {
+        format = ParticipantMessageFormat.fromConfig(configs.get(ParticipantMessageFormat.FORMAT_CONFIG));
+    }
 
     @Override
     public byte[] serialize(final String topic, final ParticipantKafkaMessage object) {
+        // without headers the consumer cannot detect the format, so JSON is used
+        return serialize(ParticipantMessageFormat.JSON, object);
+    }
+
+    @Override
+    public byte[] serialize(final String topic, final Headers headers, final ParticipantKafkaMessage object) {
+        ParticipantMessageRouting.addHeaders(headers, object);
+        if (headers == null) {
+            return serialize(topic, object);
+        }
+        format.addHeader(headers);
+        return serialize(format, object);
+    }
+
+    private static byte[] serialize(final ParticipantMessageFormat format, final ParticipantKafkaMessage object) {
         try {
-            return MAPPER.writeValueAsString(object).getBytes();
+            return format.getMapper().writeValueAsBytes(object);
         } catch (final JsonProcessingException e) {
-            throw new SerializationException("Failed to serialize to JSON", e);
+            throw new SerializationException("Failed to serialize to " + format, e);
         }
     }
 
@@ -23,7 +23,9 @@ package org.onap.policy.clamp.models.acm.concepts;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.LinkedHashMap;
 import java.util.UUID;
@@ -41,6 +43,26 @@ class AutomationCompositionTest {
         assertEquals(0, ac0.compareTo(ac1));
     }
 
+    @Test
+    void testSnapshotOf() {
+        var element = new AutomationCompositionElement();
+        element.getProperties().put("key", "value");
+        var ac0 = new AutomationComposition();
+        ac0.setCompositionId(UUID.randomUUID());
+        ac0.setElements(new LinkedHashMap<>());
+        ac0.getElements().put(element.getId(), element);
+
+        var ac1 = AutomationComposition.snapshotOf(ac0);
+        assertEquals(ac0, ac1);
+        var snapshotElement = ac1.getElements().get(element.getId());
+        assertNotSame(element, snapshotElement);
+        assertSame(element.getProperties(), snapshotElement.getProperties());
+        assertSame(element.getOutProperties(), snapshotElement.getOutProperties());
+
+        snapshotElement.setDeployState(DeployState.DEPLOYING);
+        assertEquals(DeployState.UNDEPLOYED, element.getDeployState());
+    }
+
     @Test
     void testAutomationCompositionLombok() {
         var ac0 = new AutomationComposition();
@@ -0,0 +1,131 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.persistence.concepts;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.clamp.models.acm.document.concepts.DocMessage;
+import org.onap.policy.clamp.models.acm.document.concepts.DocToscaServiceTemplate;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantMessageType;
+import org.onap.policy.clamp.models.acm.utils.CommonTestData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of the JPA converters that store the documents as JSON columns: the element properties, the messages
+ * and the service templates, in both directions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private static final String TOSCA_TEMPLATE_YAML = "examples/acm/test-pm-subscription-handling.yaml";
+
+    private final StringToMapConverter mapConverter = new StringToMapConverter();
+    private final StringToDocMessageConverter docMessageConverter = new StringToDocMessageConverter();
+    private final StringToServiceTemplateConverter serviceTemplateConverter = new StringToServiceTemplateConverter();
+
+    private Map<String, Object> properties;
+    private String propertiesColumn;
+    private DocMessage docMessage;
+    private String docMessageColumn;
+    private DocToscaServiceTemplate serviceTemplate;
+    private String serviceTemplateColumn;
+
+    /**
+     * Set up the element properties, a status message and a service template, with their JSON columns.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        properties = Map.of(
+                "baseUrl", "http://address:30800",
+                "httpHeaders", Map.of("Content-Type", "application/json", "Authorization", "Basic YWNtVXNlcg=="),
+                "configurationEntities", List.of(Map.of(
+                        "configurationEntityId", Map.of("name", "entity", "version", "1.0.1"),
+                        "restSequence", List.of(Map.of("restRequestId", Map.of("name", "request"),
+                                "httpMethod", "POST", "path", "/v1/api", "expectedResponse", 200,
+                                "body", "{\"key\": \"value\"}")))));
+        propertiesColumn = mapConverter.convertToDatabaseColumn(properties);
+
+        docMessage = new DocMessage();
+        docMessage.setMessageType(ParticipantMessageType.PARTICIPANT_STATUS);
+        docMessage.setParticipantId(UUID.randomUUID());
+        docMessage.setInstanceId(UUID.randomUUID());
+        docMessage.setInstanceElementId(UUID.randomUUID());
+        docMessage.setOutProperties(Map.of("status", "ok", "lastUpdate", "2026-01-01T00:00:00Z"));
+        docMessageColumn = docMessageConverter.convertToDatabaseColumn(docMessage);
+
+        serviceTemplate = new DocToscaServiceTemplate(CommonTestData.getToscaServiceTemplate(TOSCA_TEMPLATE_YAML));
+        serviceTemplateColumn = serviceTemplateConverter.convertToDatabaseColumn(serviceTemplate);
+    }
+
+    @Benchmark
+    public String encodeProperties() {
+        return mapConverter.convertToDatabaseColumn(properties);
+    }
+
+    @Benchmark
+    public Map<String, Object> decodeProperties() {
+        return mapConverter.convertToEntityAttribute(propertiesColumn);
+    }
+
+    @Benchmark
+    public String encodeDocMessage() {
+        return docMessageConverter.convertToDatabaseColumn(docMessage);
+    }
+
+    @Benchmark
+    public DocMessage decodeDocMessage() {
+        return docMessageConverter.convertToEntityAttribute(docMessageColumn);
+    }
+
+    @Benchmark
+    public String encodeServiceTemplate() {
+        return serviceTemplateConverter.convertToDatabaseColumn(serviceTemplate);
+    }
+
+    @Benchmark
+    public DocToscaServiceTemplate decodeServiceTemplate() {
+        return serviceTemplateConverter.convertToEntityAttribute(serviceTemplateColumn);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ConverterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
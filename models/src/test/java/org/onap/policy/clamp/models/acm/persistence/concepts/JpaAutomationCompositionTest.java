@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -85,6 +86,25 @@ class JpaAutomationCompositionTest {
         assertEquals(jpaAutomationComposition, jpaAutomationComposition2);
     }
 
+    @Test
+    void testMergeFromAuthorativeClearsCompositionTarget() {
+        var automationComposition = createAutomationCompositionInstance();
+        automationComposition.setCompositionTargetId(UUID.randomUUID());
+        var jpaAutomationComposition = new JpaAutomationComposition(automationComposition);
+        assertEquals(automationComposition.getCompositionTargetId().toString(),
+                jpaAutomationComposition.getCompositionTargetId());
+
+        automationComposition.setCompositionTargetId(null);
+        jpaAutomationComposition.mergeFromAuthorative(automationComposition);
+        assertNull(jpaAutomationComposition.getCompositionTargetId());
+        assertEquals(automationComposition, jpaAutomationComposition.toAuthorative());
+
+        var jpaWithTarget = new JpaAutomationComposition(jpaAutomationComposition);
+        jpaWithTarget.setCompositionTargetId(UUID.randomUUID().toString());
+        jpaWithTarget.fromAuthorative(automationComposition);
+        assertNull(jpaWithTarget.getCompositionTargetId());
+    }
+
     @Test
     void testJpaAutomationCompositionValidation() {
         var testJpaAutomationComposition = new JpaAutomationComposition(createAutomationCompositionInstance());
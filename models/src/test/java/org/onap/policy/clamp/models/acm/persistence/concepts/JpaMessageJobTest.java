@@ -21,6 +21,7 @@
 package org.onap.policy.clamp.models.acm.persistence.concepts;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -44,4 +45,14 @@ class JpaMessageJobTest {
         jpaMessageJob.setJobStarted(null);
         assertFalse(BeanValidator.isValid(jpaMessageJob));
     }
+
+    @Test
+    void testJpaMessageJobIsNew() {
+        var jpaMessageJob = new JpaMessageJob();
+        assertEquals(jpaMessageJob.getJobId(), jpaMessageJob.getId());
+        assertTrue(jpaMessageJob.isNew());
+
+        jpaMessageJob.markPersisted();
+        assertFalse(jpaMessageJob.isNew());
+    }
 }
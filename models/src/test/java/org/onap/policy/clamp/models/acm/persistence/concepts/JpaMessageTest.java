@@ -60,6 +60,8 @@ class JpaMessageTest {
         docMessage.setMessageId(jpaMessage.getMessageId());
 
         assertEquals(docMessage, jpaMessage.toAuthorative());
+        assertEquals(docMessage.getInstanceId().toString(), jpaMessage.getInstanceId());
+        assertEquals(docMessage.getCompositionId().toString(), jpaMessage.getCompositionId());
 
         assertThatThrownBy(() -> jpaMessage.fromAuthorative(null))
                 .hasMessageMatching("docMessage is marked non-null but is null");
@@ -75,6 +77,19 @@ class JpaMessageTest {
 
         var jpaMessage2 = new JpaMessage(jpaMessage);
         assertEquals(jpaMessage, jpaMessage2);
+        assertEquals(jpaMessage.getInstanceId(), jpaMessage2.getInstanceId());
+        assertEquals(jpaMessage.getCompositionId(), jpaMessage2.getCompositionId());
+    }
+
+    @Test
+    void testJpaMessageIsNew() {
+        var jpaMessage = new JpaMessage();
+        assertEquals(jpaMessage.getMessageId(), jpaMessage.getId());
+        assertTrue(jpaMessage.isNew());
+
+        jpaMessage.markPersisted();
+        assertFalse(jpaMessage.isNew());
+        assertTrue(new JpaMessage(jpaMessage).isNew());
     }
 
     private DocMessage createDocMessage() {
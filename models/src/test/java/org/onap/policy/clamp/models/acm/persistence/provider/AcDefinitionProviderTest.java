@@ -42,6 +42,7 @@ import org.onap.policy.clamp.models.acm.concepts.NodeTemplateState;
 import org.onap.policy.clamp.models.acm.document.concepts.DocToscaServiceTemplate;
 import org.onap.policy.clamp.models.acm.persistence.concepts.JpaAutomationCompositionDefinition;
 import org.onap.policy.clamp.models.acm.persistence.repository.AutomationCompositionDefinitionRepository;
+import org.onap.policy.clamp.models.acm.persistence.repository.NodeTemplateStateRepository;
 import org.onap.policy.clamp.models.acm.utils.CommonTestData;
 import org.onap.policy.clamp.models.acm.utils.TimestampHelper;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
@@ -67,7 +68,8 @@ class AcDefinitionProviderTest {
     @Test
     void testBadRequest() {
         var acmDefinitionRepository = mock(AutomationCompositionDefinitionRepository.class);
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
 
         var compositionId = UUID.randomUUID();
         var serviceTemplate = new ToscaServiceTemplate();
@@ -115,7 +117,8 @@ class AcDefinitionProviderTest {
         when(acmDefinitionRepository.save(any(JpaAutomationCompositionDefinition.class)))
                 .thenReturn(new JpaAutomationCompositionDefinition(acmDefinition));
 
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
         var result = acDefinitionProvider
                 .createAutomationCompositionDefinition(inputServiceTemplate, ELEMENT_NAME, NODE_TYPE);
 
@@ -127,7 +130,8 @@ class AcDefinitionProviderTest {
     void testToscaWithInvalidElement() {
         var acmDefinitionRepository = mock(AutomationCompositionDefinitionRepository.class);
 
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
 
         assertThatThrownBy(() -> acDefinitionProvider
                 .createAutomationCompositionDefinition(inputServiceTemplate, INVALID_ELEMENT_NAME, NODE_TYPE))
@@ -138,7 +142,8 @@ class AcDefinitionProviderTest {
     void testToscaWithInvalidNodeType() {
         var acmDefinitionRepository = mock(AutomationCompositionDefinitionRepository.class);
 
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
 
         assertThatThrownBy(() -> acDefinitionProvider
                 .createAutomationCompositionDefinition(inputServiceTemplate, ELEMENT_NAME, INVALID_NODE_TYPE))
@@ -155,7 +160,8 @@ class AcDefinitionProviderTest {
         when(acmDefinitionRepository.save(any(JpaAutomationCompositionDefinition.class)))
             .thenReturn(new JpaAutomationCompositionDefinition(acmDefinition));
 
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
         inputServiceTemplate.setMetadata(new HashMap<>());
         var result = acDefinitionProvider
                 .createAutomationCompositionDefinition(inputServiceTemplate, ELEMENT_NAME, NODE_TYPE);
@@ -167,7 +173,8 @@ class AcDefinitionProviderTest {
     @Test
     void testUpdateServiceTemplate() {
         var acmDefinitionRepository = mock(AutomationCompositionDefinitionRepository.class);
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
         acDefinitionProvider.updateServiceTemplate(UUID.randomUUID(), inputServiceTemplate, ELEMENT_NAME, NODE_TYPE);
         verify(acmDefinitionRepository).save(any(JpaAutomationCompositionDefinition.class));
     }
@@ -175,7 +182,8 @@ class AcDefinitionProviderTest {
     @Test
     void testUpdateAcDefinition() {
         var acmDefinitionRepository = mock(AutomationCompositionDefinitionRepository.class);
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
         var acmDefinition = getAcDefinition(new DocToscaServiceTemplate(inputServiceTemplate));
         acDefinitionProvider.updateAcDefinition(acmDefinition, NODE_TYPE);
         verify(acmDefinitionRepository).save(any(JpaAutomationCompositionDefinition.class));
@@ -184,7 +192,8 @@ class AcDefinitionProviderTest {
     @Test
     void testUpdateAcDefinitionState() {
         var acmDefinitionRepository = mock(AutomationCompositionDefinitionRepository.class);
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
         var acmDefinition = getAcDefinition(new DocToscaServiceTemplate(inputServiceTemplate));
         acmDefinition.setState(AcTypeState.PRIMING);
         acDefinitionProvider.updateAcDefinitionState(acmDefinition);
@@ -197,18 +206,65 @@ class AcDefinitionProviderTest {
         jpa.fromAuthorative(getAcDefinition(new DocToscaServiceTemplate(inputServiceTemplate)));
         var acmDefinitionRepository = mock(AutomationCompositionDefinitionRepository.class);
         when(acmDefinitionRepository.findById(jpa.getCompositionId())).thenReturn(Optional.of(jpa));
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
-        var result = acDefinitionProvider.getAcDefinition(UUID.fromString(jpa.getCompositionId()));
-        assertThat(result).isNotNull();
+        when(acmDefinitionRepository.findStateByCompositionId(jpa.getCompositionId()))
+                .thenReturn(Optional.of(getStateView(jpa)));
+        var nodeTemplateStateRepository = mock(NodeTemplateStateRepository.class);
+        when(nodeTemplateStateRepository.findByCompositionId(jpa.getCompositionId()))
+                .thenReturn(List.copyOf(jpa.getElements()));
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository, nodeTemplateStateRepository);
+        var compositionId = UUID.fromString(jpa.getCompositionId());
+        var result = acDefinitionProvider.getAcDefinition(compositionId);
+        assertThat(result).isEqualTo(jpa.toAuthorative());
+        assertThat(acDefinitionProvider.getCacheMisses()).isEqualTo(1);
+
+        var cached = acDefinitionProvider.getAcDefinition(compositionId);
+        assertThat(cached).isEqualTo(result).isNotSameAs(result);
+        assertThat(cached.getServiceTemplate()).isNotSameAs(result.getServiceTemplate());
+        assertThat(acDefinitionProvider.getCacheHits()).isEqualTo(1);
+        verify(acmDefinitionRepository).findById(jpa.getCompositionId());
+
+        // updated by another replica
+        jpa.setRevisionId(UUID.randomUUID().toString());
+        when(acmDefinitionRepository.findStateByCompositionId(jpa.getCompositionId()))
+                .thenReturn(Optional.of(getStateView(jpa)));
+        result = acDefinitionProvider.getAcDefinition(compositionId);
+        assertThat(result.getRevisionId()).hasToString(jpa.getRevisionId());
+        assertThat(acDefinitionProvider.getCacheMisses()).isEqualTo(2);
+
+        acDefinitionProvider.updateAcDefinitionState(result);
+        acDefinitionProvider.getAcDefinition(compositionId);
+        assertThat(acDefinitionProvider.getCacheHits()).isEqualTo(2);
+
+        acDefinitionProvider.updateAcDefinition(result, NODE_TYPE);
+        acDefinitionProvider.getAcDefinition(compositionId);
+        assertThat(acDefinitionProvider.getCacheMisses()).isEqualTo(3);
+    }
+
+    private AutomationCompositionDefinitionRepository.StateView getStateView(JpaAutomationCompositionDefinition jpa) {
+        var stateView = mock(AutomationCompositionDefinitionRepository.StateView.class);
+        when(stateView.getCompositionId()).thenReturn(jpa.getCompositionId());
+        when(stateView.getState()).thenReturn(jpa.getState());
+        when(stateView.getStateChangeResult()).thenReturn(jpa.getStateChangeResult());
+        when(stateView.getLastMsg()).thenReturn(jpa.getLastMsg());
+        when(stateView.getRevisionId()).thenReturn(jpa.getRevisionId());
+        return stateView;
     }
 
     @Test
     void testGetAcDefinitionNotFound() {
         var acmDefinitionRepository = mock(AutomationCompositionDefinitionRepository.class);
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
         var compositionId = UUID.randomUUID();
         assertThatThrownBy(() -> acDefinitionProvider.getAcDefinition(compositionId))
                 .hasMessage("Get serviceTemplate \"" + compositionId + "\" failed, serviceTemplate does not exist");
+
+        var stateView = mock(AutomationCompositionDefinitionRepository.StateView.class);
+        when(stateView.getRevisionId()).thenReturn(UUID.randomUUID().toString());
+        when(acmDefinitionRepository.findStateByCompositionId(compositionId.toString()))
+                .thenReturn(Optional.of(stateView));
+        assertThatThrownBy(() -> acDefinitionProvider.getAcDefinition(compositionId))
+                .hasMessage("Get serviceTemplate \"" + compositionId + "\" failed, serviceTemplate does not exist");
     }
 
     @Test
@@ -217,7 +273,8 @@ class AcDefinitionProviderTest {
         jpa.fromAuthorative(getAcDefinition(new DocToscaServiceTemplate(inputServiceTemplate)));
         var acmDefinitionRepository = mock(AutomationCompositionDefinitionRepository.class);
         when(acmDefinitionRepository.findById(jpa.getCompositionId())).thenReturn(Optional.of(jpa));
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
         var compositionId = UUID.fromString(jpa.getCompositionId());
         var result = acDefinitionProvider.findAcDefinition(compositionId);
         assertThat(result).isNotEmpty();
@@ -232,7 +289,8 @@ class AcDefinitionProviderTest {
         var acmDefinitionRepository = mock(AutomationCompositionDefinitionRepository.class);
         when(acmDefinitionRepository.findByStateIn(List.of(AcTypeState.PRIMING, AcTypeState.DEPRIMING)))
             .thenReturn(List.of(jpa));
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
         var result = acDefinitionProvider.getAllAcDefinitionsInTransition();
         assertThat(result).isNotEmpty();
     }
@@ -246,7 +304,8 @@ class AcDefinitionProviderTest {
         when(acmDefinitionRepository.findById(acmDefinition.getCompositionId().toString()))
                 .thenReturn(Optional.of(new JpaAutomationCompositionDefinition(acmDefinition)));
 
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
         var result = acDefinitionProvider.deleteAcDefinition(acmDefinition.getCompositionId());
         assertThat(result).isEqualTo(docServiceTemplate.toAuthorative());
     }
@@ -255,7 +314,8 @@ class AcDefinitionProviderTest {
     void testDeleteServiceTemplateEmpty() {
         var compositionId = UUID.randomUUID();
         var acmDefinitionRepository = mock(AutomationCompositionDefinitionRepository.class);
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
         assertThatThrownBy(() -> acDefinitionProvider.deleteAcDefinition(compositionId))
                 .hasMessage("delete of Automation Composition Definition \"" + compositionId
                         + "\" failed, Automation Composition Definition does not exist");
@@ -270,7 +330,8 @@ class AcDefinitionProviderTest {
                 .findAll(Mockito.<Specification<JpaAutomationCompositionDefinition>>any(), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(new JpaAutomationCompositionDefinition(acmDefinition))));
 
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
         var result = acDefinitionProvider.getServiceTemplateList(null, inputServiceTemplate.getName(),
                 inputServiceTemplate.getVersion(), Pageable.unpaged());
 
@@ -287,7 +348,8 @@ class AcDefinitionProviderTest {
                 .findAll(Mockito.<Specification<JpaAutomationCompositionDefinition>>any(), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(new JpaAutomationCompositionDefinition(acmDefinition))));
 
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
         var result = acDefinitionProvider.getServiceTemplateList(null, null,
             inputServiceTemplate.getVersion(), Pageable.unpaged());
 
@@ -332,7 +394,8 @@ class AcDefinitionProviderTest {
         when(acmDefinitionRepository
             .findAll(Mockito.<Specification<JpaAutomationCompositionDefinition>>any(), Mockito.any(Pageable.class)))
             .thenReturn(new PageImpl<>(List.of(new JpaAutomationCompositionDefinition(acmDefinition))));
-        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository);
+        var acDefinitionProvider = new AcDefinitionProvider(acmDefinitionRepository,
+                mock(NodeTemplateStateRepository.class));
         var pagable = Pageable.ofSize(5);
         var result = acDefinitionProvider.getServiceTemplateList(null, null,
             inputServiceTemplate.getVersion(), pagable);
@@ -31,11 +31,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +47,7 @@ import org.onap.policy.clamp.models.acm.concepts.AutomationCompositions;
 import org.onap.policy.clamp.models.acm.concepts.DeployState;
 import org.onap.policy.clamp.models.acm.concepts.LockState;
 import org.onap.policy.clamp.models.acm.concepts.StateChangeResult;
+import org.onap.policy.clamp.models.acm.concepts.SubState;
 import org.onap.policy.clamp.models.acm.persistence.concepts.JpaAutomationComposition;
 import org.onap.policy.clamp.models.acm.persistence.concepts.JpaAutomationCompositionElement;
 import org.onap.policy.clamp.models.acm.persistence.concepts.JpaAutomationCompositionRollback;
@@ -117,6 +120,33 @@ class AutomationCompositionProviderTest {
         assertEquals(inputAutomationCompositions.getAutomationCompositionList().get(0), createdAutomationComposition);
     }
 
+    @Test
+    void testAutomationCompositionUpdateLoaded() {
+        var jpaAutomationComposition = new JpaAutomationComposition(inputAutomationCompositionsJpa.get(0));
+        var jpaElements = new ArrayList<>(jpaAutomationComposition.getElements());
+        var automationCompositionRepository = mock(AutomationCompositionRepository.class);
+        when(automationCompositionRepository.findById(jpaAutomationComposition.getInstanceId()))
+            .thenReturn(Optional.of(jpaAutomationComposition));
+        var automationCompositionProvider = new AutomationCompositionProvider(
+                automationCompositionRepository, mock(AutomationCompositionElementRepository.class),
+                mock(AutomationCompositionRollbackRepository.class));
+
+        var automationComposition = inputAutomationCompositions.getAutomationCompositionList().get(0);
+        automationComposition.setPhase(1);
+        var iterator = automationComposition.getElements().values().iterator();
+        iterator.next().setDeployState(DeployState.DEPLOYING);
+        var removedElement = iterator.next();
+        iterator.remove();
+
+        var result = automationCompositionProvider.updateAutomationComposition(automationComposition);
+        assertEquals(automationComposition, result);
+        verify(automationCompositionRepository, never()).save(any());
+        verify(automationCompositionRepository).flush();
+        assertThat(jpaAutomationComposition.getElements()).hasSize(jpaElements.size() - 1)
+            .allMatch(element -> jpaElements.stream().anyMatch(jpaElement -> jpaElement == element))
+            .noneMatch(element -> element.getElementId().equals(removedElement.getId().toString()));
+    }
+
     @Test
     void testGetAutomationCompositionsWithNull() {
         var automationCompositionProvider = new AutomationCompositionProvider(
@@ -191,6 +221,46 @@ class AutomationCompositionProviderTest {
         assertEquals(automationComposition, acOpt.get());
     }
 
+    @Test
+    void testFindAutomationCompositionState() {
+        var automationComposition = inputAutomationCompositions.getAutomationCompositionList().get(0);
+        var instanceId = automationComposition.getInstanceId().toString();
+        var automationCompositionRepository = mock(AutomationCompositionRepository.class);
+        var acElementRepository = mock(AutomationCompositionElementRepository.class);
+        var automationCompositionProvider = new AutomationCompositionProvider(
+                automationCompositionRepository, acElementRepository,
+                mock(AutomationCompositionRollbackRepository.class));
+        var acStateOpt =
+                automationCompositionProvider.findAutomationCompositionState(automationComposition.getInstanceId());
+        assertThat(acStateOpt).isEmpty();
+
+        var stateView = mock(AutomationCompositionRepository.StateView.class);
+        when(stateView.getCompositionId()).thenReturn(automationComposition.getCompositionId().toString());
+        when(stateView.getDeployState()).thenReturn(DeployState.DEPLOYING);
+        when(stateView.getLockState()).thenReturn(LockState.NONE);
+        when(stateView.getRevisionId()).thenReturn(automationComposition.getRevisionId().toString());
+        when(automationCompositionRepository.findStateByInstanceId(instanceId)).thenReturn(Optional.of(stateView));
+        var element = automationComposition.getElements().values().iterator().next();
+        var elementView = mock(AutomationCompositionElementRepository.StateView.class);
+        when(elementView.getElementId()).thenReturn(element.getId().toString());
+        when(elementView.getParticipantId()).thenReturn(element.getParticipantId().toString());
+        when(elementView.getDeployState()).thenReturn(DeployState.DEPLOYED);
+        when(acElementRepository.findStateByInstanceId(instanceId)).thenReturn(List.of(elementView));
+
+        acStateOpt =
+                automationCompositionProvider.findAutomationCompositionState(automationComposition.getInstanceId());
+        assertThat(acStateOpt).isPresent();
+        var acState = acStateOpt.get();
+        assertEquals(automationComposition.getInstanceId(), acState.getInstanceId());
+        assertEquals(automationComposition.getCompositionId(), acState.getCompositionId());
+        assertEquals(DeployState.DEPLOYING, acState.getDeployState());
+        assertThat(acState.getElements()).hasSize(1);
+        var elementState = acState.getElements().get(element.getId());
+        assertEquals(element.getParticipantId(), elementState.getParticipantId());
+        assertEquals(DeployState.DEPLOYED, elementState.getDeployState());
+        verify(automationCompositionRepository, never()).findById(any());
+    }
+
     @Test
     void testGetAcInstancesByCompositionId() {
         var automationComposition = inputAutomationCompositions.getAutomationCompositionList().get(0);
@@ -219,6 +289,39 @@ class AutomationCompositionProviderTest {
         assertEquals(inputAutomationCompositions.getAutomationCompositionList().get(0), acList.get(0));
     }
 
+    @Test
+    void testCountAcInstancesByState() {
+        var stateCount = mock(AutomationCompositionRepository.StateCount.class);
+        when(stateCount.getDeployState()).thenReturn(DeployState.DEPLOYED);
+        when(stateCount.getLockState()).thenReturn(LockState.LOCKED);
+        when(stateCount.getSubState()).thenReturn(SubState.NONE);
+        when(stateCount.getCount()).thenReturn(2L);
+        var automationCompositionRepository = mock(AutomationCompositionRepository.class);
+        when(automationCompositionRepository.countByState()).thenReturn(List.of(stateCount));
+        var automationCompositionProvider = new AutomationCompositionProvider(
+                automationCompositionRepository, mock(AutomationCompositionElementRepository.class),
+                mock(AutomationCompositionRollbackRepository.class));
+        assertThat(automationCompositionProvider.countAcInstancesByState()).containsExactly(stateCount);
+    }
+
+    @Test
+    void testGetAcInstanceRevisionsByCompositionId() {
+        var instanceId = UUID.randomUUID();
+        var revisionId = UUID.randomUUID();
+        var revisionView = mock(AutomationCompositionRepository.RevisionView.class);
+        when(revisionView.getInstanceId()).thenReturn(instanceId.toString());
+        when(revisionView.getRevisionId()).thenReturn(revisionId.toString());
+        var compositionId = UUID.randomUUID();
+        var automationCompositionRepository = mock(AutomationCompositionRepository.class);
+        when(automationCompositionRepository.findRevisionByCompositionId(compositionId.toString()))
+                .thenReturn(List.of(revisionView));
+        var automationCompositionProvider = new AutomationCompositionProvider(
+                automationCompositionRepository, mock(AutomationCompositionElementRepository.class),
+                mock(AutomationCompositionRollbackRepository.class));
+        assertThat(automationCompositionProvider.getAcInstanceRevisionsByCompositionId(compositionId))
+                .containsExactlyEntriesOf(Map.of(instanceId, revisionId));
+    }
+
     @Test
     void testGetAcInstancesInTransition() {
         inputAutomationCompositions.getAutomationCompositionList().get(0).setDeployState(DeployState.DEPLOYING);
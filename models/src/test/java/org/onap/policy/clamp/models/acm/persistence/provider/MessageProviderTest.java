@@ -32,11 +32,13 @@ import static org.mockito.Mockito.when;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.onap.policy.clamp.models.acm.concepts.AcElementDeployAck;
 import org.onap.policy.clamp.models.acm.concepts.AcTypeState;
 import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionElementInfo;
@@ -71,12 +73,21 @@ class MessageProviderTest {
         var messageRepository = mock(MessageRepository.class);
         var messageProvider = new MessageProvider(messageRepository, mock(MessageJobRepository.class));
         messageProvider.save(message);
-        verify(messageRepository).save(any(JpaMessage.class));
+        assertThat(getSavedMessages(messageRepository)).hasSize(1);
         clearInvocations(messageRepository);
 
         message.setOutPropertiesList(List.of(new PrimeElementAck(new ToscaConceptIdentifier(), Map.of())));
         messageProvider.save(message);
-        verify(messageRepository, times(2)).save(any(JpaMessage.class));
+        assertThat(getSavedMessages(messageRepository)).hasSize(2);
+        clearInvocations(messageRepository);
+
+        var elementDefinitionId = new ToscaConceptIdentifier("name", "1.0.0");
+        message.setOutPropertiesList(List.of(new PrimeElementAck(elementDefinitionId, Map.of("key", "old")),
+                new PrimeElementAck(elementDefinitionId, Map.of("key", "new"))));
+        messageProvider.save(message);
+        var saved = getSavedMessages(messageRepository);
+        assertThat(saved).hasSize(2);
+        assertEquals(Map.of("key", "new"), saved.getFirst().getDocMessage().getOutProperties());
     }
 
     @Test
@@ -93,12 +104,12 @@ class MessageProviderTest {
         var messageRepository = mock(MessageRepository.class);
         var messageProvider = new MessageProvider(messageRepository, mock(MessageJobRepository.class));
         messageProvider.save(message);
-        verify(messageRepository).save(any(JpaMessage.class));
+        assertThat(getSavedMessages(messageRepository)).hasSize(1);
         clearInvocations(messageRepository);
 
         message.setOutPropertiesUpdated(true);
         messageProvider.save(message);
-        verify(messageRepository, times(2)).save(any(JpaMessage.class));
+        assertThat(getSavedMessages(messageRepository)).hasSize(2);
     }
 
     @Test
@@ -128,12 +139,13 @@ class MessageProviderTest {
         var messageProvider = new MessageProvider(messageRepository, mock(MessageJobRepository.class));
 
         messageProvider.saveCompositionOutProperties(message, Map.of());
-        verify(messageRepository, times(0)).save(any());
+        assertThat(getSavedMessages(messageRepository)).isEmpty();
+        clearInvocations(messageRepository);
 
         messageProvider.saveCompositionOutProperties(message,
                 Map.of(nodeTemplateState1.getNodeTemplateId(), nodeTemplateState1,
                         nodeTemplateState2.getNodeTemplateId(), nodeTemplateState2));
-        verify(messageRepository).save(any());
+        assertThat(getSavedMessages(messageRepository)).hasSize(1);
     }
 
     @Test
@@ -152,7 +164,71 @@ class MessageProviderTest {
         var messageRepository = mock(MessageRepository.class);
         var messageProvider = new MessageProvider(messageRepository, mock(MessageJobRepository.class));
         messageProvider.saveInstanceOutProperties(message);
-        verify(messageRepository).save(any());
+        assertThat(getSavedMessages(messageRepository)).hasSize(1);
+        clearInvocations(messageRepository);
+
+        var newElement = new AutomationCompositionElementInfo();
+        newElement.setAutomationCompositionElementId(element.getAutomationCompositionElementId());
+        newElement.setOutProperties(Map.of("instanceProperty", "newValue"));
+        var otherElement = new AutomationCompositionElementInfo();
+        otherElement.setAutomationCompositionElementId(UUID.randomUUID());
+        automationCompositionInfo.setElements(List.of(element, otherElement, newElement));
+        messageProvider.saveInstanceOutProperties(message);
+        var saved = getSavedMessages(messageRepository);
+        assertThat(saved).hasSize(2);
+        assertEquals(Map.of("instanceProperty", "newValue"), saved.getFirst().getDocMessage().getOutProperties());
+        assertThat(saved).allMatch(JpaMessage::isNew);
+    }
+
+    @Test
+    void testSaveParticipantStatusReplacesOldStatus() {
+        var message = new ParticipantStatus();
+        message.setCompositionId(UUID.randomUUID());
+        message.setParticipantId(UUID.randomUUID());
+        message.setReplicaId(UUID.randomUUID());
+        var automationCompositionInfo = new AutomationCompositionInfo();
+        automationCompositionInfo.setAutomationCompositionId(UUID.randomUUID());
+        var element = new AutomationCompositionElementInfo();
+        element.setAutomationCompositionElementId(UUID.randomUUID());
+        element.setOutProperties(Map.of("instanceProperty", "newValue"));
+        automationCompositionInfo.setElements(List.of(element));
+        message.setAutomationCompositionInfoList(List.of(automationCompositionInfo));
+
+        var doc = new DocMessage();
+        doc.setMessageType(ParticipantMessageType.PARTICIPANT_STATUS);
+        doc.setInstanceId(automationCompositionInfo.getAutomationCompositionId());
+        doc.setInstanceElementId(element.getAutomationCompositionElementId());
+        var oldStatus = new JpaMessage(doc.getInstanceId().toString(), doc);
+        oldStatus.setLastMsg(Timestamp.from(message.getTimestamp().minusSeconds(10)));
+        assertEquals(element.getAutomationCompositionElementId().toString(), oldStatus.getStatusElementId());
+
+        var messageRepository = mock(MessageRepository.class);
+        var instanceId = automationCompositionInfo.getAutomationCompositionId().toString();
+        var elementIds = List.of(element.getAutomationCompositionElementId().toString());
+        when(messageRepository.findByInstanceIdAndStatusElementIdIn(instanceId, elementIds))
+                .thenReturn(List.of(oldStatus));
+        var messageProvider = new MessageProvider(messageRepository, mock(MessageJobRepository.class));
+        messageProvider.saveInstanceOutProperties(message);
+        verify(messageRepository).deleteAll(List.of(oldStatus));
+        var saved = getSavedMessages(messageRepository);
+        assertThat(saved).hasSize(1);
+        assertEquals(Map.of("instanceProperty", "newValue"), saved.getFirst().getDocMessage().getOutProperties());
+        clearInvocations(messageRepository);
+
+        // a status older than the stored one is not saved
+        oldStatus.setLastMsg(Timestamp.from(message.getTimestamp().plusSeconds(10)));
+        messageProvider.saveInstanceOutProperties(message);
+        verify(messageRepository, times(0)).deleteAll(any());
+        assertThat(getSavedMessages(messageRepository)).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<JpaMessage> getSavedMessages(MessageRepository messageRepository) {
+        ArgumentCaptor<Iterable<JpaMessage>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(messageRepository).saveAll(captor.capture());
+        var result = new ArrayList<JpaMessage>();
+        captor.getValue().forEach(result::add);
+        return result;
     }
 
     @Test
@@ -188,7 +264,7 @@ class MessageProviderTest {
         var jpa1 = createJpaCompositionMessage();
         var jpa2 = createJpaInstanceMessage();
         var messageRepository = mock(MessageRepository.class);
-        when(messageRepository.findAll()).thenReturn(List.of(jpa1, jpa2));
+        when(messageRepository.findDistinctCompositionIds()).thenReturn(List.of(jpa1.getCompositionId()));
         var messageProvider = new MessageProvider(messageRepository, mock(MessageJobRepository.class));
         var result = messageProvider.findCompositionMessages();
         assertThat(result).hasSize(1);
@@ -214,7 +290,7 @@ class MessageProviderTest {
         var jpa1 = createJpaCompositionMessage();
         var jpa2 = createJpaInstanceMessage();
         var messageRepository = mock(MessageRepository.class);
-        when(messageRepository.findAll()).thenReturn(List.of(jpa1, jpa2));
+        when(messageRepository.findDistinctInstanceIds()).thenReturn(List.of(jpa2.getInstanceId()));
         var messageProvider = new MessageProvider(messageRepository, mock(MessageJobRepository.class));
         var result = messageProvider.findInstanceMessages();
         assertThat(result).hasSize(1);
@@ -222,6 +298,18 @@ class MessageProviderTest {
         assertEquals(jpa2.getDocMessage().getInstanceId(), instanceId);
     }
 
+    @Test
+    void testCountMessages() {
+        var instanceId = UUID.randomUUID();
+        var messageCount = mock(MessageRepository.MessageCount.class);
+        when(messageCount.getIdentificationId()).thenReturn(instanceId.toString());
+        when(messageCount.getCount()).thenReturn(3L);
+        var messageRepository = mock(MessageRepository.class);
+        when(messageRepository.countByIdentificationId()).thenReturn(List.of(messageCount));
+        var messageProvider = new MessageProvider(messageRepository, mock(MessageJobRepository.class));
+        assertThat(messageProvider.countMessages()).containsExactly(Map.entry(instanceId, 3L));
+    }
+
     @Test
     void testRemoveMessage() {
         var messageRepository = mock(MessageRepository.class);
@@ -234,15 +322,13 @@ class MessageProviderTest {
     @Test
     void testRemoveOldJobs() {
         var messageJobRepository = mock(MessageJobRepository.class);
-        var jpaJob1 = new JpaMessageJob(UUID.randomUUID().toString());
-        var jpaJob2 = new JpaMessageJob(UUID.randomUUID().toString());
-        var old = Timestamp.from(Instant.now().minusSeconds(220));
-        jpaJob2.setJobStarted(old);
-        when(messageJobRepository.findAll()).thenReturn(List.of(jpaJob1, jpaJob2));
         var messageProvider = new MessageProvider(mock(MessageRepository.class), messageJobRepository);
+        var before = Instant.now().minusSeconds(MessageProvider.JOB_LEASE_SECONDS);
         messageProvider.removeOldJobs();
-        verify(messageJobRepository, times(0)).deleteById(jpaJob1.getJobId());
-        verify(messageJobRepository).deleteById(jpaJob2.getJobId());
+        ArgumentCaptor<Timestamp> captor = ArgumentCaptor.forClass(Timestamp.class);
+        verify(messageJobRepository).deleteExpired(captor.capture());
+        assertThat(captor.getValue().toInstant()).isAfterOrEqualTo(before);
+        verify(messageJobRepository, times(0)).findAll();
     }
 
     @Test
@@ -261,6 +347,35 @@ class MessageProviderTest {
         assertThat(opt).isEmpty();
     }
 
+    @Test
+    void testCreateJobs() {
+        var messageJobRepository = mock(MessageJobRepository.class);
+        var claimedId = UUID.randomUUID();
+        var newId = UUID.randomUUID();
+        var jobId = UUID.randomUUID().toString();
+        when(messageJobRepository.claimJobs(List.of(claimedId.toString(), newId.toString())))
+                .thenReturn(Map.of(newId.toString(), jobId));
+        var messageProvider = new MessageProvider(mock(MessageRepository.class), messageJobRepository);
+        var result = messageProvider.createJobs(List.of(claimedId, newId));
+        assertThat(result).containsOnlyKeys(newId);
+        assertEquals(jobId, result.get(newId));
+
+        when(messageJobRepository.claimJobs(List.of(claimedId.toString()))).thenReturn(Map.of());
+        assertThat(messageProvider.createJobs(List.of(claimedId))).isEmpty();
+    }
+
+    @Test
+    void testRemoveJobs() {
+        var messageJobRepository = mock(MessageJobRepository.class);
+        var messageProvider = new MessageProvider(mock(MessageRepository.class), messageJobRepository);
+        messageProvider.removeJobs(List.of());
+        verify(messageJobRepository, times(0)).deleteAllByIdInBatch(any());
+
+        var jobIds = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        messageProvider.removeJobs(jobIds);
+        verify(messageJobRepository).deleteAllByIdInBatch(jobIds);
+    }
+
     @Test
     void testRemoveJob() {
         var messageJobRepository = mock(MessageJobRepository.class);
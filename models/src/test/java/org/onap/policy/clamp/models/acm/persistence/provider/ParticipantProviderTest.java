@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -243,6 +244,51 @@ class ParticipantProviderTest {
         assertThat(result).hasSize(2);
     }
 
+    @Test
+    void testGetSupportedElementMapCached() {
+        var participantRepository = mock(ParticipantRepository.class);
+        jpaParticipantList.get(0).setVersionStamp(1L);
+        when(participantRepository.findAll()).thenReturn(jpaParticipantList);
+        var view = mock(ParticipantRepository.VersionStampView.class);
+        when(view.getCount()).thenReturn((long) jpaParticipantList.size());
+        when(view.getVersionStamp()).thenReturn(1L);
+        when(participantRepository.findVersionStamp()).thenReturn(view);
+        var participantProvider = new ParticipantProvider(participantRepository,
+            mock(AutomationCompositionElementRepository.class), mock(NodeTemplateStateRepository.class),
+            mock(ParticipantReplicaRepository.class));
+
+        var result = participantProvider.getSupportedElementMap();
+        assertThat(result).hasSize(2);
+        assertThat(participantProvider.getSupportedElementMap()).isSameAs(result);
+        verify(participantRepository).findAll();
+
+        // updated by another runtime replica
+        jpaParticipantList.get(0).setVersionStamp(2L);
+        when(view.getVersionStamp()).thenReturn(2L);
+        assertThat(participantProvider.getSupportedElementMap()).isNotSameAs(result).isEqualTo(result);
+        verify(participantRepository, times(2)).findAll();
+        result = participantProvider.getSupportedElementMap();
+        verify(participantRepository, times(2)).findAll();
+
+        // a new replica of the participant does not change the supported elements
+        var participant = inputParticipants.get(0);
+        var participantId = participant.getParticipantId().toString();
+        when(participantRepository.findById(participantId))
+            .thenReturn(Optional.of(new JpaParticipant(participant)));
+        when(participantRepository.save(any())).thenReturn(jpaParticipantList.get(0));
+        participantProvider.saveParticipant(participant);
+        verify(participantRepository, never()).incrementVersionStamp(any());
+        assertThat(participantProvider.getSupportedElementMap()).isSameAs(result);
+
+        // updated by this runtime replica
+        var changed = new Participant(participant);
+        changed.getParticipantSupportedElementTypes().values().iterator().next().setTypeVersion("9.9.9");
+        participantProvider.saveParticipant(changed);
+        verify(participantRepository).incrementVersionStamp(participantId);
+        participantProvider.getSupportedElementMap();
+        verify(participantRepository, times(3)).findAll();
+    }
+
     @Test
     void testGetCompositionIds() {
         var nodeTemplateStateRepository = mock(NodeTemplateStateRepository.class);
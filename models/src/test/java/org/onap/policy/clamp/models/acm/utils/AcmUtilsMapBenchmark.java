@@ -0,0 +1,127 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.clamp.models.acm.persistence.concepts.StringToMapConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of the copy and the comparison of element properties.
+ * The jsonCloneMap and jsonEqualMap benchmarks reproduce the previous implementation, which serialized the Maps
+ * to JSON, and are the reference to compare with.
+ * The recursiveMerge benchmark merges an update of every configuration entity into a clone of the properties, so
+ * the cost of the merge is the difference with cloneMap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class AcmUtilsMapBenchmark {
+
+    private static final StringToMapConverter MAP_CONVERTER = new StringToMapConverter();
+
+    @Param({"10", "500"})
+    private int entities;
+
+    private Map<String, Object> properties;
+    private Map<String, Object> copy;
+    private Map<String, Object> update;
+
+    /**
+     * Set up element properties with the configured number of configuration entities.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Object> configurationEntities = new ArrayList<>(entities);
+        for (var i = 0; i < entities; i++) {
+            configurationEntities.add(Map.of(
+                    "configurationEntityId", Map.of("name", "entity" + i, "version", "1.0.1"),
+                    "restSequence", List.of(Map.of("restRequestId", Map.of("name", "request" + i, "version", "1.0.1"),
+                            "httpMethod", "POST", "path", "/v1/api/" + i, "expectedResponse", 200,
+                            "body", "{\"key\": \"value" + i + "\"}")),
+                    "timeout", 1000L + i,
+                    "ratio", i / 10.0));
+        }
+        properties = new LinkedHashMap<>();
+        properties.put("baseUrl", "http://address:30800");
+        properties.put("httpHeaders", Map.of("Content-Type", "application/json", "Authorization", "Basic YWNt"));
+        properties.put("configurationEntities", configurationEntities);
+        copy = AcmUtils.cloneMap(properties);
+
+        List<Object> updatedEntities = new ArrayList<>(entities);
+        for (var i = 0; i < entities; i++) {
+            updatedEntities.add(Map.of("timeout", 2000L + i));
+        }
+        update = Map.of("baseUrl", "http://address:30801", "configurationEntities", updatedEntities);
+    }
+
+    @Benchmark
+    public Map<String, Object> cloneMap() {
+        return AcmUtils.cloneMap(properties);
+    }
+
+    @Benchmark
+    public boolean equalMap() {
+        return AcmUtils.equalMap(properties, copy);
+    }
+
+    @Benchmark
+    public Map<String, Object> recursiveMerge() {
+        var merged = AcmUtils.cloneMap(properties);
+        AcmUtils.recursiveMerge(merged, update);
+        return merged;
+    }
+
+    @Benchmark
+    public Map<String, Object> jsonCloneMap() {
+        return MAP_CONVERTER.convertToEntityAttribute(MAP_CONVERTER.convertToDatabaseColumn(properties));
+    }
+
+    @Benchmark
+    public boolean jsonEqualMap() {
+        return MAP_CONVERTER.convertToDatabaseColumn(properties).equals(MAP_CONVERTER.convertToDatabaseColumn(copy));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AcmUtilsMapBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,193 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.clamp.models.acm.concepts.DeployState;
+import org.onap.policy.clamp.models.acm.persistence.concepts.StringToMapConverter;
+
+/**
+ * Checks that cloneMap and equalMap give the same results as the JSON round trip on random property trees.
+ */
+class AcmUtilsMapTest {
+
+    private static final StringToMapConverter MAP_CONVERTER = new StringToMapConverter();
+    private static final int TRIES = 500;
+    private static final int MAX_DEPTH = 4;
+
+    @Test
+    void testCloneMapAsJsonRoundTrip() {
+        var random = new Random(20260101L);
+        for (var i = 0; i < TRIES; i++) {
+            var map = randomMap(random, 0);
+            var expected = MAP_CONVERTER.convertToEntityAttribute(MAP_CONVERTER.convertToDatabaseColumn(map));
+            var result = AcmUtils.cloneMap(map);
+            assertEquals(expected, result);
+            assertEquals(MAP_CONVERTER.convertToDatabaseColumn(expected),
+                    MAP_CONVERTER.convertToDatabaseColumn(result));
+        }
+    }
+
+    @Test
+    void testEqualMapAsJsonRoundTrip() {
+        var random = new Random(20260102L);
+        var equalCount = 0;
+        for (var i = 0; i < TRIES; i++) {
+            var map1 = randomMap(random, 0);
+            @SuppressWarnings("unchecked")
+            var map2 = (Map<String, Object>) variant(random, map1);
+            if (random.nextBoolean()) {
+                map2.put("extra" + random.nextInt(), randomScalar(random));
+            }
+            var expected = MAP_CONVERTER.convertToDatabaseColumn(map1)
+                    .equals(MAP_CONVERTER.convertToDatabaseColumn(map2));
+            assertEquals(expected, AcmUtils.equalMap(map1, map2));
+            assertEquals(expected, AcmUtils.equalMap(map2, map1));
+            equalCount += expected ? 1 : 0;
+        }
+        assertThat(equalCount).isPositive().isLessThan(TRIES);
+    }
+
+    @Test
+    void testCloneMap() {
+        assertEquals(new HashMap<>(), AcmUtils.cloneMap(null));
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("long", 10L);
+        map.put("bigLong", Long.MAX_VALUE);
+        map.put("float", 1.1f);
+        map.put("decimal", new BigDecimal("2.50"));
+        map.put("null", null);
+        map.put("set", Set.of("value"));
+        map.put("uuid", UUID.fromString("a6e14b2a-0a1c-4bd0-9d0d-3e0e8d7c5a01"));
+        map.put("state", DeployState.DEPLOYED);
+        var result = AcmUtils.cloneMap(map);
+        assertEquals(10, result.get("long"));
+        assertEquals(Long.MAX_VALUE, result.get("bigLong"));
+        assertEquals(1.1, result.get("float"));
+        assertEquals(2.5, result.get("decimal"));
+        assertFalse(result.containsKey("null"));
+        assertEquals(List.of("value"), result.get("set"));
+        assertEquals("a6e14b2a-0a1c-4bd0-9d0d-3e0e8d7c5a01", result.get("uuid"));
+        assertEquals("DEPLOYED", result.get("state"));
+    }
+
+    @Test
+    void testEqualMap() {
+        Map<String, Object> map1 = new LinkedHashMap<>();
+        map1.put("a", 1);
+        map1.put("b", List.of(Map.of("c", 2.0)));
+        Map<String, Object> map2 = new LinkedHashMap<>();
+        map2.put("b", List.of(Map.of("c", 2.0f)));
+        map2.put("a", 1L);
+        map2.put("d", null);
+        assertTrue(AcmUtils.equalMap(map1, map2));
+
+        map2.put("a", 1.0);
+        assertFalse(AcmUtils.equalMap(map1, map2));
+        assertFalse(AcmUtils.equalMap(Map.of("a", List.of(1)), Map.of("a", List.of(1, 2))));
+        assertFalse(AcmUtils.equalMap(Map.of("a", Map.of("b", 1)), Map.of("a", List.of(1))));
+    }
+
+    private static Map<String, Object> randomMap(Random random, int depth) {
+        var size = random.nextInt(depth == 0 ? 8 : 4);
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (var i = 0; i < size; i++) {
+            map.put("key" + random.nextInt(20), randomValue(random, depth + 1));
+        }
+        return map;
+    }
+
+    private static Object randomValue(Random random, int depth) {
+        var choice = random.nextInt(depth < MAX_DEPTH ? 10 : 8);
+        return switch (choice) {
+            case 8 -> randomMap(random, depth);
+            case 9 -> {
+                var size = random.nextInt(4);
+                List<Object> list = new ArrayList<>(size);
+                for (var i = 0; i < size; i++) {
+                    list.add(random.nextInt(10) == 0 ? null : randomValue(random, depth + 1));
+                }
+                yield list;
+            }
+            case 7 -> null;
+            default -> randomScalar(random);
+        };
+    }
+
+    private static Object randomScalar(Random random) {
+        return switch (random.nextInt(12)) {
+            case 0 -> "value" + random.nextInt(5);
+            case 1 -> random.nextBoolean();
+            case 2 -> random.nextInt(5);
+            case 3 -> (long) random.nextInt(5);
+            case 4 -> random.nextLong();
+            case 5 -> BigInteger.valueOf(random.nextLong()).multiply(BigInteger.valueOf(random.nextLong()));
+            case 6 -> random.nextInt(4) / 2.0;
+            case 7 -> random.nextFloat();
+            case 8 -> BigDecimal.valueOf(random.nextInt(100), 1);
+            case 9 -> Double.NaN;
+            case 10 -> DeployState.values()[random.nextInt(DeployState.values().length)];
+            default -> (short) random.nextInt(5);
+        };
+    }
+
+    /**
+     * Copy of a tree keeping the order of the entries, with numbers of other types and additional null entries.
+     */
+    private static Object variant(Random random, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copyMap = new LinkedHashMap<>();
+            map.forEach((key, item) -> copyMap.put((String) key, variant(random, item)));
+            if (random.nextInt(4) == 0) {
+                copyMap.putIfAbsent("nullKey", null);
+            }
+            return copyMap;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copyList = new ArrayList<>(list.size());
+            list.forEach(item -> copyList.add(variant(random, item)));
+            return copyList;
+        }
+        if (value instanceof Integer integer && random.nextBoolean()) {
+            return integer.longValue();
+        }
+        if (value instanceof Long longValue && random.nextBoolean()) {
+            return BigInteger.valueOf(longValue);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,137 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantStatus;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+class BoundedKafkaSenderTest {
+
+    private static final String TOPIC = "policy-acruntime-participant";
+    private static final UUID PARTICIPANT_ID = UUID.randomUUID();
+
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private Semaphore inFlight;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        inFlight = new Semaphore(1);
+    }
+
+    @Test
+    void testSendWithPartitionKey() {
+        var message = new ParticipantStatus();
+        message.setParticipantId(PARTICIPANT_ID);
+        when(kafkaTemplate.send(TOPIC, PARTICIPANT_ID.toString(), message)).thenReturn(completedFuture());
+
+        new BoundedKafkaSender(kafkaTemplate, false, inFlight).send(TOPIC, message);
+        verify(kafkaTemplate).send(TOPIC, PARTICIPANT_ID.toString(), message);
+    }
+
+    @Test
+    void testSendWithoutPartitionKey() {
+        var message = new ParticipantStatus();
+        when(kafkaTemplate.send(TOPIC, message)).thenReturn(completedFuture());
+
+        new BoundedKafkaSender(kafkaTemplate, false, inFlight).send(TOPIC, message);
+        verify(kafkaTemplate).send(TOPIC, message);
+    }
+
+    @Test
+    void testSyncSendFailure() {
+        var message = new ParticipantStatus();
+        when(kafkaTemplate.send(TOPIC, message)).thenReturn(failedFuture());
+
+        var sender = new BoundedKafkaSender(kafkaTemplate, false, inFlight);
+        assertThatCode(() -> sender.send(TOPIC, message)).doesNotThrowAnyException();
+        assertThat(inFlight.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void testAsyncSendIsBounded() throws InterruptedException {
+        var message = new ParticipantStatus();
+        var first = new CompletableFuture<SendResult<String, Object>>();
+        when(kafkaTemplate.send(TOPIC, message)).thenReturn(first).thenReturn(completedFuture());
+        var sender = new BoundedKafkaSender(kafkaTemplate, true, inFlight);
+
+        // the first message is not acknowledged yet, so the second one waits for a permit
+        sender.send(TOPIC, message);
+        var second = new Thread(() -> sender.send(TOPIC, message));
+        second.start();
+        second.join(200);
+        assertThat(second.isAlive()).isTrue();
+        assertThat(inFlight.availablePermits()).isZero();
+
+        first.complete(null);
+        second.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(second.isAlive()).isFalse();
+        assertThat(inFlight.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void testAsyncSendFailureReleasesPermit() {
+        var message = new ParticipantStatus();
+        when(kafkaTemplate.send(TOPIC, message)).thenReturn(failedFuture())
+                .thenThrow(new IllegalStateException("producer closed"));
+        var sender = new BoundedKafkaSender(kafkaTemplate, true, inFlight);
+
+        assertThatCode(() -> sender.send(TOPIC, message)).doesNotThrowAnyException();
+        assertThatCode(() -> sender.send(TOPIC, message)).doesNotThrowAnyException();
+        assertThat(inFlight.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void testAsyncSendInterrupted() {
+        var sender = new BoundedKafkaSender(kafkaTemplate, true, new Semaphore(0));
+
+        Thread.currentThread().interrupt();
+        sender.send(TOPIC, new ParticipantStatus());
+        // the interrupt status is restored for the caller
+        assertThat(Thread.interrupted()).isTrue();
+        verify(kafkaTemplate, never()).send(anyString(), any());
+    }
+
+    private static CompletableFuture<SendResult<String, Object>> completedFuture() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static CompletableFuture<SendResult<String, Object>> failedFuture() {
+        return CompletableFuture.failedFuture(new RuntimeException("Kafka down"));
+    }
+}
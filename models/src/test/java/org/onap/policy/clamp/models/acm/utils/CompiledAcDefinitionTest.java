@@ -0,0 +1,126 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.clamp.models.acm.concepts.AutomationComposition;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionDefinition;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositions;
+import org.onap.policy.clamp.models.acm.concepts.DeployState;
+import org.onap.policy.clamp.models.acm.concepts.LockState;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+
+class CompiledAcDefinitionTest {
+
+    private static final String TOSCA_TEMPLATE_YAML = "examples/acm/test-pm-subscription-handling.yaml";
+    private static final String AUTOMATION_COMPOSITION_JSON =
+            "src/test/resources/providers/TestAutomationCompositions.json";
+    private static final String PMSH = "org.onap.domain.pmsh.";
+
+    @Test
+    void testSameResultsAsAcmStageUtils() {
+        var acDefinition = getAcDefinition();
+        var serviceTemplate = acDefinition.getServiceTemplate();
+        var nodeTemplates = serviceTemplate.getToscaTopologyTemplate().getNodeTemplates();
+        nodeTemplates.get(PMSH + "PMSH_DCAEMicroservice").getProperties().put("stage",
+                Map.of("prepare", List.of(3, 1), "migrate", List.of(2, 5, 4)));
+        nodeTemplates.get(PMSH + "PMSH_OperationalPolicyAutomationCompositionElement").getProperties()
+                .put("stage", Map.of("migrate", List.of()));
+        nodeTemplates.get(PMSH + "PMSH_CDS_AutomationCompositionElement").getProperties()
+                .put("startPhase", "3");
+        var compiled = CompiledAcDefinition.compile(acDefinition);
+
+        var automationComposition = getAutomationComposition();
+        for (var deployState : List.of(DeployState.DEPLOYING, DeployState.UNDEPLOYING, DeployState.MIGRATING,
+                DeployState.MIGRATION_REVERTING, DeployState.UNDEPLOYED)) {
+            for (var lockState : List.of(LockState.NONE, LockState.LOCKING, LockState.UNLOCKING)) {
+                AcmStateUtils.setCascadedState(automationComposition, deployState, lockState);
+                assertThat(compiled.getFirstStartPhase(automationComposition))
+                        .isEqualTo(AcmStageUtils.getFirstStartPhase(automationComposition, serviceTemplate));
+                assertThat(compiled.getFirstStage(automationComposition))
+                        .isEqualTo(AcmStageUtils.getFirstStage(automationComposition, serviceTemplate));
+                assertThat(compiled.getLastStage(automationComposition))
+                        .isEqualTo(AcmStageUtils.getLastStage(automationComposition, serviceTemplate));
+                for (var element : automationComposition.getElements().values()) {
+                    assertThat(compiled.getFirstStage(element))
+                            .isEqualTo(AcmStageUtils.getFirstStage(element, serviceTemplate));
+                    assertThat(compiled.getLastStage(element, 9))
+                            .isEqualTo(AcmStageUtils.getLastStage(element, serviceTemplate, 9));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testElementNotInDefinition() {
+        var acDefinition = getAcDefinition();
+        var automationComposition = getAutomationComposition();
+        var element = automationComposition.getElements().values().iterator().next();
+        var compiled = CompiledAcDefinition.compile(acDefinition);
+        assertThat(compiled.getStartPhase(element.getDefinition())).isEqualTo(1);
+
+        element.getDefinition().setVersion("0.0.0");
+        assertThat(compiled.getStartPhase(element.getDefinition())).isZero();
+
+        element.getDefinition().setName("unknown");
+        assertThat(compiled.getStartPhase(element.getDefinition())).isZero();
+        assertThat(compiled.getFirstStage(element)).isZero();
+        assertThat(compiled.getLastStage(element, 1)).isEqualTo(1);
+
+        automationComposition.getElements().clear();
+        assertThat(compiled.getFirstStage(automationComposition)).isZero();
+        assertThat(compiled.getLastStage(automationComposition)).isZero();
+    }
+
+    @Test
+    void testIsRevisionOf() {
+        var acDefinition = getAcDefinition();
+        var compiled = CompiledAcDefinition.compile(acDefinition);
+        assertThat(compiled.getCompositionId()).isEqualTo(acDefinition.getCompositionId());
+        assertThat(compiled.getRevisionId()).isEqualTo(acDefinition.getRevisionId());
+        assertThat(compiled.isRevisionOf(acDefinition)).isTrue();
+
+        acDefinition.setRevisionId(UUID.randomUUID());
+        assertThat(compiled.isRevisionOf(acDefinition)).isFalse();
+
+        acDefinition.getServiceTemplate().getToscaTopologyTemplate().setNodeTemplates(null);
+        compiled = CompiledAcDefinition.compile(acDefinition);
+        assertThat(compiled.getFirstStartPhase(getAutomationComposition())).isZero();
+    }
+
+    private static AutomationCompositionDefinition getAcDefinition() {
+        var acDefinition = new AutomationCompositionDefinition();
+        acDefinition.setCompositionId(UUID.randomUUID());
+        acDefinition.setServiceTemplate(CommonTestData.getToscaServiceTemplate(TOSCA_TEMPLATE_YAML));
+        return acDefinition;
+    }
+
+    private static AutomationComposition getAutomationComposition() {
+        var automationCompositions = CommonTestData.getObjectFromJson(
+                ResourceUtils.getResourceAsString(AUTOMATION_COMPOSITION_JSON), AutomationCompositions.class);
+        return automationCompositions.getAutomationCompositionList().get(0);
+    }
+}
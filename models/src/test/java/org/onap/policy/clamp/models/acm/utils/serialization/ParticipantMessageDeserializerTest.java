@@ -20,12 +20,16 @@
 
 package org.onap.policy.clamp.models.acm.utils.serialization;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.SerializationException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -51,6 +55,7 @@ class ParticipantMessageDeserializerTest {
 
     private final ParticipantMessageDeserializer deserializer = new ParticipantMessageDeserializer();
     private static final ObjectMapper MAPPER = MapperFactory.createJsonMapper();
+    private static final UUID PARTICIPANT_ID = UUID.randomUUID();
 
     @ParameterizedTest
     @MethodSource("provideValidMessages")
@@ -60,6 +65,25 @@ class ParticipantMessageDeserializerTest {
         assertInstanceOf(expectedClass, result);
     }
 
+    @Test
+    void testDeserializeMessageTypeNotFirst() {
+        var json = "{\"participantId\":\"" + PARTICIPANT_ID + "\",\"participantIdList\":[\"" + PARTICIPANT_ID
+                + "\"],\"participantDefinitionUpdates\":[{\"participantId\":null}],"
+                + "\"messageType\":\"PARTICIPANT_PRIME\"}";
+        var result = deserializer.deserialize("topic", json.getBytes(StandardCharsets.UTF_8));
+        var participantPrime = assertInstanceOf(ParticipantPrime.class, result);
+        assertEquals(PARTICIPANT_ID, participantPrime.getParticipantId());
+    }
+
+    @Test
+    void testDeserializeUtf8() {
+        var message = new AutomationCompositionDeploy();
+        message.setParticipantId(PARTICIPANT_ID);
+        var data = new ParticipantMessageSerializer().serialize("topic", message);
+        var result = deserializer.deserialize("topic", data);
+        assertEquals(PARTICIPANT_ID, result.getParticipantId());
+    }
+
     static Stream<Arguments> provideValidMessages() {
         return Stream.of(
                 Arguments.of(new ParticipantStatus(), ParticipantStatus.class),
@@ -93,6 +117,8 @@ class ParticipantMessageDeserializerTest {
                 Arguments.of("invalid json"),
                 Arguments.of("{\"messageType\":\"INVALID_TYPE\"}"),
                 Arguments.of("{\"someField\":\"value\"}"),
+                Arguments.of("[\"messageType\"]"),
+                Arguments.of("{\"messageType\":null}"),
                 Arguments.of("{\"messageType\":\"PARTICIPANT_STATE_CHANGE\"}"),
                 Arguments.of("{\"messageType\":\"PARTICIPANT_RESTART\"}")
         );
@@ -0,0 +1,98 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.utils.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.clamp.models.acm.concepts.AcElementDeploy;
+import org.onap.policy.clamp.models.acm.concepts.ParticipantDeploy;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.AutomationCompositionDeploy;
+
+class ParticipantMessageFormatTest {
+
+    @Test
+    void testFromConfig() {
+        assertEquals(ParticipantMessageFormat.JSON, ParticipantMessageFormat.fromConfig(null));
+        assertEquals(ParticipantMessageFormat.JSON, ParticipantMessageFormat.fromConfig(" "));
+        assertEquals(ParticipantMessageFormat.SMILE, ParticipantMessageFormat.fromConfig("smile"));
+        assertThrows(IllegalArgumentException.class, () -> ParticipantMessageFormat.fromConfig("xml"));
+    }
+
+    @Test
+    void testFromHeaders() {
+        assertEquals(ParticipantMessageFormat.JSON, ParticipantMessageFormat.fromHeaders(null));
+        var headers = new RecordHeaders();
+        assertEquals(ParticipantMessageFormat.JSON, ParticipantMessageFormat.fromHeaders(headers));
+        ParticipantMessageFormat.SMILE.addHeader(headers);
+        assertEquals(ParticipantMessageFormat.SMILE, ParticipantMessageFormat.fromHeaders(headers));
+        ParticipantMessageFormat.JSON.addHeader(headers);
+        assertThat(headers.headers(ParticipantMessageFormat.HEADER_CONTENT_TYPE)).hasSize(1);
+        assertEquals(ParticipantMessageFormat.JSON, ParticipantMessageFormat.fromHeaders(headers));
+    }
+
+    @Test
+    void testSmileRoundTrip() {
+        var serializer = new ParticipantMessageSerializer();
+        serializer.configure(Map.of(ParticipantMessageFormat.FORMAT_CONFIG, "SMILE"), false);
+        var deserializer = new ParticipantMessageDeserializer();
+
+        var message = createDeploy();
+        var headers = new RecordHeaders();
+        var data = serializer.serialize("topic", headers, message);
+        assertEquals(ParticipantMessageFormat.SMILE, ParticipantMessageFormat.fromHeaders(headers));
+        var json = new ParticipantMessageSerializer().serialize("topic", message);
+        assertThat(data).hasSizeLessThan(json.length);
+
+        var result = assertInstanceOf(AutomationCompositionDeploy.class, deserializer.deserialize("topic", headers,
+                data));
+        assertEquals(message.getAutomationCompositionId(), result.getAutomationCompositionId());
+        var element = result.getParticipantUpdatesList().get(0).getAcElementList().get(0);
+        assertEquals("http://address:30800", element.getProperties().get("baseUrl"));
+    }
+
+    @Test
+    void testJsonWithoutHeaders() {
+        var serializer = new ParticipantMessageSerializer();
+        serializer.configure(Map.of(ParticipantMessageFormat.FORMAT_CONFIG, "SMILE"), false);
+        var data = serializer.serialize("topic", createDeploy());
+        assertThat(new String(data, StandardCharsets.UTF_8)).startsWith("{");
+    }
+
+    private static AutomationCompositionDeploy createDeploy() {
+        var element = new AcElementDeploy();
+        element.setProperties(Map.of("baseUrl", "http://address:30800", "timeout", 1000));
+        var participantDeploy = new ParticipantDeploy();
+        participantDeploy.setParticipantId(UUID.randomUUID());
+        participantDeploy.getAcElementList().add(element);
+        var message = new AutomationCompositionDeploy();
+        message.setAutomationCompositionId(UUID.randomUUID());
+        message.getParticipantUpdatesList().add(participantDeploy);
+        return message;
+    }
+}
@@ -0,0 +1,119 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.utils.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.AutomationCompositionDeploy;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantMessage;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantRegisterAck;
+
+class ParticipantMessageRoutingTest {
+
+    private static final UUID PARTICIPANT_ID = UUID.randomUUID();
+    private static final UUID REPLICA_ID = UUID.randomUUID();
+
+    @Test
+    void testHeadersMatchAppliesTo() {
+        var otherId = UUID.randomUUID();
+        var messages = new ParticipantMessage[] {
+            createMessage(null, null, Set.of()),
+            createMessage(PARTICIPANT_ID, null, Set.of()),
+            createMessage(PARTICIPANT_ID, REPLICA_ID, Set.of()),
+            createMessage(PARTICIPANT_ID, otherId, Set.of()),
+            createMessage(otherId, null, Set.of()),
+            createMessage(null, null, Set.of(PARTICIPANT_ID, otherId)),
+            createMessage(null, null, Set.of(otherId))
+        };
+        for (var message : messages) {
+            var headers = new RecordHeaders();
+            ParticipantMessageRouting.addHeaders(headers, message);
+            assertEquals(message.appliesTo(PARTICIPANT_ID, REPLICA_ID),
+                    ParticipantMessageRouting.appliesTo(headers, PARTICIPANT_ID, REPLICA_ID));
+        }
+    }
+
+    @Test
+    void testAckMessage() {
+        var message = new ParticipantRegisterAck();
+        message.setParticipantId(PARTICIPANT_ID);
+        message.setReplicaId(UUID.randomUUID());
+        var headers = new RecordHeaders();
+        ParticipantMessageRouting.addHeaders(headers, message);
+        assertFalse(ParticipantMessageRouting.appliesTo(headers, PARTICIPANT_ID, REPLICA_ID));
+        assertTrue(ParticipantMessageRouting.appliesTo(headers, PARTICIPANT_ID, message.getReplicaId()));
+    }
+
+    @Test
+    void testWithoutRoutingHeaders() {
+        assertTrue(ParticipantMessageRouting.appliesTo(new RecordHeaders(), PARTICIPANT_ID, REPLICA_ID));
+        assertTrue(ParticipantMessageRouting.appliesTo(null, PARTICIPANT_ID, REPLICA_ID));
+    }
+
+    @Test
+    void testHeadersReplaced() {
+        var headers = new RecordHeaders();
+        ParticipantMessageRouting.addHeaders(headers, createMessage(null, null, Set.of(UUID.randomUUID())));
+        ParticipantMessageRouting.addHeaders(headers, createMessage(PARTICIPANT_ID, null, Set.of()));
+        assertThat(headers.headers(ParticipantMessageRouting.HEADER_PARTICIPANT_ID)).hasSize(1);
+        assertNull(headers.lastHeader(ParticipantMessageRouting.HEADER_PARTICIPANT_ID_LIST));
+        assertTrue(ParticipantMessageRouting.appliesTo(headers, PARTICIPANT_ID, REPLICA_ID));
+    }
+
+    @Test
+    void testDeserializerDiscardsOtherParticipants() {
+        var deserializer = new ParticipantMessageDeserializer();
+        deserializer.configure(Map.of(ParticipantMessageRouting.PARTICIPANT_ID_CONFIG, PARTICIPANT_ID.toString(),
+                ParticipantMessageRouting.REPLICA_ID_CONFIG, REPLICA_ID.toString()), false);
+        var serializer = new ParticipantMessageSerializer();
+
+        var headers = new RecordHeaders();
+        var data = serializer.serialize("topic", headers, createMessage(UUID.randomUUID(), null, Set.of()));
+        assertNull(deserializer.deserialize("topic", headers, data));
+
+        headers = new RecordHeaders();
+        data = serializer.serialize("topic", headers, createMessage(PARTICIPANT_ID, null, Set.of()));
+        assertThat(deserializer.deserialize("topic", headers, data)).isInstanceOf(AutomationCompositionDeploy.class);
+    }
+
+    @Test
+    void testGetParticipantTopic() {
+        assertEquals("policy-acruntime-participant-" + PARTICIPANT_ID,
+                ParticipantMessageRouting.getParticipantTopic("policy-acruntime-participant", PARTICIPANT_ID));
+    }
+
+    private static ParticipantMessage createMessage(UUID participantId, UUID replicaId, Set<UUID> participantIdList) {
+        var message = new AutomationCompositionDeploy();
+        message.setParticipantId(participantId);
+        message.setReplicaId(replicaId);
+        message.getParticipantIdList().addAll(participantIdList);
+        return message;
+    }
+}
@@ -0,0 +1,177 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.models.acm.utils.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.onap.policy.clamp.models.acm.concepts.AcElementDeploy;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionElementInfo;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionInfo;
+import org.onap.policy.clamp.models.acm.concepts.DeployState;
+import org.onap.policy.clamp.models.acm.concepts.ParticipantDeploy;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.AutomationCompositionDeploy;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantKafkaMessage;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantStatus;
+import org.onap.policy.common.utils.coder.MapperFactory;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of the serialization and deserialization of the participant messages, in JSON and Smile.
+ * The treeDeserialize benchmarks reproduce the previous deserializer, which decoded the message into a JsonNode
+ * before binding it to the target class, and are the reference to compare with.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ParticipantMessageSerializationBenchmark {
+
+    private static final ObjectMapper MAPPER = MapperFactory.createJsonMapper();
+
+    @Param({"10", "50"})
+    private int elements;
+
+    private final ParticipantMessageSerializer serializer = new ParticipantMessageSerializer();
+    private final ParticipantMessageDeserializer deserializer = new ParticipantMessageDeserializer();
+
+    private final ParticipantMessageSerializer smileSerializer = new ParticipantMessageSerializer();
+    private final RecordHeaders smileHeaders = new RecordHeaders();
+
+    private AutomationCompositionDeploy deploy;
+    private byte[] deployData;
+    private byte[] statusData;
+    private byte[] smileDeployData;
+
+    /**
+     * Set up a deploy message and a status message with the configured number of elements.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        var participantDeploy = new ParticipantDeploy();
+        participantDeploy.setParticipantId(UUID.randomUUID());
+        var acInfo = new AutomationCompositionInfo();
+        acInfo.setAutomationCompositionId(UUID.randomUUID());
+        acInfo.setDeployState(DeployState.DEPLOYED);
+        for (var i = 0; i < elements; i++) {
+            var element = new AcElementDeploy();
+            element.setDefinition(new ToscaConceptIdentifier("onap.policy.clamp.ac.element" + i, "1.2.3"));
+            element.setProperties(Map.of(
+                    "baseUrl", "http://address:30800",
+                    "httpHeaders", Map.of("Content-Type", "application/json", "Authorization", "Basic YWNtVXNlcg=="),
+                    "configurationEntities", List.of(Map.of(
+                            "configurationEntityId", Map.of("name", "entity" + i, "version", "1.0.1"),
+                            "restSequence", List.of(Map.of("restRequestId", Map.of("name", "request" + i),
+                                    "httpMethod", "POST", "path", "/v1/api", "expectedResponse", 200,
+                                    "body", "{\"key\": \"value" + i + "\"}"))))));
+            participantDeploy.getAcElementList().add(element);
+
+            var elementInfo = new AutomationCompositionElementInfo();
+            elementInfo.setAutomationCompositionElementId(element.getId());
+            elementInfo.setDeployState(DeployState.DEPLOYED);
+            elementInfo.setOperationalState("ENABLED");
+            elementInfo.setUseState("IDLE");
+            elementInfo.setOutProperties(Map.of("status", "ok", "lastUpdate", "2026-01-01T00:00:00Z"));
+            acInfo.getElements().add(elementInfo);
+        }
+        deploy = new AutomationCompositionDeploy();
+        deploy.setCompositionId(UUID.randomUUID());
+        deploy.setAutomationCompositionId(acInfo.getAutomationCompositionId());
+        deploy.getParticipantUpdatesList().add(participantDeploy);
+        deployData = serializer.serialize("topic", deploy);
+        smileSerializer.configure(Map.of(ParticipantMessageFormat.FORMAT_CONFIG, "SMILE"), false);
+        smileDeployData = smileSerializer.serialize("topic", smileHeaders, deploy);
+
+        var status = new ParticipantStatus();
+        status.setParticipantId(participantDeploy.getParticipantId());
+        status.setReplicaId(UUID.randomUUID());
+        status.getAutomationCompositionInfoList().add(acInfo);
+        statusData = serializer.serialize("topic", status);
+    }
+
+    @Benchmark
+    public byte[] serializeDeploy() {
+        return serializer.serialize("topic", deploy);
+    }
+
+    @Benchmark
+    public ParticipantKafkaMessage deserializeDeploy() {
+        return deserializer.deserialize("topic", deployData);
+    }
+
+    @Benchmark
+    public byte[] serializeDeploySmile() {
+        return smileSerializer.serialize("topic", new RecordHeaders(), deploy);
+    }
+
+    @Benchmark
+    public ParticipantKafkaMessage deserializeDeploySmile() {
+        return deserializer.deserialize("topic", smileHeaders, smileDeployData);
+    }
+
+    @Benchmark
+    public ParticipantKafkaMessage deserializeStatus() {
+        return deserializer.deserialize("topic", statusData);
+    }
+
+    @Benchmark
+    public ParticipantKafkaMessage treeDeserializeDeploy() throws Exception {
+        return treeDeserialize(deployData, AutomationCompositionDeploy.class);
+    }
+
+    @Benchmark
+    public ParticipantKafkaMessage treeDeserializeStatus() throws Exception {
+        return treeDeserialize(statusData, ParticipantStatus.class);
+    }
+
+    private static ParticipantKafkaMessage treeDeserialize(byte[] data,
+            Class<? extends ParticipantKafkaMessage> targetClass) throws Exception {
+        var jsonNode = MAPPER.readValue(new String(data), JsonNode.class);
+        jsonNode.get("messageType").asText();
+        return MAPPER.treeToValue(jsonNode, targetClass);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ParticipantMessageSerializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -23,7 +23,10 @@ package org.onap.policy.clamp.models.acm.utils.serialization;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantPrime;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantRegisterAck;
 
 class ParticipantMessageSerializerTest {
@@ -40,4 +43,16 @@ class ParticipantMessageSerializerTest {
         String resultString = new String(result);
         assertThat(resultString).startsWith("{").endsWith("}");
     }
+
+    @Test
+    void testSerializeMessageTypeFirst() {
+        var message = new ParticipantPrime();
+        message.setParticipantId(UUID.randomUUID());
+
+        var result = new String(serializer.serialize("test-topic", message), StandardCharsets.UTF_8);
+        assertThat(result).startsWith("{\"messageType\":\"PARTICIPANT_PRIME\"");
+
+        result = new String(serializer.serialize("test-topic", new ParticipantRegisterAck()), StandardCharsets.UTF_8);
+        assertThat(result).startsWith("{\"messageType\":\"PARTICIPANT_REGISTER_ACK\"");
+    }
 }
@@ -45,7 +45,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 @Slf4j
 @KafkaListener(
-        topics = "${participant.intermediaryParameters.topics.operationTopic}",
+        topics = "#{@acmOperationTopics}",
         containerFactory = "acmListenerContainerFactory"
 )
 public class ParticipantMessageListener {
@@ -22,8 +22,8 @@
 package org.onap.policy.clamp.acm.participant.intermediary.comm;
 
 import io.micrometer.core.annotation.Timed;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import java.util.concurrent.Semaphore;
+import org.onap.policy.clamp.acm.participant.intermediary.parameters.ParticipantParameters;
 import org.onap.policy.clamp.common.acm.utils.NetLoggerUtil;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.AutomationCompositionDeployAck;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantDeregister;
@@ -32,6 +32,7 @@ import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantPr
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantRegister;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantReqSync;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantStatus;
+import org.onap.policy.clamp.models.acm.utils.BoundedKafkaSender;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -41,17 +42,25 @@ import org.springframework.stereotype.Component;
  * Unified participant message publisher using ParticipantKafkaMessage interface.
  */
 @Component
-@Slf4j
 public class ParticipantMessagePublisher {
 
     @Value("${participant.intermediaryParameters.topics.operationTopic}")
     private String operationTopic;
 
-    private final KafkaTemplate<String, ParticipantKafkaMessage> kafkaTemplate;
+    private final BoundedKafkaSender sender;
 
+    /**
+     * Constructor.
+     *
+     * @param kafkaTemplate the KafkaTemplate
+     * @param participantParameters the parameters of the participant
+     */
     public ParticipantMessagePublisher(
-            @Qualifier("acmKafkaTemplate") KafkaTemplate<String, ParticipantKafkaMessage> kafkaTemplate) {
-        this.kafkaTemplate = kafkaTemplate;
+            @Qualifier("acmKafkaTemplate") KafkaTemplate<String, ParticipantKafkaMessage> kafkaTemplate,
+            ParticipantParameters participantParameters) {
+        var producer = participantParameters.getIntermediaryParameters().getKafka().getProducer();
+        this.sender = new BoundedKafkaSender(kafkaTemplate, producer.isAsync(),
+                new Semaphore(producer.getMaxInFlight()));
     }
 
     /**
@@ -118,14 +127,6 @@ public class ParticipantMessagePublisher {
     private void send(final ParticipantKafkaMessage message, final String logMessage) {
         NetLoggerUtil.log(NetLoggerUtil.EventType.OUT, "KAFKA", operationTopic,
                 logMessage + " - " + message.toString());
-        try {
-            if (message.getPartitionKey() == null) {
-                kafkaTemplate.send(operationTopic, message).join();
-            } else {
-                kafkaTemplate.send(operationTopic, message.getPartitionKey(), message).join();
-            }
-        } catch (final Exception e) {
-            log.error("send to {} failed because of {}", operationTopic, e.getMessage(), e);
-        }
+        sender.send(operationTopic, message);
     }
 }
@@ -26,9 +26,12 @@ import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.onap.policy.clamp.acm.participant.intermediary.handler.cache.CacheProvider;
 import org.onap.policy.clamp.acm.participant.intermediary.parameters.ParticipantParameters;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantKafkaMessage;
 import org.onap.policy.clamp.models.acm.utils.serialization.ParticipantMessageDeserializer;
+import org.onap.policy.clamp.models.acm.utils.serialization.ParticipantMessageFormat;
+import org.onap.policy.clamp.models.acm.utils.serialization.ParticipantMessageRouting;
 import org.onap.policy.clamp.models.acm.utils.serialization.ParticipantMessageSerializer;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
@@ -59,10 +62,11 @@ public class KafkaConfig {
     /**
      * Consumer factory for ACM messaging. Key: String, Value: ParticipantKafkaMessage.
      * Uses ErrorHandlingDeserializer wrapping ParticipantMessageDeserializer.
+     * When header filtering is enabled, the deserializer skips the records addressed to other participants.
      */
     @Bean("acmConsumerFactory")
     public ConsumerFactory<String, ParticipantKafkaMessage> acmConsumerFactory(
-            ParticipantParameters participantParameters) {
+            ParticipantParameters participantParameters, CacheProvider cacheProvider) {
         var kafka = participantParameters.getIntermediaryParameters().getKafka();
         Map<String, Object> config = new HashMap<>();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
@@ -77,6 +81,10 @@ public class KafkaConfig {
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, ParticipantMessageDeserializer.class);
+        if (kafka.getConsumer().isHeaderFiltering()) {
+            config.put(ParticipantMessageRouting.PARTICIPANT_ID_CONFIG, cacheProvider.getParticipantId().toString());
+            config.put(ParticipantMessageRouting.REPLICA_ID_CONFIG, cacheProvider.getReplicaId().toString());
+        }
 
         return new DefaultKafkaConsumerFactory<>(config);
     }
@@ -93,12 +101,23 @@ public class KafkaConfig {
 
         // Shared additional properties (security, etc.)
         config.putAll(kafka.getProperties());
+        // Batching settings, the Kafka defaults are used when not set
+        if (kafka.getProducer().getLingerMs() != null) {
+            config.put(ProducerConfig.LINGER_MS_CONFIG, kafka.getProducer().getLingerMs());
+        }
+        if (kafka.getProducer().getBatchSize() != null) {
+            config.put(ProducerConfig.BATCH_SIZE_CONFIG, kafka.getProducer().getBatchSize());
+        }
+        if (kafka.getProducer().getCompressionType() != null) {
+            config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, kafka.getProducer().getCompressionType());
+        }
         // Producer-specific additional properties
         config.putAll(kafka.getProducer().getProperties());
 
         // Serialization - set last to prevent override via properties maps
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ParticipantMessageSerializer.class);
+        config.put(ParticipantMessageFormat.FORMAT_CONFIG, kafka.getProducer().getMessageFormat().name());
 
         return new DefaultKafkaProducerFactory<>(config);
     }
@@ -117,16 +136,40 @@ public class KafkaConfig {
     /**
      * Listener container factory for ACM messaging.
      * Used by {@code @KafkaListener} annotations via {@code containerFactory = "acmListenerContainerFactory"}.
+     * When header filtering is enabled, the records addressed to other participants are discarded
+     * before reaching the listeners.
      */
     @Bean("acmListenerContainerFactory")
     public ConcurrentKafkaListenerContainerFactory<String, ParticipantKafkaMessage> acmListenerContainerFactory(
             @Qualifier("acmConsumerFactory") ConsumerFactory<String, ParticipantKafkaMessage> acmConsumerFactory,
-            ParticipantParameters participantParameters) {
+            ParticipantParameters participantParameters, CacheProvider cacheProvider) {
         var kafka = participantParameters.getIntermediaryParameters().getKafka();
         var factory = new ConcurrentKafkaListenerContainerFactory<String, ParticipantKafkaMessage>();
         factory.setConsumerFactory(acmConsumerFactory);
         factory.getContainerProperties().setObservationEnabled(true);
         factory.getContainerProperties().setAuthExceptionRetryInterval(kafka.getAuthExceptionRetryInterval());
+        if (kafka.getConsumer().isHeaderFiltering()) {
+            var participantId = cacheProvider.getParticipantId();
+            var replicaId = cacheProvider.getReplicaId();
+            factory.setRecordFilterStrategy(consumerRecord ->
+                    !ParticipantMessageRouting.appliesTo(consumerRecord.headers(), participantId, replicaId));
+        }
         return factory;
     }
+
+    /**
+     * Topics consumed by the operation listener: the shared operation topic and,
+     * if enabled, the operation topic dedicated to this participant.
+     * Used by {@code @KafkaListener} annotations via {@code topics = "#{@acmOperationTopics}"}.
+     */
+    @Bean("acmOperationTopics")
+    public String[] acmOperationTopics(ParticipantParameters participantParameters) {
+        var intermediaryParameters = participantParameters.getIntermediaryParameters();
+        var operationTopic = intermediaryParameters.getTopics().getOperationTopic();
+        if (intermediaryParameters.getTopics().isParticipantTopic()) {
+            return new String[] {operationTopic, ParticipantMessageRouting.getParticipantTopic(operationTopic,
+                    intermediaryParameters.getParticipantId())};
+        }
+        return new String[] {operationTopic};
+    }
 }
@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2023-2025 OpenInfra Foundation Europe. All rights reserved.
+ *  Copyright (C) 2023-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,12 +21,18 @@
 package org.onap.policy.clamp.acm.participant.intermediary.handler;
 
 import io.opentelemetry.context.Context;
+import java.io.Closeable;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.Semaphore;
 import org.onap.policy.clamp.acm.participant.intermediary.comm.ParticipantMessagePublisher;
 import org.onap.policy.clamp.acm.participant.intermediary.handler.cache.AutomationCompositionMsg;
 import org.onap.policy.clamp.acm.participant.intermediary.handler.cache.CacheProvider;
+import org.onap.policy.clamp.acm.participant.intermediary.parameters.ParticipantParameters;
 import org.onap.policy.clamp.common.acm.utils.AcmThreadFactory;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantReqSync;
 import org.slf4j.Logger;
@@ -34,8 +40,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
-public class MsgExecutor {
+public class MsgExecutor implements Closeable {
 
     private final ExecutorService executor =
             Context.taskWrapping(Executors.newSingleThreadExecutor(new AcmThreadFactory()));
@@ -44,12 +49,41 @@ public class MsgExecutor {
     private final CacheProvider cacheProvider;
     private final ParticipantMessagePublisher publisher;
 
+    // executes the messages in order per automation composition, null when executed on the listener thread
+    private final ExecutorService msgExecutor;
+    private final Semaphore pendingMsgs;
+    private final Map<UUID, CompletableFuture<Void>> lastMsgByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param cacheProvider the CacheProvider
+     * @param publisher the ParticipantMessagePublisher
+     * @param parameters the parameters
+     */
+    public MsgExecutor(CacheProvider cacheProvider, ParticipantMessagePublisher publisher,
+            ParticipantParameters parameters) {
+        this.cacheProvider = cacheProvider;
+        this.publisher = publisher;
+        var msgThreadPoolSize = parameters.getIntermediaryParameters().getMsgThreadPoolSize();
+        this.msgExecutor = msgThreadPoolSize > 0
+                ? Context.taskWrapping(Executors.newFixedThreadPool(msgThreadPoolSize, new AcmThreadFactory()))
+                : null;
+        this.pendingMsgs = new Semaphore(parameters.getIntermediaryParameters().getMaxPendingMsgs());
+    }
+
     /**
      * Execute the message if all data are present or put on Hold if something is missing.
+     * Messages of the same automation composition are executed in order, messages of different
+     * automation compositions can be executed in parallel.
      *
      * @param message the message
      */
     public void execute(AutomationCompositionMsg<?> message) {
+        dispatch(message, () -> executeOrHold(message));
+    }
+
+    private void executeOrHold(AutomationCompositionMsg<?> message) {
         if (validExecution(message)) {
             message.execute();
         } else {
@@ -74,8 +108,58 @@ public class MsgExecutor {
     private void checkAndExecute() {
         var executable = cacheProvider.getMessagesOnHold().values().stream()
                 .filter(this::validExecution).toList();
-        executable.forEach(AutomationCompositionMsg::execute);
-        executable.forEach(msg -> cacheProvider.getMessagesOnHold().remove(msg.getKey()));
+        for (var msg : executable) {
+            if (cacheProvider.getMessagesOnHold().remove(msg.getKey()) != null) {
+                dispatch(msg, msg::execute);
+            }
+        }
+    }
+
+    private void dispatch(AutomationCompositionMsg<?> message, Runnable task) {
+        if (msgExecutor == null) {
+            task.run();
+            return;
+        }
+        try {
+            // backpressure: the caller waits when too many messages are pending
+            pendingMsgs.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting to execute message {}", message.getKey());
+            return;
+        }
+        var key = getExecutionKey(message);
+        var last = lastMsgByKey.compute(key, (id, previous) ->
+                (previous != null ? previous : CompletableFuture.<Void>completedFuture(null))
+                        .thenRunAsync(() -> run(task), msgExecutor));
+        last.whenComplete((result, e) -> {
+            lastMsgByKey.remove(key, last);
+            pendingMsgs.release();
+        });
+    }
+
+    private static void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            LOGGER.error("Message execution failed", e);
+        }
+    }
+
+    private static UUID getExecutionKey(AutomationCompositionMsg<?> message) {
+        var participantMsg = message.getMessage();
+        if (participantMsg.getAutomationCompositionId() != null) {
+            return participantMsg.getAutomationCompositionId();
+        }
+        return participantMsg.getCompositionId() != null ? participantMsg.getCompositionId() : message.getKey();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        if (msgExecutor != null) {
+            msgExecutor.shutdown();
+        }
     }
 
     private boolean validExecution(AutomationCompositionMsg<?> message) {
@@ -227,6 +227,8 @@ public class ParticipantHandler {
 
     /**
      * Method to send ParticipantRegister message to automation composition runtime.
+     * The revisionIds of the compositions and of the instances already in the cache are sent too,
+     * so the runtime sends in the restart sync only what is changed.
      */
     public void sendParticipantRegister() {
         var participantRegister = new ParticipantRegister();
@@ -234,6 +236,18 @@ public class ParticipantHandler {
         participantRegister.setReplicaId(cacheProvider.getReplicaId());
         participantRegister.setParticipantSupportedElementType(cacheProvider.getSupportedAcElementTypes());
         participantRegister.setIntermediaryVersion(getVersion());
+        for (var acDefinition : cacheProvider.getAcElementsDefinitions().values()) {
+            if (acDefinition.getRevisionId() != null) {
+                participantRegister.getCompositionRevisions()
+                        .put(acDefinition.getCompositionId(), acDefinition.getRevisionId());
+            }
+        }
+        for (var automationComposition : cacheProvider.getAutomationCompositions().values()) {
+            if (automationComposition.getRevisionId() != null) {
+                participantRegister.getInstanceRevisions()
+                        .put(automationComposition.getInstanceId(), automationComposition.getRevisionId());
+            }
+        }
 
         publisher.sendParticipantRegister(participantRegister);
     }
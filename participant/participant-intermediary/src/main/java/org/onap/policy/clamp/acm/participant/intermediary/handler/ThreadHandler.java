@@ -29,6 +29,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import org.onap.policy.clamp.acm.participant.intermediary.api.AutomationCompositionElementListener;
 import org.onap.policy.clamp.acm.participant.intermediary.api.ParticipantIntermediaryApi;
 import org.onap.policy.clamp.acm.participant.intermediary.handler.cache.CacheProvider;
@@ -57,6 +58,11 @@ public class ThreadHandler implements Closeable {
 
     private final ExecutorService executor;
 
+    // concurrency cap per element type, only used with virtual threads
+    private final Map<String, Semaphore> elementTypeLimits = new ConcurrentHashMap<>();
+    private final int maxConcurrentPerElementType;
+    private final boolean virtualThreads;
+
     /**
      * Constructor.
      *
@@ -70,10 +76,19 @@ public class ThreadHandler implements Closeable {
         this.listener = listener;
         this.intermediaryApi = intermediaryApi;
         this.cacheProvider = cacheProvider;
-        executor = Context.taskWrapping(Executors.newFixedThreadPool(
-                parameters.getIntermediaryParameters().getThreadPoolSize(), new AcmThreadFactory()));
-        LOGGER.info("ThreadHandler started with thread pool size {}",
-                parameters.getIntermediaryParameters().getThreadPoolSize());
+        var intermediaryParameters = parameters.getIntermediaryParameters();
+        virtualThreads = intermediaryParameters.isVirtualThreads();
+        maxConcurrentPerElementType = intermediaryParameters.getMaxConcurrentPerElementType();
+        if (virtualThreads) {
+            executor = Context.taskWrapping(Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("acm-element-", 0).factory()));
+            LOGGER.info("ThreadHandler started with virtual threads, max {} concurrent operations per element type",
+                    maxConcurrentPerElementType);
+        } else {
+            executor = Context.taskWrapping(Executors.newFixedThreadPool(
+                    intermediaryParameters.getThreadPoolSize(), new AcmThreadFactory()));
+            LOGGER.info("ThreadHandler started with thread pool size {}", intermediaryParameters.getThreadPoolSize());
+        }
     }
 
     /**
@@ -85,7 +100,7 @@ public class ThreadHandler implements Closeable {
      */
     public void deploy(UUID messageId, CompositionElementDto compositionElement, InstanceElementDto instanceElement) {
         cleanExecution(instanceElement.elementId(), messageId);
-        var result = executor.submit(() -> this.deployProcess(compositionElement, instanceElement));
+        var result = submit(compositionElement, () -> this.deployProcess(compositionElement, instanceElement));
         executionMap.put(instanceElement.elementId(), result);
         LOGGER.info("Deploy process successfully started on the participant for {}", instanceElement.elementId());
     }
@@ -112,7 +127,7 @@ public class ThreadHandler implements Closeable {
      */
     public void undeploy(UUID messageId, CompositionElementDto compositionElement, InstanceElementDto instanceElement) {
         cleanExecution(instanceElement.elementId(), messageId);
-        var result = executor.submit(() -> this.undeployProcess(compositionElement, instanceElement));
+        var result = submit(compositionElement, () -> this.undeployProcess(compositionElement, instanceElement));
         executionMap.put(instanceElement.elementId(), result);
         LOGGER.info("Undeploy process successfully started on the participant for {}", instanceElement.elementId());
     }
@@ -139,7 +154,7 @@ public class ThreadHandler implements Closeable {
      */
     public void lock(UUID messageId, CompositionElementDto compositionElement, InstanceElementDto instanceElement) {
         cleanExecution(instanceElement.elementId(), messageId);
-        var result = executor.submit(() -> this.lockProcess(compositionElement, instanceElement));
+        var result = submit(compositionElement, () -> this.lockProcess(compositionElement, instanceElement));
         executionMap.put(instanceElement.elementId(), result);
     }
 
@@ -165,7 +180,7 @@ public class ThreadHandler implements Closeable {
      */
     public void unlock(UUID messageId, CompositionElementDto compositionElement, InstanceElementDto instanceElement) {
         cleanExecution(instanceElement.elementId(), messageId);
-        var result = executor.submit(() -> this.unlockProcess(compositionElement, instanceElement));
+        var result = submit(compositionElement, () -> this.unlockProcess(compositionElement, instanceElement));
         executionMap.put(instanceElement.elementId(), result);
     }
 
@@ -191,7 +206,7 @@ public class ThreadHandler implements Closeable {
      */
     public void delete(UUID messageId, CompositionElementDto compositionElement, InstanceElementDto instanceElement) {
         cleanExecution(instanceElement.elementId(), messageId);
-        var result = executor.submit(() -> this.deleteProcess(compositionElement, instanceElement));
+        var result = submit(compositionElement, () -> this.deleteProcess(compositionElement, instanceElement));
         executionMap.put(instanceElement.elementId(), result);
         LOGGER.info("Delete process successfully started on the participant for {}", instanceElement.elementId());
     }
@@ -220,7 +235,7 @@ public class ThreadHandler implements Closeable {
     public void update(UUID messageId, CompositionElementDto compositionElement, InstanceElementDto instanceElement,
                        InstanceElementDto instanceElementUpdated) {
         cleanExecution(instanceElement.elementId(), messageId);
-        var result = executor.submit(() ->
+        var result = submit(compositionElement, () ->
             this.updateProcess(compositionElement, instanceElement, instanceElementUpdated));
         executionMap.put(instanceElement.elementId(), result);
         LOGGER.info("Update process successfully started on the participant for {}", instanceElement.elementId());
@@ -307,6 +322,41 @@ public class ThreadHandler implements Closeable {
         }
     }
 
+    private Future<?> submit(CompositionElementDto compositionElement, Runnable task) {
+        if (!virtualThreads) {
+            return executor.submit(task);
+        }
+        var limit = elementTypeLimits.computeIfAbsent(getElementType(compositionElement),
+                key -> new Semaphore(maxConcurrentPerElementType));
+        return executor.submit(() -> {
+            try {
+                limit.acquire();
+            } catch (InterruptedException e) {
+                // cancelled by cleanExecution while waiting for a free slot
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                task.run();
+            } finally {
+                limit.release();
+            }
+        });
+    }
+
+    private String getElementType(CompositionElementDto compositionElement) {
+        if (compositionElement == null || compositionElement.elementDefinitionId() == null) {
+            return "";
+        }
+        var acDefinition = cacheProvider.getAcElementsDefinitions().get(compositionElement.compositionId());
+        var definition = acDefinition != null
+                ? acDefinition.getElements().get(compositionElement.elementDefinitionId()) : null;
+        if (definition != null && definition.getAutomationCompositionElementToscaNodeTemplate() != null) {
+            return definition.getAutomationCompositionElementToscaNodeTemplate().getType();
+        }
+        return compositionElement.elementDefinitionId().getName();
+    }
+
     /**
      * Closes this stream and releases any system resources associated
      * with it. If the stream is already closed then invoking this
@@ -333,7 +383,7 @@ public class ThreadHandler implements Closeable {
         CompositionElementDto compositionElementTarget, InstanceElementDto instanceElement,
         InstanceElementDto instanceElementMigrate, int stage) {
         cleanExecution(instanceElement.elementId(), messageId);
-        var result = executor.submit(() ->
+        var result = submit(compositionElement, () ->
             this.migrateProcess(compositionElement, compositionElementTarget,
                 instanceElement, instanceElementMigrate, stage));
         executionMap.put(instanceElement.elementId(), result);
@@ -369,7 +419,7 @@ public class ThreadHandler implements Closeable {
         CompositionElementDto compositionElementTarget, InstanceElementDto instanceElement,
         InstanceElementDto instanceElementMigrate) {
         cleanExecution(instanceElement.elementId(), messageId);
-        var result = executor.submit(() ->
+        var result = submit(compositionElement, () ->
             this.migratePrecheckProcess(compositionElement, compositionElementTarget, instanceElement,
                 instanceElementMigrate));
         executionMap.put(instanceElement.elementId(), result);
@@ -403,7 +453,7 @@ public class ThreadHandler implements Closeable {
     public void review(UUID messageId, CompositionElementDto compositionElement,
         InstanceElementDto instanceElement) {
         cleanExecution(instanceElement.elementId(), messageId);
-        var result = executor.submit(() -> this.reviewProcess(compositionElement, instanceElement));
+        var result = submit(compositionElement, () -> this.reviewProcess(compositionElement, instanceElement));
         executionMap.put(instanceElement.elementId(), result);
         LOGGER.info("Review process successfully started on the participant for {}", instanceElement.elementId());
     }
@@ -432,7 +482,7 @@ public class ThreadHandler implements Closeable {
     public void prepare(UUID messageId, CompositionElementDto compositionElement,
         InstanceElementDto instanceElement, int stage) {
         cleanExecution(instanceElement.elementId(), messageId);
-        var result = executor.submit(() -> this.prepareProcess(compositionElement, instanceElement, stage));
+        var result = submit(compositionElement, () -> this.prepareProcess(compositionElement, instanceElement, stage));
         executionMap.put(instanceElement.elementId(), result);
         LOGGER.info("Prepare process successfully started on the participant for {}", instanceElement.elementId());
     }
@@ -464,7 +514,7 @@ public class ThreadHandler implements Closeable {
             CompositionElementDto compositionElementRollback, InstanceElementDto instanceElement,
             InstanceElementDto instanceElementRollback, int stage) {
         cleanExecution(instanceElement.elementId(), messageId);
-        var result = executor.submit(() ->
+        var result = submit(compositionElement, () ->
                 this.rollbackProcess(compositionElement, compositionElementRollback, instanceElement,
                         instanceElementRollback, stage));
         executionMap.put(instanceElement.elementId(), result);
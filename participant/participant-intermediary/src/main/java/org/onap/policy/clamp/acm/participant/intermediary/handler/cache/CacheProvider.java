@@ -78,7 +78,7 @@ public class CacheProvider {
     private final Map<UUID, UUID> msgIdentification = new ConcurrentHashMap<>();
 
     @Getter
-    private final Map<UUID, AutomationCompositionMsg<?>> messagesOnHold = new HashMap<>();
+    private final Map<UUID, AutomationCompositionMsg<?>> messagesOnHold = new ConcurrentHashMap<>();
 
     /**
      * Constructor.
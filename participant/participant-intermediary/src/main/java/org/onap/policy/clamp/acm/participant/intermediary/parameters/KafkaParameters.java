@@ -23,11 +23,13 @@ package org.onap.policy.clamp.acm.participant.intermediary.parameters;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
+import org.onap.policy.clamp.models.acm.utils.serialization.ParticipantMessageFormat;
 
 /**
  * Kafka connection parameters for ACM participant intermediary.
@@ -83,6 +85,12 @@ public class KafkaParameters {
         @NotBlank
         private String groupId;
 
+        /**
+         * Discard the records addressed to other participants using the routing headers,
+         * before the payload is deserialized.
+         */
+        private boolean headerFiltering = true;
+
         /**
          * Additional consumer-specific Kafka properties.
          * Equivalent to spring.kafka.consumer.properties.*.
@@ -93,6 +101,41 @@ public class KafkaParameters {
     @Getter
     @Setter
     public static class ProducerParameters {
+        /**
+         * Publish without waiting for the broker acknowledgement of each message.
+         * Failures are logged by the completion callback.
+         */
+        private boolean async = false;
+
+        /**
+         * Maximum number of asynchronous messages waiting for a broker acknowledgement.
+         * The publisher blocks when the limit is reached.
+         */
+        @Positive
+        private int maxInFlight = 100;
+
+        /**
+         * Optional producer linger.ms, the time to wait for more messages to fill a batch.
+         */
+        private Integer lingerMs;
+
+        /**
+         * Optional producer batch.size in bytes.
+         */
+        private Integer batchSize;
+
+        /**
+         * Wire format of the messages sent by the participant, JSON or SMILE.
+         * ACM-runtime and the participants decode both formats using the content type header.
+         */
+        @NotNull
+        private ParticipantMessageFormat messageFormat = ParticipantMessageFormat.JSON;
+
+        /**
+         * Optional producer compression.type, for example zstd.
+         */
+        private String compressionType;
+
         /**
          * Additional producer-specific Kafka properties.
          * Equivalent to spring.kafka.producer.properties.*.
@@ -24,6 +24,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import java.util.List;
 import java.util.UUID;
 import lombok.Getter;
@@ -54,6 +55,21 @@ public class ParticipantIntermediaryParameters {
     @Positive
     private int threadPoolSize = 10;
 
+    // Execute each element operation on its own virtual thread instead of the thread pool
+    private boolean virtualThreads = false;
+
+    // Maximum number of concurrent operations per element type when virtual threads are used
+    @Positive
+    private int maxConcurrentPerElementType = 100;
+
+    // Threads executing the messages in order per automation composition, 0 executes them on the listener thread
+    @PositiveOrZero
+    private int msgThreadPoolSize = 0;
+
+    // Maximum number of messages waiting for execution, the listener waits when the limit is reached
+    @Positive
+    private int maxPendingMsgs = 100;
+
     @NotNull
     @Valid
     private KafkaParameters kafka = new KafkaParameters();
@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2024 Nordix Foundation.
+ *  Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,4 +44,11 @@ public class Topics {
     @NotNull
     @Valid
     private String syncTopic;
+
+    // Also consume the operation topic dedicated to this participant, see participantTopics in ACM-runtime
+    private boolean participantTopic = false;
+
+    public Topics(String operationTopic, String syncTopic) {
+        this(operationTopic, syncTopic, false);
+    }
 }
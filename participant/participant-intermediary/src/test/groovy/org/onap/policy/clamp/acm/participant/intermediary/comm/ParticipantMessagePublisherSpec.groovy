@@ -25,12 +25,15 @@ import ch.qos.logback.classic.Logger
 import ch.qos.logback.classic.spi.ILoggingEvent
 import ch.qos.logback.core.read.ListAppender
 import java.util.concurrent.CompletableFuture
+import org.onap.policy.clamp.acm.participant.intermediary.parameters.ParticipantIntermediaryParameters
+import org.onap.policy.clamp.acm.participant.intermediary.parameters.ParticipantParameters
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.AutomationCompositionDeployAck
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantDeregister
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantPrimeAck
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantRegister
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantReqSync
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantStatus
+import org.onap.policy.clamp.models.acm.utils.BoundedKafkaSender
 import org.slf4j.LoggerFactory
 import org.springframework.kafka.core.KafkaTemplate
 import org.springframework.kafka.support.SendResult
@@ -46,8 +49,19 @@ class ParticipantMessagePublisherSpec extends Specification {
     ParticipantMessagePublisher publisher
 
     def setup() {
-        publisher = new ParticipantMessagePublisher(kafkaTemplate)
-        publisher.operationTopic = TOPIC  // Note groovy allows setting private fields directly
+        publisher = createPublisher(false)
+    }
+
+    private ParticipantMessagePublisher createPublisher(boolean async) {
+        def intermediaryParameters = new ParticipantIntermediaryParameters()
+        intermediaryParameters.kafka.producer.async = async
+        intermediaryParameters.kafka.producer.maxInFlight = 1
+        ParticipantParameters parameters = Stub() {
+            getIntermediaryParameters() >> intermediaryParameters
+        }
+        def result = new ParticipantMessagePublisher(kafkaTemplate, parameters)
+        result.operationTopic = TOPIC  // Note groovy allows setting private fields directly
+        return result
     }
 
     def "send ParticipantStatus with participantId as partition key"() {
@@ -129,7 +143,7 @@ class ParticipantMessagePublisherSpec extends Specification {
 
     def "log error and do not throw when send fails"() {
         given: 'logging is captured'
-        def logger = (Logger) LoggerFactory.getLogger(ParticipantMessagePublisher)
+        def logger = (Logger) LoggerFactory.getLogger(BoundedKafkaSender)
         def appender = new ListAppender<ILoggingEvent>()
         appender.start()
         logger.addAppender(appender)
@@ -149,6 +163,19 @@ class ParticipantMessagePublisherSpec extends Specification {
         logger.detachAppender(appender)
     }
 
+    def "async send does not wait for the acknowledgement"() {
+        given:
+        def asyncPublisher = createPublisher(true)
+        def message = new ParticipantStatus(participantId: PARTICIPANT_ID)
+
+        when: 'the message is never acknowledged'
+        asyncPublisher.sendParticipantStatus(message)
+
+        then: 'the send returns and holds the only in-flight permit'
+        1 * kafkaTemplate.send(TOPIC, PARTICIPANT_ID.toString(), message) >> new CompletableFuture<SendResult>()
+        asyncPublisher.sender.inFlight.availablePermits() == 0
+    }
+
     private static CompletableFuture<SendResult> completedFuture() {
         return CompletableFuture.completedFuture(null)
     }
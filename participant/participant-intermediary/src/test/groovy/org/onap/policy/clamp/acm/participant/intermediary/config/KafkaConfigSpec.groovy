@@ -21,9 +21,16 @@
 package org.onap.policy.clamp.acm.participant.intermediary.config
 
 import java.time.Duration
+import org.apache.kafka.clients.consumer.ConsumerRecord
+import org.apache.kafka.common.header.internals.RecordHeaders
+import org.onap.policy.clamp.acm.participant.intermediary.handler.cache.CacheProvider
 import org.onap.policy.clamp.acm.participant.intermediary.parameters.KafkaParameters
 import org.onap.policy.clamp.acm.participant.intermediary.parameters.ParticipantIntermediaryParameters
 import org.onap.policy.clamp.acm.participant.intermediary.parameters.ParticipantParameters
+import org.onap.policy.clamp.acm.participant.intermediary.parameters.Topics
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantPrime
+import org.onap.policy.clamp.models.acm.utils.serialization.ParticipantMessageFormat
+import org.onap.policy.clamp.models.acm.utils.serialization.ParticipantMessageRouting
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory
 import org.springframework.kafka.core.DefaultKafkaProducerFactory
@@ -34,6 +41,9 @@ class KafkaConfigSpec extends Specification {
 
     KafkaConfig kafkaConfig
     ParticipantParameters participantParameters
+    CacheProvider cacheProvider
+    UUID participantId = UUID.randomUUID()
+    UUID replicaId = UUID.randomUUID()
 
     def setup() {
         kafkaConfig = new KafkaConfig()
@@ -51,15 +61,41 @@ class KafkaConfigSpec extends Specification {
                 )
         )
 
-        def intermediaryParams = new ParticipantIntermediaryParameters(kafka: kafkaParams)
+        def intermediaryParams = new ParticipantIntermediaryParameters(kafka: kafkaParams,
+                participantId: participantId, topics: new Topics("policy-acruntime-participant", "acm-ppnt-sync"))
 
         participantParameters = Mock(ParticipantParameters)
         participantParameters.getIntermediaryParameters() >> intermediaryParams
+
+        cacheProvider = Stub(CacheProvider)
+        cacheProvider.getParticipantId() >> participantId
+        cacheProvider.getReplicaId() >> replicaId
     }
 
     def "create consumer factory"() {
         expect:
-        kafkaConfig.acmConsumerFactory(participantParameters) instanceof DefaultKafkaConsumerFactory
+        kafkaConfig.acmConsumerFactory(participantParameters, cacheProvider) instanceof DefaultKafkaConsumerFactory
+    }
+
+    def "create consumer factory with header filtering"() {
+        when:
+        def consumerFactory = kafkaConfig.acmConsumerFactory(participantParameters, cacheProvider)
+
+        then:
+        consumerFactory.configurationProperties[ParticipantMessageRouting.PARTICIPANT_ID_CONFIG] ==
+                participantId.toString()
+        consumerFactory.configurationProperties[ParticipantMessageRouting.REPLICA_ID_CONFIG] == replicaId.toString()
+    }
+
+    def "create consumer factory without header filtering"() {
+        given:
+        participantParameters.getIntermediaryParameters().kafka.consumer.headerFiltering = false
+
+        when:
+        def consumerFactory = kafkaConfig.acmConsumerFactory(participantParameters, cacheProvider)
+
+        then:
+        !consumerFactory.configurationProperties.containsKey(ParticipantMessageRouting.PARTICIPANT_ID_CONFIG)
     }
 
     def "create producer factory"() {
@@ -67,6 +103,32 @@ class KafkaConfigSpec extends Specification {
         kafkaConfig.acmProducerFactory(participantParameters) instanceof DefaultKafkaProducerFactory
     }
 
+    def "create producer factory with batching settings"() {
+        given:
+        participantParameters.getIntermediaryParameters().kafka.producer.lingerMs = 5
+        participantParameters.getIntermediaryParameters().kafka.producer.batchSize = 65536
+
+        when:
+        def producerFactory = kafkaConfig.acmProducerFactory(participantParameters)
+
+        then:
+        producerFactory.configurationProperties["linger.ms"] == 5
+        producerFactory.configurationProperties["batch.size"] == 65536
+    }
+
+    def "create producer factory with binary format and compression"() {
+        given:
+        participantParameters.getIntermediaryParameters().kafka.producer.messageFormat = ParticipantMessageFormat.SMILE
+        participantParameters.getIntermediaryParameters().kafka.producer.compressionType = "zstd"
+
+        when:
+        def producerFactory = kafkaConfig.acmProducerFactory(participantParameters)
+
+        then:
+        producerFactory.configurationProperties[ParticipantMessageFormat.FORMAT_CONFIG] == "SMILE"
+        producerFactory.configurationProperties["compression.type"] == "zstd"
+    }
+
     def "create KafkaTemplate with observation enabled"() {
         given:
         def producerFactory = kafkaConfig.acmProducerFactory(participantParameters)
@@ -81,13 +143,46 @@ class KafkaConfigSpec extends Specification {
 
     def "create listener container factory with observation enabled"() {
         given:
-        def consumerFactory = kafkaConfig.acmConsumerFactory(participantParameters)
+        def consumerFactory = kafkaConfig.acmConsumerFactory(participantParameters, cacheProvider)
 
         when:
-        def factory = kafkaConfig.acmListenerContainerFactory(consumerFactory, participantParameters)
+        def factory = kafkaConfig.acmListenerContainerFactory(consumerFactory, participantParameters, cacheProvider)
 
         then:
         factory instanceof ConcurrentKafkaListenerContainerFactory
         factory.containerProperties.observationEnabled == true
     }
+
+    def "listener container factory filters records addressed to other participants"() {
+        given:
+        def consumerFactory = kafkaConfig.acmConsumerFactory(participantParameters, cacheProvider)
+        def factory = kafkaConfig.acmListenerContainerFactory(consumerFactory, participantParameters, cacheProvider)
+        def otherHeaders = new RecordHeaders()
+        ParticipantMessageRouting.addHeaders(otherHeaders, new ParticipantPrime(participantId: UUID.randomUUID()))
+        def ownHeaders = new RecordHeaders()
+        ParticipantMessageRouting.addHeaders(ownHeaders, new ParticipantPrime(participantId: participantId))
+
+        expect:
+        factory.recordFilterStrategy.filter(createRecord(otherHeaders))
+        !factory.recordFilterStrategy.filter(createRecord(ownHeaders))
+        !factory.recordFilterStrategy.filter(createRecord(new RecordHeaders()))
+    }
+
+    def "operation topics include the participant topic when enabled"() {
+        expect:
+        kafkaConfig.acmOperationTopics(participantParameters) == ["policy-acruntime-participant"] as String[]
+
+        when:
+        participantParameters.getIntermediaryParameters().topics.participantTopic = true
+
+        then:
+        kafkaConfig.acmOperationTopics(participantParameters) ==
+                ["policy-acruntime-participant", "policy-acruntime-participant-" + participantId] as String[]
+    }
+
+    private static ConsumerRecord<String, Object> createRecord(RecordHeaders headers) {
+        def consumerRecord = new ConsumerRecord<String, Object>("topic", 0, 0L, "key", null)
+        headers.each { consumerRecord.headers().add(it) }
+        consumerRecord
+    }
 }
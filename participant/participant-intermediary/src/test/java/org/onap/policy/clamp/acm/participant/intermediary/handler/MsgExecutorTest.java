@@ -28,9 +28,13 @@ import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.clamp.acm.participant.intermediary.comm.ParticipantMessagePublisher;
 import org.onap.policy.clamp.acm.participant.intermediary.handler.cache.AutomationCompositionMsg;
@@ -48,7 +52,7 @@ class MsgExecutorTest {
         var parameters = CommonTestData.getParticipantParameters();
         var cacheProvider = new CacheProvider(parameters);
         var publisher = mock(ParticipantMessagePublisher.class);
-        var msgExecutor = new MsgExecutor(cacheProvider, publisher);
+        var msgExecutor = new MsgExecutor(cacheProvider, publisher, parameters);
         var automationCompositionHandler = mock(AutomationCompositionHandler.class);
         var updateMsg = new AutomationCompositionDeploy();
         var acMsg = new AutomationCompositionMsg<>(
@@ -62,7 +66,7 @@ class MsgExecutorTest {
         var parameters = CommonTestData.getParticipantParameters();
         var cacheProvider = new CacheProvider(parameters);
         var publisher = mock(ParticipantMessagePublisher.class);
-        var msgExecutor = new MsgExecutor(cacheProvider, publisher);
+        var msgExecutor = new MsgExecutor(cacheProvider, publisher, parameters);
         var automationCompositionHandler = mock(AutomationCompositionHandler.class);
         var updateMsg = new AutomationCompositionDeploy();
         var acMsg = new AutomationCompositionMsg<>(
@@ -119,7 +123,7 @@ class MsgExecutorTest {
         assertThat(cacheProvider.getMessagesOnHold()).isEmpty();
 
         var publisher = mock(ParticipantMessagePublisher.class);
-        var msgExecutor = new MsgExecutor(cacheProvider, publisher);
+        var msgExecutor = new MsgExecutor(cacheProvider, publisher, parameters);
         msgExecutor.execute(acMsg);
         verify(automationCompositionHandler, times(0)).handleAutomationCompositionStateChange(stateChangeMsg);
         verify(publisher).sendParticipantReqSync(any());
@@ -144,4 +148,38 @@ class MsgExecutorTest {
         verify(automationCompositionHandler, timeout(200)).handleAutomationCompositionStateChange(stateChangeMsg);
         await().atMost(200, TimeUnit.MILLISECONDS).until(() -> cacheProvider.getMessagesOnHold().isEmpty());
     }
+
+    @Test
+    void testExecuteOrderedPerInstance() throws InterruptedException {
+        var parameters = CommonTestData.getParticipantParameters();
+        parameters.getIntermediaryParameters().setMsgThreadPoolSize(2);
+        var cacheProvider = new CacheProvider(parameters);
+        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class), parameters);
+
+        var instanceId = UUID.randomUUID();
+        var blocked = new CountDownLatch(1);
+        var executed = Collections.synchronizedList(new ArrayList<String>());
+        msgExecutor.execute(createMsg(instanceId, msg -> {
+            await().atMost(5, TimeUnit.SECONDS).until(() -> blocked.getCount() == 0);
+            executed.add("first");
+        }));
+        msgExecutor.execute(createMsg(instanceId, msg -> executed.add("second")));
+
+        // a different instance is not blocked by the slow one
+        msgExecutor.execute(createMsg(UUID.randomUUID(), msg -> executed.add("other")));
+        await().atMost(1, TimeUnit.SECONDS).until(() -> executed.contains("other"));
+        assertThat(executed).containsExactly("other");
+
+        blocked.countDown();
+        await().atMost(1, TimeUnit.SECONDS).until(() -> executed.size() == 3);
+        assertThat(executed).containsExactly("other", "first", "second");
+        msgExecutor.close();
+    }
+
+    private static AutomationCompositionMsg<AutomationCompositionDeploy> createMsg(UUID instanceId,
+            Consumer<AutomationCompositionDeploy> consumer) {
+        var deployMsg = new AutomationCompositionDeploy();
+        deployMsg.setAutomationCompositionId(instanceId);
+        return new AutomationCompositionMsg<>(consumer, deployMsg);
+    }
 }
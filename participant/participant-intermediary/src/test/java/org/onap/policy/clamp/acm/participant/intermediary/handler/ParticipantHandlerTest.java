@@ -34,12 +34,14 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedConstruction;
 import org.mockito.Mockito;
 import org.onap.policy.clamp.acm.participant.intermediary.comm.ParticipantMessagePublisher;
+import org.onap.policy.clamp.acm.participant.intermediary.handler.cache.AcDefinition;
 import org.onap.policy.clamp.acm.participant.intermediary.handler.cache.CacheProvider;
 import org.onap.policy.clamp.acm.participant.intermediary.main.parameters.CommonTestData;
 import org.onap.policy.clamp.models.acm.concepts.AcElementDeploy;
@@ -92,7 +94,8 @@ class ParticipantHandlerTest {
         when(cacheProvider.isInstanceUpdated(automationCompositionDeploy.getAutomationCompositionId(),
                 automationCompositionDeploy.getRevisionIdInstance())).thenReturn(true);
         var acHandler = mock(AutomationCompositionHandler.class);
-        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class));
+        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class),
+                CommonTestData.getParticipantParameters());
         var participantHandler = new ParticipantHandler(acHandler, mock(AcLockHandler.class),
                 mock(AcSubStateHandler.class), mock(AcDefinitionHandler.class), mock(ParticipantMessagePublisher.class),
                 cacheProvider, msgExecutor);
@@ -113,7 +116,8 @@ class ParticipantHandlerTest {
         acStateChange.setLockOrderedState(LockOrder.NONE);
         var acHandler = mock(AutomationCompositionHandler.class);
         var acLockHandler = mock(AcLockHandler.class);
-        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class));
+        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class),
+                CommonTestData.getParticipantParameters());
         var participantHandler = new ParticipantHandler(acHandler, acLockHandler, mock(AcSubStateHandler.class),
                 mock(AcDefinitionHandler.class), mock(ParticipantMessagePublisher.class), cacheProvider, msgExecutor);
         participantHandler.handleAutomationCompositionStateChange(acStateChange);
@@ -149,7 +153,8 @@ class ParticipantHandlerTest {
 
         var acHandler = mock(AutomationCompositionHandler.class);
         var acSubStateHandler = mock(AcSubStateHandler.class);
-        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class));
+        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class),
+                CommonTestData.getParticipantParameters());
         var participantHandler = new ParticipantHandler(acHandler, mock(AcLockHandler.class),
                 acSubStateHandler, mock(AcDefinitionHandler.class), mock(ParticipantMessagePublisher.class),
                 cacheProvider, msgExecutor);
@@ -203,7 +208,8 @@ class ParticipantHandlerTest {
 
         var acHandler = mock(AutomationCompositionHandler.class);
         var acSubStateHandler = mock(AcSubStateHandler.class);
-        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class));
+        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class),
+                CommonTestData.getParticipantParameters());
         var participantHandler = new ParticipantHandler(acHandler, mock(AcLockHandler.class),
                 acSubStateHandler, mock(AcDefinitionHandler.class), mock(ParticipantMessagePublisher.class),
                 cacheProvider, msgExecutor);
@@ -242,7 +248,8 @@ class ParticipantHandlerTest {
 
         var acHandler = mock(AutomationCompositionHandler.class);
         var acSubStateHandler = mock(AcSubStateHandler.class);
-        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class));
+        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class),
+                CommonTestData.getParticipantParameters());
         var participantHandler = new ParticipantHandler(acHandler, mock(AcLockHandler.class),
                 acSubStateHandler, mock(AcDefinitionHandler.class), mock(ParticipantMessagePublisher.class),
                 cacheProvider, msgExecutor);
@@ -269,7 +276,8 @@ class ParticipantHandlerTest {
                 propertyUpdateMsg.getRevisionIdInstance())).thenReturn(true);
 
         var acHandler = mock(AutomationCompositionHandler.class);
-        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class));
+        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class),
+                CommonTestData.getParticipantParameters());
         var participantHandler = new ParticipantHandler(acHandler, mock(AcLockHandler.class),
                 mock(AcSubStateHandler.class), mock(AcDefinitionHandler.class), mock(ParticipantMessagePublisher.class),
                 cacheProvider, msgExecutor);
@@ -286,7 +294,8 @@ class ParticipantHandlerTest {
 
         var cacheProvider = mock(CacheProvider.class);
         var acSubStateHandler = mock(AcSubStateHandler.class);
-        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class));
+        var msgExecutor = new MsgExecutor(cacheProvider, mock(ParticipantMessagePublisher.class),
+                CommonTestData.getParticipantParameters());
         var participantHandler = new ParticipantHandler(mock(AutomationCompositionHandler.class),
                 mock(AcLockHandler.class), acSubStateHandler, mock(AcDefinitionHandler.class),
                 mock(ParticipantMessagePublisher.class), cacheProvider, msgExecutor);
@@ -333,6 +342,35 @@ class ParticipantHandlerTest {
         assertFalse(captor.getValue().getIntermediaryVersion().isBlank());
     }
 
+    @Test
+    void sendParticipantRegisterWithRevisions() {
+        var acDefinition = new AcDefinition();
+        acDefinition.setCompositionId(UUID.randomUUID());
+        acDefinition.setRevisionId(UUID.randomUUID());
+        var automationComposition = new AutomationComposition();
+        automationComposition.setInstanceId(UUID.randomUUID());
+        automationComposition.setRevisionId(UUID.randomUUID());
+        var cacheProvider = mock(CacheProvider.class);
+        when(cacheProvider.getParticipantId()).thenReturn(CommonTestData.getParticipantId());
+        when(cacheProvider.getSupportedAcElementTypes()).thenReturn(List.of(new ParticipantSupportedElementType()));
+        when(cacheProvider.getAcElementsDefinitions())
+                .thenReturn(Map.of(acDefinition.getCompositionId(), acDefinition));
+        when(cacheProvider.getAutomationCompositions())
+                .thenReturn(Map.of(automationComposition.getInstanceId(), automationComposition));
+        var publisher = mock(ParticipantMessagePublisher.class);
+        var participantHandler = new ParticipantHandler(mock(AutomationCompositionHandler.class),
+            mock(AcLockHandler.class), mock(AcSubStateHandler.class), mock(AcDefinitionHandler.class), publisher,
+            cacheProvider, mock(MsgExecutor.class));
+
+        participantHandler.sendParticipantRegister();
+        var captor = org.mockito.ArgumentCaptor.forClass(ParticipantRegister.class);
+        verify(publisher).sendParticipantRegister(captor.capture());
+        assertEquals(Map.of(acDefinition.getCompositionId(), acDefinition.getRevisionId()),
+                captor.getValue().getCompositionRevisions());
+        assertEquals(Map.of(automationComposition.getInstanceId(), automationComposition.getRevisionId()),
+                captor.getValue().getInstanceRevisions());
+    }
+
     @Test
     void getVersionTest() {
         var participantHandler = new ParticipantHandler(mock(AutomationCompositionHandler.class),
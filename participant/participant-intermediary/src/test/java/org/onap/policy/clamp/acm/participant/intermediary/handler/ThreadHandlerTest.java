@@ -21,8 +21,10 @@
 package org.onap.policy.clamp.acm.participant.intermediary.handler;
 
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
@@ -30,6 +32,8 @@ import jakarta.ws.rs.core.Response.Status;
 import java.io.IOException;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.clamp.acm.participant.intermediary.api.AutomationCompositionElementListener;
 import org.onap.policy.clamp.acm.participant.intermediary.api.ParticipantIntermediaryApi;
@@ -339,4 +343,49 @@ class ThreadHandlerTest {
                 "Automation composition element migrate precheck failed");
         }
     }
+
+    @Test
+    void testVirtualThreadsElementTypeLimit() throws PfModelException, IOException, InterruptedException {
+        var listener = mock(AutomationCompositionElementListener.class);
+        var intermediaryApi = mock(ParticipantIntermediaryApi.class);
+        var parameters = CommonTestData.getParticipantParameters();
+        parameters.getIntermediaryParameters().setVirtualThreads(true);
+        parameters.getIntermediaryParameters().setMaxConcurrentPerElementType(1);
+        try (var threadHandler = new ThreadHandler(listener, intermediaryApi, mock(CacheProvider.class),
+                parameters)) {
+
+            Map<String, Object> properties = Map.of("key", "value");
+            var compositionElement = new CompositionElementDto(UUID.randomUUID(),
+                new ToscaConceptIdentifier("typeA", "1.0.0"), properties, properties);
+            var instanceElement1 = new InstanceElementDto(UUID.randomUUID(), UUID.randomUUID(),
+                properties, properties);
+            var release = new CountDownLatch(1);
+            doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(listener)
+                .deploy(compositionElement, instanceElement1);
+            threadHandler.deploy(UUID.randomUUID(), compositionElement, instanceElement1);
+            verify(listener, timeout(TIMEOUT)).deploy(compositionElement, instanceElement1);
+
+            // same element type waits for a free slot, another element type does not
+            var instanceElement2 = new InstanceElementDto(UUID.randomUUID(), UUID.randomUUID(),
+                properties, properties);
+            threadHandler.deploy(UUID.randomUUID(), compositionElement, instanceElement2);
+            var otherElement = new CompositionElementDto(UUID.randomUUID(),
+                new ToscaConceptIdentifier("typeB", "1.0.0"), properties, properties);
+            var otherInstanceElement = new InstanceElementDto(UUID.randomUUID(), UUID.randomUUID(),
+                properties, properties);
+            threadHandler.deploy(UUID.randomUUID(), otherElement, otherInstanceElement);
+            verify(listener, timeout(TIMEOUT)).deploy(otherElement, otherInstanceElement);
+            verify(listener, never()).deploy(compositionElement, instanceElement2);
+
+            // a waiting operation can still be cancelled
+            var instanceElement3 = new InstanceElementDto(UUID.randomUUID(), UUID.randomUUID(),
+                properties, properties);
+            threadHandler.deploy(UUID.randomUUID(), compositionElement, instanceElement3);
+            threadHandler.cleanExecution(instanceElement3.elementId(), UUID.randomUUID());
+
+            release.countDown();
+            verify(listener, timeout(TIMEOUT)).deploy(compositionElement, instanceElement2);
+            verify(listener, never()).deploy(compositionElement, instanceElement3);
+        }
+    }
 }
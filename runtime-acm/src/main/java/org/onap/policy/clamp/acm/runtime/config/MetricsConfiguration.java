@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2022, 2024 Nordix Foundation.
+ *  Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +22,12 @@
 package org.onap.policy.clamp.acm.runtime.config;
 
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.onap.policy.clamp.acm.runtime.supervision.SupervisionAspect;
+import org.onap.policy.clamp.models.acm.persistence.provider.AcDefinitionProvider;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.BeanPostProcessor;
@@ -51,4 +57,34 @@ public class MetricsConfiguration {
     public TimedAspect timedAspect(MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    /**
+     * Register the hit and miss counters of the composition definition cache.
+     *
+     * @param acDefinitionProvider the AcDefinitionProvider
+     * @return MeterBinder
+     */
+    @Bean
+    public MeterBinder acDefinitionCacheMetrics(AcDefinitionProvider acDefinitionProvider) {
+        return registry -> {
+            FunctionCounter.builder("acm.definition.cache", acDefinitionProvider, AcDefinitionProvider::getCacheHits)
+                    .description("Composition definitions read with a cached service template")
+                    .tag("result", "hit").register(registry);
+            FunctionCounter.builder("acm.definition.cache", acDefinitionProvider, AcDefinitionProvider::getCacheMisses)
+                    .description("Composition definitions read with the service template decoded from the database")
+                    .tag("result", "miss").register(registry);
+        };
+    }
+
+    /**
+     * Register the gauge of the scans waiting to be executed.
+     *
+     * @param supervisionAspect the SupervisionAspect
+     * @return MeterBinder
+     */
+    @Bean
+    public MeterBinder supervisionQueueMetrics(SupervisionAspect supervisionAspect) {
+        return registry -> Gauge.builder("acm.scan.queue", supervisionAspect, SupervisionAspect::getQueueSize)
+                .description("Supervision scans waiting to be executed").register(registry);
+    }
 }
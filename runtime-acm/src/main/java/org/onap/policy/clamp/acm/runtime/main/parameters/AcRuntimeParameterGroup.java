@@ -21,6 +21,7 @@
 package org.onap.policy.clamp.acm.runtime.main.parameters;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
@@ -51,4 +52,11 @@ public class AcRuntimeParameterGroup {
 
     private boolean topicValidation = false;
     private boolean kafkaHealthCheck = false;
+
+    // Publish without waiting for the broker acknowledgement of each message
+    private boolean asyncPublish = false;
+
+    // Maximum number of asynchronous messages waiting for a broker acknowledgement per publisher
+    @Min(1)
+    private int maxInFlightMessages = 100;
 }
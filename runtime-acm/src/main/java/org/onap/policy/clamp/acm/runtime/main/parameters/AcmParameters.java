@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2023,2025 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +19,7 @@
 
 package org.onap.policy.clamp.acm.runtime.main.parameters;
 
+import jakarta.validation.constraints.Min;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.validation.annotation.Validated;
@@ -37,4 +39,19 @@ public class AcmParameters {
 
     private boolean enableEncryption = false;
 
+    // Number of hash shards the in-transition ids are split into by the supervision scanner
+    @Min(1)
+    private int scanShards = 1;
+
+    // Number of worker threads that scan the shards in parallel
+    @Min(1)
+    private int scanThreadPoolSize = 1;
+
+    // Scan only the ids referenced by the incoming messages; the scheduled scan remains as a safety net
+    private boolean incrementalScan = false;
+
+    // Number of worker threads that prepare the restart sync of the participants in parallel
+    @Min(1)
+    private int restartThreadPoolSize = 4;
+
 }
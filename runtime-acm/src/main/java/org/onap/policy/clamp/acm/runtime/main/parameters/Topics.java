@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2024 Nordix Foundation.
+ *  Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,4 +34,7 @@ public class Topics {
 
     private String operationTopic;
     private String syncTopic;
+
+    // Send the messages targeted at a participant to its dedicated operation topic
+    private boolean participantTopics = false;
 }
@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -70,12 +71,19 @@ public class EncryptionUtils {
     private static final String PBK_ALGORITHM = "PBKDF2WithHmacSHA256";
     private static final String MARKER = "ENCRYPTED:";
     private static final String SENSITIVE_METADATA = "sensitive";
+    private static final String SALT = "salt";
     private static final int GCM_TAG = 128;
     private static final int IV_LENGTH = 12;
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
     private final String passPhrase;
     private final boolean encryptionEnabled;
 
+    // PBKDF2 is deliberately expensive, the pass phrase and the salt are fixed so the key is derived only once
+    private volatile SecretKey secretKey;
+
+    // Cipher instances are not thread safe, each thread reuses its own instance
+    private final ThreadLocal<Cipher> ciphers = new ThreadLocal<>();
+
     private static final Logger LOGGER = LoggerFactory.getLogger(EncryptionUtils.class);
 
 
@@ -145,41 +153,71 @@ public class EncryptionUtils {
 
     private void findAndDecryptSensitiveData(Map<UUID, AutomationCompositionElement> acElements) {
         for (var acInstanceElement: acElements.values()) {
-            for (var property : acInstanceElement.getProperties().entrySet()) {
-                var propertyVal = property.getValue();
-                if (propertyVal instanceof String propertyValStr && propertyValStr.startsWith(MARKER)) {
-                    var decryptedVal = decrypt(propertyValStr);
-                    acInstanceElement.getProperties().put(property.getKey(), decryptedVal);
-                    LOGGER.debug("Property {} is successfully decrypted", property.getKey());
-                } else {
-                    decryptNested(propertyVal);
+            // the properties can be shared with other elements, they are copied only if something is decrypted
+            var properties = acInstanceElement.getProperties();
+            var decryptedProperties = decryptProperties(properties);
+            if (decryptedProperties != properties) {
+                acInstanceElement.setProperties(decryptedProperties);
+            }
+        }
+    }
+
+    private Map<String, Object> decryptProperties(Map<String, Object> properties) {
+        var result = properties;
+        for (var property : properties.entrySet()) {
+            var propertyVal = property.getValue();
+            Object decryptedVal;
+            if (propertyVal instanceof String propertyValStr && propertyValStr.startsWith(MARKER)) {
+                decryptedVal = decrypt(propertyValStr);
+                LOGGER.debug("Property {} is successfully decrypted", property.getKey());
+            } else {
+                decryptedVal = decryptNested(propertyVal);
+            }
+            if (decryptedVal != propertyVal) {
+                if (result == properties) {
+                    result = new LinkedHashMap<>(properties);
                 }
+                result.put(property.getKey(), decryptedVal);
             }
         }
+        return result;
     }
 
-    private void decryptNested(Object propertyVal) {
+    private Object decryptNested(Object propertyVal) {
         if (propertyVal instanceof List<?> listVal) {
+            List<Object> result = null;
+            var index = 0;
             for (var listEntry : listVal) {
                 if (listEntry instanceof Map<?, ?> tempMap) {
-                    decryptNestedMap(tempMap);
+                    var decryptedMap = decryptNestedMap(tempMap);
+                    if (decryptedMap != tempMap) {
+                        if (result == null) {
+                            result = new ArrayList<>(listVal);
+                        }
+                        result.set(index, decryptedMap);
+                    }
                 }
+                index++;
             }
+            return result != null ? result : propertyVal;
         } else if (propertyVal instanceof Map<?, ?> tempMap) {
-            decryptNestedMap(tempMap);
+            return decryptNestedMap(tempMap);
         }
+        return propertyVal;
     }
 
-    private void decryptNestedMap(Map<?, ?> tempMap) {
-        @SuppressWarnings("unchecked")
-        var nestedMap = (Map<Object, Object>) tempMap;
-        for (var prop : nestedMap.entrySet()) {
+    private Map<?, ?> decryptNestedMap(Map<?, ?> tempMap) {
+        Map<Object, Object> result = null;
+        for (var prop : tempMap.entrySet()) {
             if (prop.getValue() instanceof String nestedStr && nestedStr.startsWith(MARKER)) {
-                var encryptedVal = decrypt(nestedStr);
-                nestedMap.put(prop.getKey(), encryptedVal);
+                if (result == null) {
+                    result = new LinkedHashMap<>(tempMap);
+                }
+                result.put(prop.getKey(), decrypt(nestedStr));
                 LOGGER.debug("Property {} is successfully decrypted", prop.getKey());
             }
         }
+        return result != null ? result : tempMap;
     }
 
     private void encryptNested(ToscaProperty property, Map<?, ?> properties) {
@@ -261,10 +299,19 @@ public class EncryptionUtils {
                 propertyEntity.orElse(null));
     }
 
-    private SecretKey getSecretKey() throws NoSuchAlgorithmException, InvalidKeySpecException {
+    SecretKey getSecretKey() throws NoSuchAlgorithmException, InvalidKeySpecException {
+        var key = secretKey;
+        if (key == null) {
+            // concurrent first calls may both derive the key, they get the same value
+            key = deriveSecretKey();
+            secretKey = key;
+        }
+        return key;
+    }
+
+    private SecretKey deriveSecretKey() throws NoSuchAlgorithmException, InvalidKeySpecException {
         var factory = SecretKeyFactory.getInstance(PBK_ALGORITHM);
-        var salt = "salt";
-        var spec = new PBEKeySpec(passPhrase.toCharArray(), salt.getBytes(), 65536, 256);
+        var spec = new PBEKeySpec(passPhrase.toCharArray(), SALT.getBytes(), 65536, 256);
         return new SecretKeySpec(factory.generateSecret(spec).getEncoded(), "AES");
     }
 
@@ -285,7 +332,11 @@ public class EncryptionUtils {
     protected Cipher getCipher(byte[] iv, int mode) throws NoSuchPaddingException, NoSuchAlgorithmException,
             InvalidKeySpecException, InvalidAlgorithmParameterException, InvalidKeyException {
         var parameterSpec = new GCMParameterSpec(GCM_TAG, iv);
-        var cipher = Cipher.getInstance(ALGORITHM);
+        var cipher = ciphers.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(ALGORITHM);
+            ciphers.set(cipher);
+        }
         cipher.init(mode, getSecretKey(), parameterSpec);
         return cipher;
     }
@@ -106,7 +106,7 @@ public class SupervisionAcHandler {
         automationCompositionProvider.updateAutomationComposition(automationComposition);
         executor.execute(
             () -> {
-                var acToSend = new AutomationComposition(automationComposition);
+                var acToSend = AutomationComposition.snapshotOf(automationComposition);
                 encryptionUtils.decryptInstanceProperties(acToSend.getElements());
                 automationCompositionDeployPublisher.send(acToSend, startPhase, true, acDefinition);
             });
@@ -186,7 +186,7 @@ public class SupervisionAcHandler {
         automationComposition.setPhase(stage);
         automationCompositionProvider.updateAutomationComposition(automationComposition);
         executor.execute(() -> {
-            var acToSend = new AutomationComposition(automationComposition);
+            var acToSend = AutomationComposition.snapshotOf(automationComposition);
             encryptionUtils.decryptInstanceProperties(acToSend.getElements());
             acPreparePublisher.sendPrepare(acToSend, stage, acDefinition);
         });
@@ -304,20 +304,20 @@ public class SupervisionAcHandler {
             return;
         }
 
-        var automationCompositionOpt = automationCompositionProvider
-                .findAutomationComposition(automationCompositionAckMessage.getAutomationCompositionId());
-        if (automationCompositionOpt.isEmpty()) {
+        var acStateOpt = automationCompositionProvider
+                .findAutomationCompositionState(automationCompositionAckMessage.getAutomationCompositionId());
+        if (acStateOpt.isEmpty()) {
             LOGGER.error("AutomationComposition not found in database {}",
                     automationCompositionAckMessage.getAutomationCompositionId());
             return;
         }
-        var automationComposition = automationCompositionOpt.get();
+        var acState = acStateOpt.get();
 
         if (automationCompositionAckMessage.getAutomationCompositionResultMap() == null
                 || automationCompositionAckMessage.getAutomationCompositionResultMap().isEmpty()) {
             // scenario automationComposition has never been deployed
             automationCompositionAckMessage.setAutomationCompositionResultMap(new HashMap<>());
-            for (var element : automationComposition.getElements().values()) {
+            for (var element : acState.getElements().values()) {
                 if (element.getParticipantId().equals(automationCompositionAckMessage.getParticipantId())) {
                     var acElement =
                             new AcElementDeployAck(DeployState.DELETED, LockState.NONE, null, null, Map.of(), true, "");
@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  *  Copyright (C) 2021-2025 Nordix Foundation.
+ *  Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,10 +25,13 @@ import java.io.Closeable;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.annotation.After;
 import org.aspectj.lang.annotation.Aspect;
+import org.onap.policy.clamp.acm.runtime.main.parameters.AcRuntimeParameterGroup;
 import org.onap.policy.clamp.common.acm.utils.AcmThreadFactory;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.AutomationCompositionDeployAck;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantPrimeAck;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -35,18 +39,33 @@ import org.springframework.stereotype.Component;
 
 @Aspect
 @Component
-@RequiredArgsConstructor
 public class SupervisionAspect implements Closeable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SupervisionAspect.class);
 
     private final SupervisionScanner supervisionScanner;
     private final SupervisionParticipantScanner participantScanner;
+    private final boolean incrementalScan;
 
     private final ThreadPoolExecutor executor =
             new ThreadPoolExecutor(1, 1, 0L,
                     TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new AcmThreadFactory());
 
+    /**
+     * Constructor for instantiating SupervisionAspect.
+     *
+     * @param supervisionScanner the SupervisionScanner
+     * @param participantScanner the SupervisionParticipantScanner
+     * @param acRuntimeParameterGroup the parameters for the automation composition runtime
+     */
+    public SupervisionAspect(final SupervisionScanner supervisionScanner,
+            final SupervisionParticipantScanner participantScanner,
+            final AcRuntimeParameterGroup acRuntimeParameterGroup) {
+        this.supervisionScanner = supervisionScanner;
+        this.participantScanner = participantScanner;
+        this.incrementalScan = acRuntimeParameterGroup.getAcmParameters().isIncrementalScan();
+    }
+
     @Scheduled(
             fixedRateString = "${runtime.participantParameters.heartBeatMs}",
             initialDelayString = "${runtime.participantParameters.heartBeatMs}")
@@ -57,20 +76,54 @@ public class SupervisionAspect implements Closeable {
 
     private void executeScan() {
         supervisionScanner.run();
+        supervisionScanner.updateGauges();
         participantScanner.run();
     }
 
+    /**
+     * Get the number of scans waiting in the queue of the executor.
+     *
+     * @return the size of the queue
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
     /**
      * Intercept Messages from participant and run Supervision Scan.
+     * In incremental mode only the compositions and instances referenced by the message are scanned.
+     *
+     * @param message the message received
      */
-    @After("@annotation(MessageIntercept)")
-    public void doCheck() {
-        if (executor.getQueue().size() < 2) {
+    @After("@annotation(MessageIntercept) && args(message)")
+    public void doCheck(Object message) {
+        if (incrementalScan) {
+            scheduleScan(message);
+        } else if (executor.getQueue().size() < 2) {
             LOGGER.info("Add scanning Message");
             executor.execute(supervisionScanner::run);
         }
     }
 
+    private void scheduleScan(Object message) {
+        if (message instanceof AutomationCompositionDeployAck ack) {
+            if (ack.getAutomationCompositionId() != null) {
+                supervisionScanner.scheduleAutomationComposition(ack.getAutomationCompositionId());
+            }
+        } else if (message instanceof ParticipantPrimeAck ack) {
+            if (ack.getCompositionId() != null) {
+                supervisionScanner.scheduleAcDefinition(ack.getCompositionId());
+            }
+        } else if (message instanceof ParticipantStatus status) {
+            for (var instance : status.getAutomationCompositionInfoList()) {
+                supervisionScanner.scheduleAutomationComposition(instance.getAutomationCompositionId());
+            }
+            if (!status.getParticipantDefinitionUpdates().isEmpty() && status.getCompositionId() != null) {
+                supervisionScanner.scheduleAcDefinition(status.getCompositionId());
+            }
+        }
+    }
+
     @Override
     public void close() {
         executor.shutdown();
@@ -21,18 +21,27 @@
 package org.onap.policy.clamp.acm.runtime.supervision;
 
 import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.ValidationException;
+import java.io.Closeable;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
+import org.onap.policy.clamp.acm.runtime.main.parameters.AcRuntimeParameterGroup;
 import org.onap.policy.clamp.acm.runtime.main.utils.EncryptionUtils;
 import org.onap.policy.clamp.acm.runtime.supervision.comm.ParticipantDeregisterAckPublisher;
 import org.onap.policy.clamp.acm.runtime.supervision.comm.ParticipantRegisterAckPublisher;
 import org.onap.policy.clamp.acm.runtime.supervision.comm.ParticipantSyncPublisher;
+import org.onap.policy.clamp.common.acm.utils.AcmThreadFactory;
 import org.onap.policy.clamp.models.acm.concepts.AcTypeState;
 import org.onap.policy.clamp.models.acm.concepts.AutomationComposition;
 import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionDefinition;
@@ -61,10 +70,11 @@ import org.springframework.stereotype.Component;
 
 /**
  * This class handles supervision of participant status.
+ * The restart of all participants is prepared and published on a bounded worker pool, one task per participant;
+ * when all the workers are busy and the queue is full, the caller runs the task itself.
  */
 @Component
-@AllArgsConstructor
-public class SupervisionParticipantHandler {
+public class SupervisionParticipantHandler implements Closeable {
     private static final Logger LOGGER = LoggerFactory.getLogger(SupervisionParticipantHandler.class);
 
     private final ParticipantProvider participantProvider;
@@ -75,6 +85,44 @@ public class SupervisionParticipantHandler {
     private final ParticipantSyncPublisher participantSyncPublisher;
     private final MessageProvider messageProvider;
     private final EncryptionUtils encryptionUtils;
+    private final ThreadPoolExecutor restartExecutor;
+    private final Timer restartTimer;
+
+    /**
+     * Constructor for instantiating SupervisionParticipantHandler.
+     *
+     * @param participantProvider the ParticipantProvider
+     * @param participantRegisterAckPublisher the ParticipantRegisterAckPublisher
+     * @param participantDeregisterAckPublisher the ParticipantDeregisterAckPublisher
+     * @param automationCompositionProvider the AutomationCompositionProvider
+     * @param acDefinitionProvider the AcDefinitionProvider
+     * @param participantSyncPublisher the ParticipantSyncPublisher
+     * @param messageProvider the MessageProvider
+     * @param encryptionUtils the EncryptionUtils
+     * @param acRuntimeParameterGroup the parameters for the automation composition runtime
+     * @param meterRegistry the MeterRegistry
+     */
+    public SupervisionParticipantHandler(final ParticipantProvider participantProvider,
+            final ParticipantRegisterAckPublisher participantRegisterAckPublisher,
+            final ParticipantDeregisterAckPublisher participantDeregisterAckPublisher,
+            final AutomationCompositionProvider automationCompositionProvider,
+            final AcDefinitionProvider acDefinitionProvider, final ParticipantSyncPublisher participantSyncPublisher,
+            final MessageProvider messageProvider, final EncryptionUtils encryptionUtils,
+            final AcRuntimeParameterGroup acRuntimeParameterGroup, final MeterRegistry meterRegistry) {
+        this.participantProvider = participantProvider;
+        this.participantRegisterAckPublisher = participantRegisterAckPublisher;
+        this.participantDeregisterAckPublisher = participantDeregisterAckPublisher;
+        this.automationCompositionProvider = automationCompositionProvider;
+        this.acDefinitionProvider = acDefinitionProvider;
+        this.participantSyncPublisher = participantSyncPublisher;
+        this.messageProvider = messageProvider;
+        this.encryptionUtils = encryptionUtils;
+        var poolSize = acRuntimeParameterGroup.getAcmParameters().getRestartThreadPoolSize();
+        this.restartExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(poolSize), new AcmThreadFactory(), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.restartTimer = Timer.builder("acm.restart.fanout")
+                .description("Time spent to restart all participants").register(meterRegistry);
+    }
 
     private void validation(UUID participantId,
             List<ParticipantSupportedElementType> participantSupportedElementTypes) {
@@ -99,7 +147,8 @@ public class SupervisionParticipantHandler {
         validation(participantRegisterMsg.getParticipantId(),
                 participantRegisterMsg.getParticipantSupportedElementType());
         saveIfNotPresent(participantRegisterMsg.getReplicaId(), participantRegisterMsg.getParticipantId(),
-                participantRegisterMsg.getParticipantSupportedElementType());
+                participantRegisterMsg.getParticipantSupportedElementType(),
+                participantRegisterMsg.getCompositionRevisions(), participantRegisterMsg.getInstanceRevisions());
 
         participantRegisterAckPublisher.send(participantRegisterMsg.getMessageId(),
                 participantRegisterMsg.getParticipantId(), participantRegisterMsg.getReplicaId());
@@ -144,11 +193,12 @@ public class SupervisionParticipantHandler {
             }
         }
         saveIfNotPresent(participantStatusMsg.getReplicaId(), participantStatusMsg.getParticipantId(),
-                participantStatusMsg.getParticipantSupportedElementType());
+                participantStatusMsg.getParticipantSupportedElementType(), Map.of(), Map.of());
     }
 
     private void saveIfNotPresent(UUID replicaId, UUID participantId,
-            List<ParticipantSupportedElementType> participantSupportedElementType) {
+            List<ParticipantSupportedElementType> participantSupportedElementType,
+            Map<UUID, UUID> compositionRevisions, Map<UUID, UUID> instanceRevisions) {
         var participant = getParticipant(participantId, listToMap(participantSupportedElementType));
         var replica = participant.getReplicas().get(replicaId);
         if (replica != null) {
@@ -166,7 +216,7 @@ public class SupervisionParticipantHandler {
         }
         if (toRestart) {
             participantProvider.saveParticipant(participant);
-            handleRestart(participantId, replicaId);
+            handleRestart(participantId, replicaId, compositionRevisions, instanceRevisions);
         }
     }
 
@@ -201,36 +251,84 @@ public class SupervisionParticipantHandler {
      * @param replicaId         ID of the participant replica
      */
     public void handleRestart(UUID participantId, UUID replicaId) {
+        handleRestart(participantId, replicaId, Map.of(), Map.of());
+    }
+
+    /**
+     * Handle restart of a participant. The compositions and the instances that the participant has already
+     * in cache with the same revisionId are not sent.
+     *
+     * @param participantId        ID of the participant to restart
+     * @param replicaId            ID of the participant replica
+     * @param compositionRevisions the revisionId by compositionId in the cache of the participant
+     * @param instanceRevisions    the revisionId by instanceId in the cache of the participant
+     */
+    public void handleRestart(UUID participantId, UUID replicaId, Map<UUID, UUID> compositionRevisions,
+            Map<UUID, UUID> instanceRevisions) {
         var compositionIds = participantProvider.getCompositionIds(participantId);
         for (var compositionId : compositionIds) {
             var acDefinition = acDefinitionProvider.getAcDefinition(compositionId);
             LOGGER.debug("Scan Composition {} for restart", acDefinition.getCompositionId());
-            handleSyncRestart(participantId, replicaId, acDefinition);
+            handleSyncRestart(participantId, replicaId, acDefinition, compositionRevisions, instanceRevisions);
         }
     }
 
     private void handleSyncRestart(final UUID participantId, UUID replicaId,
-            AutomationCompositionDefinition acDefinition) {
+            AutomationCompositionDefinition acDefinition, Map<UUID, UUID> compositionRevisions,
+            Map<UUID, UUID> instanceRevisions) {
         if (AcTypeState.COMMISSIONED.equals(acDefinition.getState())) {
             LOGGER.debug("Composition {} COMMISSIONED", acDefinition.getCompositionId());
             return;
         }
+        var automationCompositions =
+                getAcInstancesToBeSyncRestarted(participantId, acDefinition.getCompositionId(), instanceRevisions);
+        var compositionCached = acDefinition.getRevisionId() != null
+                && acDefinition.getRevisionId().equals(compositionRevisions.get(acDefinition.getCompositionId()));
+        if (compositionCached && automationCompositions.isEmpty()) {
+            LOGGER.debug("Composition {} already in cache of the participant", acDefinition.getCompositionId());
+            return;
+        }
         LOGGER.debug("Composition to be send in Restart message {}", acDefinition.getCompositionId());
-        var automationCompositionList =
-                automationCompositionProvider.getAcInstancesByCompositionId(acDefinition.getCompositionId());
+        participantSyncPublisher.sendRestartMsg(participantId, replicaId, acDefinition, automationCompositions,
+                !compositionCached);
+    }
+
+    private List<AutomationComposition> getAcInstancesToBeSyncRestarted(UUID participantId, UUID compositionId,
+            Map<UUID, UUID> instanceRevisions) {
+        List<AutomationComposition> automationCompositionList;
+        if (instanceRevisions.isEmpty()) {
+            automationCompositionList = automationCompositionProvider.getAcInstancesByCompositionId(compositionId);
+        } else {
+            // only the instances not in cache of the participant with the same revisionId are loaded
+            automationCompositionList = automationCompositionProvider
+                    .getAcInstanceRevisionsByCompositionId(compositionId).entrySet().stream()
+                    .filter(entry -> !entry.getValue().equals(instanceRevisions.get(entry.getKey())))
+                    .map(entry -> automationCompositionProvider.getAutomationComposition(entry.getKey()))
+                    .toList();
+        }
         encryptionUtils.decryptInstanceProperties(automationCompositionList);
-        var automationCompositions =
-                automationCompositionList.stream().filter(ac -> isAcToBeSyncRestarted(participantId, ac)).toList();
-        participantSyncPublisher.sendRestartMsg(participantId, replicaId, acDefinition, automationCompositions);
+        return automationCompositionList.stream().filter(ac -> isAcToBeSyncRestarted(participantId, ac)).toList();
     }
 
     /**
-     * Handle restart of all participants.
+     * Handle restart of all participants. The participants are restarted in parallel, and the method returns
+     * when all of them have been restarted.
      */
     public void handleRestartOfAllParticipants() {
-        var participants = participantProvider.getParticipants();
-        for (var participant:participants) {
-            handleRestart(participant.getParticipantId(), null);
+        var sample = Timer.start();
+        var futures = participantProvider.getParticipants().stream()
+                .map(participant -> CompletableFuture.runAsync(
+                        () -> handleRestart(participant.getParticipantId(), null), restartExecutor))
+                .toList();
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            sample.stop(restartTimer);
         }
     }
 
@@ -302,4 +400,9 @@ public class SupervisionParticipantHandler {
         }
         return automationComposition;
     }
+
+    @Override
+    public void close() {
+        restartExecutor.shutdown();
+    }
 }
@@ -22,12 +22,27 @@
 
 package org.onap.policy.clamp.acm.runtime.supervision;
 
+import io.micrometer.core.instrument.Timer;
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.onap.policy.clamp.acm.runtime.main.parameters.AcRuntimeParameterGroup;
 import org.onap.policy.clamp.acm.runtime.supervision.scanner.MonitoringScanner;
+import org.onap.policy.clamp.acm.runtime.supervision.scanner.ScanMetrics;
+import org.onap.policy.clamp.common.acm.utils.AcmThreadFactory;
 import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionDefinition;
 import org.onap.policy.clamp.models.acm.persistence.provider.AcDefinitionProvider;
 import org.onap.policy.clamp.models.acm.persistence.provider.AutomationCompositionProvider;
@@ -41,22 +56,80 @@ import org.springframework.stereotype.Component;
 
 /**
  * This class is used to scan the automation compositions in the database and check if they are in the correct state.
+ * The ids in transition are split into hash shards; each shard is claimed by a runtime replica through the MessageJob
+ * table and scanned on a bounded worker pool, where the jobs of its ids are claimed and released in batches.
+ * Single ids can also be scheduled incrementally: the requests are coalesced per id, so an id is never queued twice
+ * and it is rescanned if a new request arrives while it is scanned. When the job of the id is held by a shard pass
+ * or by another replica, the scan is requested again after a short delay rather than waiting for the next full scan.
+ * An id that has just received a message is not waited for: its scan is scheduled again once the delay is over.
  */
 @Component
-@RequiredArgsConstructor
-public class SupervisionScanner {
+public class SupervisionScanner implements Closeable {
     private static final Logger LOGGER = LoggerFactory.getLogger(SupervisionScanner.class);
+    private static final String SHARD_PREFIX = "supervision-shard-";
+    // number of jobs claimed together
+    static final int JOB_BATCH_SIZE = 100;
+    // delay before the scan of an id whose job is held elsewhere is requested again
+    static final long CLAIM_RETRY_DELAY_MS = 500;
 
     private final AutomationCompositionProvider automationCompositionProvider;
     private final AcDefinitionProvider acDefinitionProvider;
     private final MessageProvider messageProvider;
     private final MonitoringScanner monitoringScanner;
+    private final ScanMetrics scanMetrics;
+    private final int scanShards;
+    private final ScheduledExecutorService executor;
 
-    private void checkLastMsg(UUID identificationId) {
-        var lastMsg = messageProvider.getLastMsg(identificationId);
-        if (lastMsg != null && TimestampHelper.nowTimestamp().getTime() - lastMsg.getTime() < AcmUtils.DELAY_MESSAGE) {
-            AcmUtils.pause(AcmUtils.DELAY_MESSAGE);
+    // ids scheduled or in progress; the value is true when the id has been requested again in the meantime
+    private final Map<UUID, Boolean> pendingCompositions = new ConcurrentHashMap<>();
+    private final Map<UUID, Boolean> pendingInstances = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for instantiating SupervisionScanner.
+     *
+     * @param automationCompositionProvider the provider to use to read automation compositions from the database
+     * @param acDefinitionProvider the Policy Models Provider
+     * @param messageProvider the MessageProvider
+     * @param monitoringScanner the MonitoringScanner
+     * @param acRuntimeParameterGroup the parameters for the automation composition runtime
+     * @param scanMetrics the metrics of the scan
+     */
+    public SupervisionScanner(final AutomationCompositionProvider automationCompositionProvider,
+            final AcDefinitionProvider acDefinitionProvider, final MessageProvider messageProvider,
+            final MonitoringScanner monitoringScanner, final AcRuntimeParameterGroup acRuntimeParameterGroup,
+            final ScanMetrics scanMetrics) {
+        this.automationCompositionProvider = automationCompositionProvider;
+        this.acDefinitionProvider = acDefinitionProvider;
+        this.messageProvider = messageProvider;
+        this.monitoringScanner = monitoringScanner;
+        this.scanMetrics = scanMetrics;
+        var acmParameters = acRuntimeParameterGroup.getAcmParameters();
+        this.scanShards = acmParameters.getScanShards();
+        var poolSize = acmParameters.getScanThreadPoolSize();
+        this.executor = new ScheduledThreadPoolExecutor(poolSize, new AcmThreadFactory());
+    }
+
+    /**
+     * Check if the last message of the id has been received long enough ago to be scanned. When it has not,
+     * the scan of the id is scheduled again once the delay is over, so the scan thread does not wait.
+     *
+     * @param identificationId the instanceId or compositionId
+     * @param reschedule the scheduling of a single id
+     * @return true if the id can be scanned now
+     */
+    private boolean checkLastMsg(UUID identificationId, Consumer<UUID> reschedule) {
+        var lastMsg = scanMetrics.timer(ScanMetrics.CHECK_LAST_MSG)
+                .record(() -> messageProvider.getLastMsg(identificationId));
+        if (lastMsg == null) {
+            return true;
         }
+        var remaining = lastMsg.getTime() + AcmUtils.DELAY_MESSAGE - TimestampHelper.nowTimestamp().getTime();
+        if (remaining <= 0) {
+            return true;
+        }
+        LOGGER.debug("Last message of {} too recent, scan deferred by {} ms", identificationId, remaining);
+        executor.schedule(() -> reschedule.accept(identificationId), remaining, TimeUnit.MILLISECONDS);
+        return false;
     }
 
     /**
@@ -64,43 +137,192 @@ public class SupervisionScanner {
      */
     public void run() {
         LOGGER.debug("Scanning automation compositions in the database . . .");
+        var sample = Timer.start();
 
-        messageProvider.removeOldJobs();
+        scanMetrics.timer(ScanMetrics.REMOVE_OLD_JOBS).record(messageProvider::removeOldJobs);
 
         var compositionIds = acDefinitionProvider.getAllAcDefinitionsInTransition();
         compositionIds.addAll(messageProvider.findCompositionMessages());
-        for (var compositionId : compositionIds) {
-            checkLastMsg(compositionId);
-            scanAcDefinition(compositionId);
-        }
 
         var instanceIds = automationCompositionProvider.getAcInstancesInTransition();
         instanceIds.addAll(messageProvider.findInstanceMessages());
-        Map<UUID, AutomationCompositionDefinition> acDefinitionMap = new HashMap<>();
-        for (var instanceId : instanceIds) {
-            checkLastMsg(instanceId);
-            scanAutomationComposition(instanceId, acDefinitionMap);
+
+        var compositionShards = split(compositionIds);
+        var instanceShards = split(instanceIds);
+        var futures = new ArrayList<CompletableFuture<Void>>();
+        for (var shard = 0; shard < scanShards; shard++) {
+            var compositionShard = compositionShards.get(shard);
+            var instanceShard = instanceShards.get(shard);
+            if (compositionShard.isEmpty() && instanceShard.isEmpty()) {
+                continue;
+            }
+            var shardId = shard;
+            futures.add(CompletableFuture.runAsync(
+                    () -> scanShard(shardId, compositionShard, instanceShard), executor));
         }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        sample.stop(scanMetrics.timer(ScanMetrics.RUN));
         LOGGER.debug("Automation composition scan complete . . .");
     }
 
+    /**
+     * Update the gauges of the automation compositions by state and of the pending messages.
+     */
+    public void updateGauges() {
+        scanMetrics.updateInstanceStates(automationCompositionProvider.countAcInstancesByState());
+        scanMetrics.updatePendingMessages(messageProvider.countMessages());
+    }
+
+    private List<List<UUID>> split(Set<UUID> ids) {
+        List<List<UUID>> shards = new ArrayList<>(scanShards);
+        for (var i = 0; i < scanShards; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (var id : ids) {
+            shards.get(Math.floorMod(id.hashCode(), scanShards)).add(id);
+        }
+        return shards;
+    }
+
+    private void scanShard(int shard, List<UUID> compositionIds, List<UUID> instanceIds) {
+        Optional<String> optShardJobId = Optional.empty();
+        if (scanShards > 1) {
+            // the shard is owned by the replica that holds its job; the other replicas skip it
+            optShardJobId = createJob(getShardId(shard));
+            if (optShardJobId.isEmpty()) {
+                LOGGER.debug("Shard {} is owned by another replica", shard);
+                return;
+            }
+        }
+        try {
+            var readyCompositionIds = compositionIds.stream()
+                    .filter(compositionId -> checkLastMsg(compositionId, this::scheduleAcDefinition)).toList();
+            scanInBatches(readyCompositionIds, monitoringScanner::scanAcDefinition);
+            Map<UUID, AutomationCompositionDefinition> acDefinitionMap = new HashMap<>();
+            var readyInstanceIds = instanceIds.stream()
+                    .filter(instanceId -> checkLastMsg(instanceId, this::scheduleAutomationComposition)).toList();
+            scanInBatches(readyInstanceIds,
+                    instanceId -> monitoringScanner.scanAutomationComposition(instanceId, acDefinitionMap));
+        } catch (RuntimeException e) {
+            LOGGER.error("Error scanning shard {}", shard, e);
+        } finally {
+            optShardJobId.ifPresent(messageProvider::removeJob);
+        }
+    }
+
+    /**
+     * Scan the ids in batches: the jobs of a batch are claimed with one statement and released with another, so the
+     * MessageJob table is accessed twice per batch rather than twice per id. The ids claimed by another replica are
+     * skipped; a batch slower than the lease of its jobs is covered by the expiry of the jobs.
+     *
+     * @param identificationIds the instanceIds or compositionIds
+     * @param scan the scan of a single id
+     */
+    private void scanInBatches(List<UUID> identificationIds, Consumer<UUID> scan) {
+        for (var from = 0; from < identificationIds.size(); from += JOB_BATCH_SIZE) {
+            var batch = identificationIds.subList(from, Math.min(from + JOB_BATCH_SIZE, identificationIds.size()));
+            var jobs = createJobs(batch);
+            try {
+                for (var identificationId : batch) {
+                    if (jobs.containsKey(identificationId)) {
+                        scan.accept(identificationId);
+                    }
+                }
+                scanMetrics.countScannedIds(jobs.size());
+            } finally {
+                messageProvider.removeJobs(jobs.values());
+            }
+        }
+    }
+
+    private Map<UUID, String> createJobs(List<UUID> identificationIds) {
+        try {
+            return scanMetrics.timer(ScanMetrics.CREATE_JOB)
+                    .record(() -> messageProvider.createJobs(identificationIds));
+        } catch (DataIntegrityViolationException ex) {
+            // only on the databases other than PostgreSQL: another replica has claimed some of the ids in the meantime
+            LOGGER.debug("Batch of jobs already claimed in part by another replica, skipped");
+        }
+        return Map.of();
+    }
+
+    private static UUID getShardId(int shard) {
+        return UUID.nameUUIDFromBytes((SHARD_PREFIX + shard).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Schedule the scan of a single composition definition.
+     *
+     * @param compositionId the compositionId
+     */
+    public void scheduleAcDefinition(UUID compositionId) {
+        schedule(compositionId, pendingCompositions, this::scanAcDefinition);
+    }
+
+    /**
+     * Schedule the scan of a single automation composition instance.
+     *
+     * @param instanceId the instanceId
+     */
+    public void scheduleAutomationComposition(UUID instanceId) {
+        schedule(instanceId, pendingInstances, id -> scanAutomationComposition(id, new HashMap<>()));
+    }
+
+    private void schedule(UUID identificationId, Map<UUID, Boolean> pending, Consumer<UUID> scan) {
+        var newTask = new AtomicBoolean();
+        pending.compute(identificationId, (id, requestedAgain) -> {
+            newTask.set(requestedAgain == null);
+            return requestedAgain != null;
+        });
+        if (newTask.get()) {
+            executor.execute(() -> drain(identificationId, pending, scan));
+        }
+    }
+
+    private void drain(UUID identificationId, Map<UUID, Boolean> pending, Consumer<UUID> scan) {
+        do {
+            pending.replace(identificationId, Boolean.FALSE);
+            try {
+                scan.accept(identificationId);
+            } catch (RuntimeException e) {
+                LOGGER.error("Error scanning {}", identificationId, e);
+            }
+        } while (!pending.remove(identificationId, Boolean.FALSE));
+    }
+
     private void scanAcDefinition(UUID compositionId) {
         var optJobId = createJob(compositionId);
         if (optJobId.isEmpty()) {
+            retry(compositionId, this::scheduleAcDefinition);
             return;
         }
-        monitoringScanner.scanAcDefinition(compositionId);
-        messageProvider.removeJob(optJobId.get());
+        try {
+            monitoringScanner.scanAcDefinition(compositionId);
+            scanMetrics.countScannedIds(1);
+        } finally {
+            messageProvider.removeJob(optJobId.get());
+        }
     }
 
     private void scanAutomationComposition(UUID instanceId,
             Map<UUID, AutomationCompositionDefinition> acDefinitionMap) {
         var optJobId = createJob(instanceId);
         if (optJobId.isEmpty()) {
+            retry(instanceId, this::scheduleAutomationComposition);
             return;
         }
-        monitoringScanner.scanAutomationComposition(instanceId, acDefinitionMap);
-        messageProvider.removeJob(optJobId.get());
+        try {
+            monitoringScanner.scanAutomationComposition(instanceId, acDefinitionMap);
+            scanMetrics.countScannedIds(1);
+        } finally {
+            messageProvider.removeJob(optJobId.get());
+        }
+    }
+
+    private void retry(UUID identificationId, Consumer<UUID> reschedule) {
+        LOGGER.debug("Job of {} held elsewhere, scan requested again in {} ms", identificationId,
+                CLAIM_RETRY_DELAY_MS);
+        executor.schedule(() -> reschedule.accept(identificationId), CLAIM_RETRY_DELAY_MS, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -112,10 +334,15 @@ public class SupervisionScanner {
      */
     public Optional<String> createJob(UUID identificationId) {
         try {
-            return messageProvider.createJob(identificationId);
+            return scanMetrics.timer(ScanMetrics.CREATE_JOB).record(() -> messageProvider.createJob(identificationId));
         } catch (DataIntegrityViolationException ex) {
             LOGGER.debug("Job with this identificationId {} already exists", identificationId);
         }
         return Optional.empty();
     }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
 }
@@ -20,15 +20,15 @@
 
 package org.onap.policy.clamp.acm.runtime.supervision.comm;
 
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import java.util.concurrent.Semaphore;
+import org.onap.policy.clamp.acm.runtime.main.parameters.AcRuntimeParameterGroup;
 import org.onap.policy.clamp.common.acm.utils.NetLoggerUtil;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantKafkaMessage;
+import org.onap.policy.clamp.models.acm.utils.BoundedKafkaSender;
+import org.onap.policy.clamp.models.acm.utils.serialization.ParticipantMessageRouting;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 
-@Slf4j
-@RequiredArgsConstructor
 public abstract class AbstractParticipantPublisher<T extends ParticipantKafkaMessage> {
 
     @Value("${runtime.topics.operationTopic}")
@@ -37,26 +37,44 @@ public abstract class AbstractParticipantPublisher<T extends ParticipantKafkaMes
     @Value("${runtime.topics.syncTopic}")
     private String syncTopic;
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    @Value("${runtime.topics.participantTopics:false}")
+    private boolean participantTopics;
+
+    private final BoundedKafkaSender sender;
+
+    /**
+     * Constructor.
+     *
+     * @param kafkaTemplate the kafka template
+     * @param acRuntimeParameterGroup the parameters holding the publishing mode and the in-flight limit
+     */
+    protected AbstractParticipantPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+            AcRuntimeParameterGroup acRuntimeParameterGroup) {
+        this.sender = new BoundedKafkaSender(kafkaTemplate, acRuntimeParameterGroup.isAsyncPublish(),
+                new Semaphore(acRuntimeParameterGroup.getMaxInFlightMessages()));
+    }
 
     public void sendToSyncTopic(final T message) {
         this.send(syncTopic, message);
     }
 
+    /**
+     * Send a message to the operation topic. When participant topics are enabled, a message targeted
+     * at a participant is sent to the operation topic dedicated to that participant.
+     *
+     * @param message the message
+     */
     public void send(final T message) {
-        this.send(operationTopic, message);
+        if (participantTopics && message.getParticipantId() != null) {
+            this.send(ParticipantMessageRouting.getParticipantTopic(operationTopic, message.getParticipantId()),
+                    message);
+        } else {
+            this.send(operationTopic, message);
+        }
     }
 
     private void send(final String topic, final T message) {
         NetLoggerUtil.log(NetLoggerUtil.EventType.OUT, "KAFKA", topic, message.toString());
-        try {
-            if (message.getPartitionKey() == null) {
-                kafkaTemplate.send(topic, message).join();
-            } else {
-                kafkaTemplate.send(topic, message.getPartitionKey(), message).join();
-            }
-        } catch (final Exception e) {
-            log.warn("send to {} failed because of {}", topic, e.getMessage(), e);
-        }
+        sender.send(topic, message);
     }
 }
@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2021,2025 OpenInfra Foundation Europe. All rights reserved.
+ *  Copyright (C) 2021,2025-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@
 
 package org.onap.policy.clamp.acm.runtime.supervision.comm;
 
+import org.onap.policy.clamp.acm.runtime.main.parameters.AcRuntimeParameterGroup;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantAckMessage;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
@@ -27,7 +28,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class ParticipantAckPublisher extends AbstractParticipantPublisher<ParticipantAckMessage> {
 
-    public ParticipantAckPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
-        super(kafkaTemplate);
+    public ParticipantAckPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+            AcRuntimeParameterGroup acRuntimeParameterGroup) {
+        super(kafkaTemplate, acRuntimeParameterGroup);
     }
 }
@@ -20,6 +20,7 @@
 
 package org.onap.policy.clamp.acm.runtime.supervision.comm;
 
+import org.onap.policy.clamp.acm.runtime.main.parameters.AcRuntimeParameterGroup;
 import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantMessage;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
@@ -27,7 +28,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class ParticipantPublisher extends AbstractParticipantPublisher<ParticipantMessage> {
 
-    public ParticipantPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
-        super(kafkaTemplate);
+    public ParticipantPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+            AcRuntimeParameterGroup acRuntimeParameterGroup) {
+        super(kafkaTemplate, acRuntimeParameterGroup);
     }
 }
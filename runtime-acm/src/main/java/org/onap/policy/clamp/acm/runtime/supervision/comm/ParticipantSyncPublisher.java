@@ -52,6 +52,21 @@ public class ParticipantSyncPublisher {
     @Timed(value = "publisher.participant_sync_msg", description = "Participant Sync published")
     public void sendRestartMsg(UUID participantId, UUID replicaId, AutomationCompositionDefinition acmDefinition,
                      List<AutomationComposition> automationCompositions) {
+        sendRestartMsg(participantId, replicaId, acmDefinition, automationCompositions, true);
+    }
+
+    /**
+     * Send Restart sync msg to Participant by participantId.
+     *
+     * @param participantId the participantId
+     * @param replicaId the replicaId
+     * @param acmDefinition the AutomationComposition Definition
+     * @param automationCompositions the list of automationCompositions
+     * @param withDefinitions false if the participant has already the element definitions of the composition
+     */
+    @Timed(value = "publisher.participant_sync_msg", description = "Participant Sync published")
+    public void sendRestartMsg(UUID participantId, UUID replicaId, AutomationCompositionDefinition acmDefinition,
+                     List<AutomationComposition> automationCompositions, boolean withDefinitions) {
 
         var message = new ParticipantSync();
         message.setParticipantId(participantId);
@@ -64,9 +79,11 @@ public class ParticipantSyncPublisher {
         message.setState(acmDefinition.getState());
         message.setStateChangeResult(acmDefinition.getStateChangeResult());
         message.setRevisionIdComposition(acmDefinition.getRevisionId());
-        var elementMap = AcmUtils.prepareParticipantRestarting(participantId, acmDefinition,
-                acRuntimeParameterGroup.getAcmParameters().getToscaElementName());
-        message.setParticipantDefinitionUpdates(AcmUtils.prepareParticipantDefinitions(elementMap));
+        if (withDefinitions) {
+            var elementMap = AcmUtils.prepareParticipantRestarting(participantId, acmDefinition,
+                    acRuntimeParameterGroup.getAcmParameters().getToscaElementName());
+            message.setParticipantDefinitionUpdates(AcmUtils.prepareParticipantDefinitions(elementMap));
+        }
         for (var automationComposition : automationCompositions) {
             var syncAc = AcmUtils.createAcRestart(automationComposition, participantId);
             message.getAutomationcompositionList().add(syncAc);
@@ -47,15 +47,18 @@ public abstract class AbstractScanner {
     protected final AcDefinitionProvider acDefinitionProvider;
     protected final ParticipantSyncPublisher participantSyncPublisher;
     private final EncryptionUtils encryptionUtils;
+    private final ScanMetrics scanMetrics;
 
     protected AbstractScanner(final AutomationCompositionProvider acProvider,
             final AcDefinitionProvider acDefinitionProvider, final ParticipantSyncPublisher participantSyncPublisher,
-            final AcRuntimeParameterGroup acRuntimeParameterGroup, final EncryptionUtils encryptionUtils) {
+            final AcRuntimeParameterGroup acRuntimeParameterGroup, final EncryptionUtils encryptionUtils,
+            final ScanMetrics scanMetrics) {
         this.acProvider = acProvider;
         this.acDefinitionProvider = acDefinitionProvider;
         this.participantSyncPublisher = participantSyncPublisher;
         this.maxOperationWaitMs = acRuntimeParameterGroup.getParticipantParameters().getMaxOperationWaitMs();
         this.encryptionUtils = encryptionUtils;
+        this.scanMetrics = scanMetrics;
     }
 
     protected void complete(final AutomationComposition automationComposition, UpdateSync updateSync) {
@@ -135,6 +138,10 @@ public abstract class AbstractScanner {
      * @param updateSync the update/sync information
      */
     public void saveAndSync(AutomationComposition automationComposition, UpdateSync updateSync) {
+        scanMetrics.timer(ScanMetrics.SAVE_AND_SYNC).record(() -> doSaveAndSync(automationComposition, updateSync));
+    }
+
+    private void doSaveAndSync(AutomationComposition automationComposition, UpdateSync updateSync) {
         if (updateSync.isUpdated()) {
             if (updateSync.isToBeSync()) {
                 automationComposition.setRevisionId(UUID.randomUUID());
@@ -145,7 +152,7 @@ public abstract class AbstractScanner {
             acProvider.deleteAutomationComposition(automationComposition.getInstanceId());
         }
         if (updateSync.isToBeSync()) {
-            var acToSend = new AutomationComposition(automationComposition);
+            var acToSend = AutomationComposition.snapshotOf(automationComposition);
             decryptInstanceProperties(acToSend);
             participantSyncPublisher.sendSync(acToSend);
         }
@@ -0,0 +1,64 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.acm.runtime.supervision.scanner;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionDefinition;
+import org.onap.policy.clamp.models.acm.utils.CompiledAcDefinition;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the compiled composition definitions used by the scanners, keyed by composition id.
+ * An entry is compiled again when the revision id of the composition definition changes.
+ */
+@Component
+public class CompiledAcDefinitionCache {
+
+    // upper bound of entries, the cache is cleared when it is reached
+    static final int MAX_ENTRIES = 1000;
+
+    private final Map<UUID, CompiledAcDefinition> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Get the compiled view of a composition definition.
+     *
+     * @param acDefinition the composition definition
+     * @return the compiled composition definition
+     */
+    public CompiledAcDefinition get(AutomationCompositionDefinition acDefinition) {
+        var compositionId = acDefinition.getCompositionId();
+        if (compositionId == null) {
+            return CompiledAcDefinition.compile(acDefinition);
+        }
+        var compiled = cache.get(compositionId);
+        if (compiled != null && compiled.isRevisionOf(acDefinition)) {
+            return compiled;
+        }
+        compiled = CompiledAcDefinition.compile(acDefinition);
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+        cache.put(compositionId, compiled);
+        return compiled;
+    }
+}
@@ -0,0 +1,64 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.acm.runtime.supervision.scanner;
+
+import java.io.Closeable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.clamp.common.acm.utils.AcmThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dispatcher of the messages that have to be sent some time after the sync message, so the participants receive
+ * the sync first. The scan thread schedules the message and moves on instead of sleeping.
+ * The tasks run in order of delay on a single thread.
+ */
+@Component
+public class DelayedDispatcher implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DelayedDispatcher.class);
+
+    private final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1, new AcmThreadFactory());
+
+    /**
+     * Schedule a task.
+     *
+     * @param task the task that sends the message
+     * @param delayMs the delay in milliseconds
+     */
+    public void schedule(Runnable task, long delayMs) {
+        executor.schedule(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOGGER.error("Error dispatching delayed message", e);
+            }
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
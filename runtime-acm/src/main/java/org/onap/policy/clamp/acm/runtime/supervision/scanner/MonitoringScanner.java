@@ -53,6 +53,7 @@ public class MonitoringScanner {
     private final SimpleScanner simpleScanner;
     private final PhaseScanner phaseScanner;
     private final MessageProvider messageProvider;
+    private final ScanMetrics scanMetrics;
 
     /**
      * Scan Composition Definition by compositionId.
@@ -63,11 +64,13 @@ public class MonitoringScanner {
         var messages = messageProvider.getAllMessages(compositionId);
         var acDefinitionOpt = acDefinitionProvider.findAcDefinition(compositionId);
         var updateSync = new UpdateSync();
+        var scanMessageTimer = scanMetrics.timer(ScanMetrics.SCAN_MESSAGE);
         for (var message : messages) {
-            acDefinitionOpt.ifPresent(
-                    acDefinition -> updateSync.or(acDefinitionScanner.scanMessage(acDefinition, message)));
+            acDefinitionOpt.ifPresent(acDefinition -> scanMessageTimer.record(
+                    () -> updateSync.or(acDefinitionScanner.scanMessage(acDefinition, message))));
             messageProvider.removeMessage(message.getMessageId());
         }
+        scanMetrics.countDrainedMessages(messages.size());
 
         acDefinitionOpt.ifPresent(acDefinition ->
                 acDefinitionScanner.scanAutomationCompositionDefinition(acDefinition, updateSync));
@@ -82,15 +85,30 @@ public class MonitoringScanner {
     public void scanAutomationComposition(UUID instanceId,
             Map<UUID, AutomationCompositionDefinition> acDefinitionMap) {
         var messages = messageProvider.getAllMessages(instanceId);
+        if (messages.isEmpty() && isStable(instanceId)) {
+            LOGGER.debug("automation composition {} scanned, OK", instanceId);
+            return;
+        }
         var automationCompositionOpt = automationCompositionProvider.findAutomationComposition(instanceId);
         var updateSync = new UpdateSync();
+        var scanMessageTimer = scanMetrics.timer(ScanMetrics.SCAN_MESSAGE);
         for (var message : messages) {
-            automationCompositionOpt.ifPresent(ac -> updateSync.or(simpleScanner.scanMessage(ac, message)));
+            automationCompositionOpt.ifPresent(ac -> scanMessageTimer.record(
+                    () -> updateSync.or(simpleScanner.scanMessage(ac, message))));
             messageProvider.removeMessage(message.getMessageId());
         }
+        scanMetrics.countDrainedMessages(messages.size());
         automationCompositionOpt.ifPresent(ac -> scanAutomationComposition(ac, updateSync, acDefinitionMap));
     }
 
+    private boolean isStable(UUID instanceId) {
+        // the state is enough to know that there is nothing to do, without loading the properties of the elements
+        var acStateOpt = automationCompositionProvider.findAutomationCompositionState(instanceId);
+        return acStateOpt.isPresent() && (StateChangeResult.FAILED.equals(acStateOpt.get().getStateChangeResult())
+                || !AcmStateUtils.isInTransitionalState(acStateOpt.get().getDeployState(),
+                        acStateOpt.get().getLockState(), acStateOpt.get().getSubState()));
+    }
+
     private void scanAutomationComposition(final AutomationComposition automationComposition, UpdateSync updateSync,
             Map<UUID, AutomationCompositionDefinition> acDefinitionMap) {
         var acDefinition = acDefinitionMap.computeIfAbsent(automationComposition.getCompositionId(),
@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- * Copyright (C) 2025 Nordix OpenInfra Foundation Europe. All rights reserved.
+ * Copyright (C) 2025-2026 Nordix OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,17 +30,19 @@ import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionDefinition
 import org.onap.policy.clamp.models.acm.concepts.DeployState;
 import org.onap.policy.clamp.models.acm.persistence.provider.AcDefinitionProvider;
 import org.onap.policy.clamp.models.acm.persistence.provider.AutomationCompositionProvider;
-import org.onap.policy.clamp.models.acm.utils.AcmStageUtils;
 import org.onap.policy.clamp.models.acm.utils.AcmStateUtils;
-import org.onap.policy.clamp.models.acm.utils.AcmUtils;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PhaseScanner extends AbstractScanner {
 
+    // delay between sync message and next startPhase message
+    static final long PHASE_MESSAGE_DELAY_MS = 300;
+
     private final AutomationCompositionStateChangePublisher acStateChangePublisher;
     private final AutomationCompositionDeployPublisher acDeployPublisher;
-
+    private final CompiledAcDefinitionCache compiledAcDefinitionCache;
+    private final DelayedDispatcher delayedDispatcher;
 
     /**
      * Constructor for instantiating PhaseScanner.
@@ -50,6 +52,9 @@ public class PhaseScanner extends AbstractScanner {
      * @param acStateChangePublisher the automation composition StateChange Publisher
      * @param acDeployPublisher the automation composition Deploy Publisher
      * @param acRuntimeParameterGroup the parameters for the automation composition runtime
+     * @param compiledAcDefinitionCache the cache of the compiled composition definitions
+     * @param delayedDispatcher the dispatcher of the next startPhase message
+     * @param scanMetrics the metrics of the scan
      */
     public PhaseScanner(final AutomationCompositionProvider acProvider,
                         final AcDefinitionProvider acDefinitionProvider,
@@ -57,10 +62,16 @@ public class PhaseScanner extends AbstractScanner {
                         final AutomationCompositionStateChangePublisher acStateChangePublisher,
                         final AutomationCompositionDeployPublisher acDeployPublisher,
                         final AcRuntimeParameterGroup acRuntimeParameterGroup,
-                        final EncryptionUtils encryptionUtils) {
-        super(acProvider, acDefinitionProvider, participantSyncPublisher, acRuntimeParameterGroup, encryptionUtils);
+                        final EncryptionUtils encryptionUtils,
+                        final CompiledAcDefinitionCache compiledAcDefinitionCache,
+                        final DelayedDispatcher delayedDispatcher,
+                        final ScanMetrics scanMetrics) {
+        super(acProvider, acDefinitionProvider, participantSyncPublisher, acRuntimeParameterGroup, encryptionUtils,
+                scanMetrics);
         this.acStateChangePublisher = acStateChangePublisher;
         this.acDeployPublisher = acDeployPublisher;
+        this.compiledAcDefinitionCache = compiledAcDefinitionCache;
+        this.delayedDispatcher = delayedDispatcher;
     }
 
     /**
@@ -77,12 +88,9 @@ public class PhaseScanner extends AbstractScanner {
         var maxSpNotCompleted = 0; // max startPhase not completed
         var defaultMin = 1000; // min startPhase
         var defaultMax = 0; // max startPhase
+        var compiledAcDefinition = compiledAcDefinitionCache.get(acDefinition);
         for (var element : automationComposition.getElements().values()) {
-            var toscaNodeTemplate = acDefinition.getServiceTemplate().getToscaTopologyTemplate().getNodeTemplates()
-                    .get(element.getDefinition().getName());
-            int startPhase = toscaNodeTemplate != null
-                    && element.getDefinition().getVersion().equals(toscaNodeTemplate.getVersion())
-                    ? AcmStageUtils.findStartPhase(toscaNodeTemplate.getProperties()) : 0;
+            var startPhase = compiledAcDefinition.getStartPhase(element.getDefinition());
             defaultMin = Math.min(defaultMin, startPhase);
             defaultMax = Math.max(defaultMax, startPhase);
             if (AcmStateUtils.isInTransitionalState(element.getDeployState(), element.getLockState(),
@@ -118,22 +126,23 @@ public class PhaseScanner extends AbstractScanner {
         updateSync.setUpdated(true);
         saveAndSync(automationComposition, updateSync);
 
-        // create a pause between sync message and next startPhase message
-        AcmUtils.pause(300);
-
-        var acToSend = new AutomationComposition(automationComposition);
+        var acToSend = AutomationComposition.snapshotOf(automationComposition);
         decryptInstanceProperties(acToSend);
         var compositionTargetId = automationComposition.getCompositionTargetId();
+        // the next startPhase message is sent after the sync message has been received by the participants
         if (DeployState.DEPLOYING.equals(acToSend.getDeployState())) {
             LOGGER.debug("retry message AutomationCompositionDeploy");
-            acDeployPublisher.send(acToSend, startPhase, false, acDefinition);
+            delayedDispatcher.schedule(() -> acDeployPublisher.send(acToSend, startPhase, false, acDefinition),
+                    PHASE_MESSAGE_DELAY_MS);
         } else if (isUndeployOrDelete(acToSend.getDeployState()) && compositionTargetId != null) {
             LOGGER.debug("retry message AutomationCompositionStateChange");
-            acStateChangePublisher.send(acToSend, startPhase, false, acDefinition,
-                    acDefinitionProvider.getAcDefinition(compositionTargetId));
+            var acDefinitionTarget = acDefinitionProvider.getAcDefinition(compositionTargetId);
+            delayedDispatcher.schedule(() -> acStateChangePublisher.send(acToSend, startPhase, false, acDefinition,
+                    acDefinitionTarget), PHASE_MESSAGE_DELAY_MS);
         } else {
             LOGGER.debug("retry message AutomationCompositionStateChange");
-            acStateChangePublisher.send(acToSend, startPhase, false, acDefinition, null);
+            delayedDispatcher.schedule(() -> acStateChangePublisher.send(acToSend, startPhase, false, acDefinition,
+                    null), PHASE_MESSAGE_DELAY_MS);
         }
     }
 
@@ -0,0 +1,119 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.acm.runtime.supervision.scanner;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.policy.clamp.models.acm.persistence.repository.AutomationCompositionRepository.StateCount;
+import org.springframework.stereotype.Component;
+
+/**
+ * Metrics of the supervision scan: a timer for each phase of the scan, the number of ids scanned and of messages
+ * drained, and gauges of the automation compositions by state and of the messages still pending by id.
+ * The gauges are updated by the scheduled scan, not on each read of the metrics.
+ */
+@Component
+public class ScanMetrics {
+
+    public static final String RUN = "run";
+    public static final String REMOVE_OLD_JOBS = "removeOldJobs";
+    public static final String CHECK_LAST_MSG = "checkLastMsg";
+    public static final String CREATE_JOB = "createJob";
+    public static final String SCAN_MESSAGE = "scanMessage";
+    public static final String SAVE_AND_SYNC = "saveAndSync";
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Counter scannedIds;
+    private final Counter drainedMessages;
+    private final MultiGauge instanceStates;
+    private final MultiGauge pendingMessages;
+
+    /**
+     * Constructor.
+     *
+     * @param registry the MeterRegistry
+     */
+    public ScanMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        scannedIds = Counter.builder("acm.scan.ids")
+                .description("Compositions and instances scanned").register(registry);
+        drainedMessages = Counter.builder("acm.scan.messages")
+                .description("Participant messages drained by the scan").register(registry);
+        instanceStates = MultiGauge.builder("acm.instances")
+                .description("Automation composition instances by state").register(registry);
+        pendingMessages = MultiGauge.builder("acm.messages.pending")
+                .description("Participant messages waiting to be scanned by instance or composition")
+                .register(registry);
+    }
+
+    /**
+     * Get the timer of a phase of the scan.
+     *
+     * @param phase the phase
+     * @return the Timer
+     */
+    public Timer timer(String phase) {
+        return timers.computeIfAbsent(phase, key -> Timer.builder("acm.scan.phase")
+                .description("Time spent in a phase of the supervision scan").tag("phase", key).register(registry));
+    }
+
+    public void countScannedIds(int count) {
+        scannedIds.increment(count);
+    }
+
+    public void countDrainedMessages(int count) {
+        drainedMessages.increment(count);
+    }
+
+    /**
+     * Update the number of automation compositions by state.
+     *
+     * @param stateCounts the number of automation compositions by DeployState, LockState and SubState
+     */
+    public void updateInstanceStates(List<StateCount> stateCounts) {
+        instanceStates.register(stateCounts.stream()
+                .<MultiGauge.Row<?>>map(count -> MultiGauge.Row.of(Tags.of(
+                        "deployState", String.valueOf(count.getDeployState()),
+                        "lockState", String.valueOf(count.getLockState()),
+                        "subState", String.valueOf(count.getSubState())), count.getCount()))
+                .toList(), true);
+    }
+
+    /**
+     * Update the number of pending messages. Only the ids with pending messages have a gauge.
+     *
+     * @param messageCounts the number of messages by instanceId or compositionId
+     */
+    public void updatePendingMessages(Map<UUID, Long> messageCounts) {
+        pendingMessages.register(messageCounts.entrySet().stream()
+                .<MultiGauge.Row<?>>map(entry -> MultiGauge.Row.of(
+                        Tags.of("identificationId", entry.getKey().toString()), entry.getValue()))
+                .toList(), true);
+    }
+}
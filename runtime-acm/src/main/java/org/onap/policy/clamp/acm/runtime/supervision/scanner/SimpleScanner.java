@@ -45,13 +45,16 @@ public class SimpleScanner extends AbstractScanner {
      * @param acProvider the provider to use to read automation compositions from the database
      * @param participantSyncPublisher the Participant Sync Publisher
      * @param acRuntimeParameterGroup the parameters for the automation composition runtime
+     * @param scanMetrics the metrics of the scan
      */
     public SimpleScanner(final AutomationCompositionProvider acProvider,
                          final AcDefinitionProvider acDefinitionProvider,
                          final ParticipantSyncPublisher participantSyncPublisher,
                          final AcRuntimeParameterGroup acRuntimeParameterGroup,
-                         final EncryptionUtils encryptionUtils) {
-        super(acProvider, acDefinitionProvider, participantSyncPublisher, acRuntimeParameterGroup, encryptionUtils);
+                         final EncryptionUtils encryptionUtils,
+                         final ScanMetrics scanMetrics) {
+        super(acProvider, acDefinitionProvider, participantSyncPublisher, acRuntimeParameterGroup, encryptionUtils,
+                scanMetrics);
     }
 
     /**
@@ -37,9 +37,9 @@ import org.onap.policy.clamp.models.acm.concepts.StateChangeResult;
 import org.onap.policy.clamp.models.acm.concepts.SubState;
 import org.onap.policy.clamp.models.acm.persistence.provider.AcDefinitionProvider;
 import org.onap.policy.clamp.models.acm.persistence.provider.AutomationCompositionProvider;
-import org.onap.policy.clamp.models.acm.utils.AcmStageUtils;
 import org.onap.policy.clamp.models.acm.utils.AcmStateUtils;
 import org.onap.policy.clamp.models.acm.utils.AcmUtils;
+import org.onap.policy.clamp.models.acm.utils.CompiledAcDefinition;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -47,6 +47,8 @@ public class StageScanner extends AbstractScanner {
 
     private final AutomationCompositionMigrationPublisher acMigrationPublisher;
     private final AcPreparePublisher acPreparePublisher;
+    private final CompiledAcDefinitionCache compiledAcDefinitionCache;
+    private final DelayedDispatcher delayedDispatcher;
 
     /**
      * Constructor for instantiating StageScanner.
@@ -56,6 +58,9 @@ public class StageScanner extends AbstractScanner {
      * @param acMigrationPublisher the AutomationComposition Migration Publisher
      * @param acRuntimeParameterGroup the parameters for the automation composition runtime
      * @param encryptionUtils the EncryptionUtils
+     * @param compiledAcDefinitionCache the cache of the compiled composition definitions
+     * @param delayedDispatcher the dispatcher of the next stage message
+     * @param scanMetrics the metrics of the scan
      */
     public StageScanner(
             final AutomationCompositionProvider acProvider,
@@ -64,10 +69,16 @@ public class StageScanner extends AbstractScanner {
             final AutomationCompositionMigrationPublisher acMigrationPublisher,
             final AcPreparePublisher acPreparePublisher,
             final AcRuntimeParameterGroup acRuntimeParameterGroup,
-            final EncryptionUtils encryptionUtils) {
-        super(acProvider, acDefinitionProvider, participantSyncPublisher, acRuntimeParameterGroup, encryptionUtils);
+            final EncryptionUtils encryptionUtils,
+            final CompiledAcDefinitionCache compiledAcDefinitionCache,
+            final DelayedDispatcher delayedDispatcher,
+            final ScanMetrics scanMetrics) {
+        super(acProvider, acDefinitionProvider, participantSyncPublisher, acRuntimeParameterGroup, encryptionUtils,
+                scanMetrics);
         this.acMigrationPublisher = acMigrationPublisher;
         this.acPreparePublisher = acPreparePublisher;
+        this.compiledAcDefinitionCache = compiledAcDefinitionCache;
+        this.delayedDispatcher = delayedDispatcher;
     }
 
     /**
@@ -80,7 +91,8 @@ public class StageScanner extends AbstractScanner {
     public void scanStage(final AutomationComposition automationComposition,
             AutomationCompositionDefinition acDefinition, UpdateSync updateSync) {
         var rollback = DeployState.MIGRATION_REVERTING.equals(automationComposition.getDeployState());
-        var highStage = AcmStageUtils.getLastStage(automationComposition, acDefinition.getServiceTemplate());
+        var compiledAcDefinition = compiledAcDefinitionCache.get(acDefinition);
+        var highStage = compiledAcDefinition.getLastStage(automationComposition);
         var stageNotCompleted = rollback ? -1 : 1000; // min stage not completed
         var completed = true;
         List<UUID> elementsDeleted = new ArrayList<>();
@@ -88,8 +100,8 @@ public class StageScanner extends AbstractScanner {
             if (AcmStateUtils.isInTransitionalState(element.getDeployState(), element.getLockState(),
                     element.getSubState())) {
                 stageNotCompleted = rollback
-                        ? Math.max(stageNotCompleted, getRollbackCurrentStage(element, acDefinition, highStage))
-                        : Math.min(stageNotCompleted, getCurrentStage(element, acDefinition));
+                        ? Math.max(stageNotCompleted, getRollbackCurrentStage(element, compiledAcDefinition, highStage))
+                        : Math.min(stageNotCompleted, getCurrentStage(element, compiledAcDefinition));
                 completed = false;
             } else if (element.getDeployState().equals(DeployState.DELETED)
                     && automationComposition.getStateChangeResult().equals(StateChangeResult.NO_ERROR)) {
@@ -105,15 +117,14 @@ public class StageScanner extends AbstractScanner {
         }
     }
 
-    private int getCurrentStage(AutomationCompositionElement element, AutomationCompositionDefinition acDefinition) {
-        return element.getStage() != null
-                ? element.getStage() : AcmStageUtils.getFirstStage(element, acDefinition.getServiceTemplate());
+    private int getCurrentStage(AutomationCompositionElement element, CompiledAcDefinition compiledAcDefinition) {
+        return element.getStage() != null ? element.getStage() : compiledAcDefinition.getFirstStage(element);
     }
 
     private int getRollbackCurrentStage(
-            AutomationCompositionElement element, AutomationCompositionDefinition acDefinition, int defaultValue) {
+            AutomationCompositionElement element, CompiledAcDefinition compiledAcDefinition, int defaultValue) {
         return element.getStage() != null ? element.getStage()
-                : AcmStageUtils.getLastStage(element, acDefinition.getServiceTemplate(), defaultValue);
+                : compiledAcDefinition.getLastStage(element, defaultValue);
     }
 
     private void processNextStage(AutomationComposition automationComposition, UpdateSync updateSync,
@@ -126,10 +137,7 @@ public class StageScanner extends AbstractScanner {
             updateSync.setUpdated(true);
             saveAndSync(automationComposition, updateSync);
 
-            // create a pause between sync message and next stage message
-            AcmUtils.pause(AcmUtils.DELAY_MESSAGE);
-
-            var acToSend = new AutomationComposition(automationComposition);
+            var acToSend = AutomationComposition.snapshotOf(automationComposition);
             decryptInstanceProperties(acToSend);
             sendNextStage(acToSend, minStageNotCompleted, acDefinition);
         } else {
@@ -160,23 +168,25 @@ public class StageScanner extends AbstractScanner {
     private void sendNextStage(final AutomationComposition automationComposition, int minStageNotCompleted,
                                AutomationCompositionDefinition acDefinition) {
 
+        // the next stage message is sent after the sync message has been received by the participants
         if (DeployState.MIGRATING.equals(automationComposition.getDeployState())) {
             LOGGER.debug("retry migrating message AutomationCompositionMigration");
             // acDefinition for migration is the Composition target
             var acPriorUpdate = acProvider.getAutomationCompositionRollback(automationComposition.getInstanceId());
             var acDefinitionSource = acDefinitionProvider.getAcDefinition(automationComposition.getCompositionId());
-            acMigrationPublisher.send(acPriorUpdate, automationComposition, minStageNotCompleted,
-                    acDefinitionSource, acDefinition, false);
+            delayedDispatcher.schedule(() -> acMigrationPublisher.send(acPriorUpdate, automationComposition,
+                    minStageNotCompleted, acDefinitionSource, acDefinition, false), AcmUtils.DELAY_MESSAGE);
         } else if (DeployState.MIGRATION_REVERTING.equals(automationComposition.getDeployState())) {
             LOGGER.debug("retry rollback message AutomationCompositionMigration");
             var acPriorUpdate = acProvider.getAutomationCompositionRollback(automationComposition.getInstanceId());
             var acDefinitionTarget =
                     acDefinitionProvider.getAcDefinition(automationComposition.getCompositionTargetId());
-            acMigrationPublisher.send(acPriorUpdate, automationComposition, minStageNotCompleted, acDefinition,
-                    acDefinitionTarget, false);
+            delayedDispatcher.schedule(() -> acMigrationPublisher.send(acPriorUpdate, automationComposition,
+                    minStageNotCompleted, acDefinition, acDefinitionTarget, false), AcmUtils.DELAY_MESSAGE);
         } else if (SubState.PREPARING.equals(automationComposition.getSubState())) {
             LOGGER.debug("retry message AutomationCompositionPrepare");
-            acPreparePublisher.sendPrepare(automationComposition, minStageNotCompleted, acDefinition);
+            delayedDispatcher.schedule(() -> acPreparePublisher.sendPrepare(automationComposition,
+                    minStageNotCompleted, acDefinition), AcmUtils.DELAY_MESSAGE);
         }
     }
 }
@@ -93,10 +93,21 @@ class SupervisionAcHandlerTestHelper {
         return msg
     }
 
+    static def acState(AutomationComposition ac) {
+        def acState = new AutomationCompositionState(instanceId: ac.instanceId, compositionId: ac.compositionId,
+                deployState: ac.deployState, lockState: ac.lockState, subState: ac.subState,
+                stateChangeResult: ac.stateChangeResult, phase: ac.phase, revisionId: ac.revisionId)
+        ac.elements.values().each {
+            acState.elements[it.id] = new AutomationCompositionElementState(it.id, it.participantId,
+                    it.deployState, it.lockState, it.subState)
+        }
+        return acState
+    }
+
     static def ackTestData() {
         def stateChangeAck = "handleAutomationCompositionStateChangeAckMessage"
         def updateAck = "handleAutomationCompositionUpdateAckMessage"
-        def found = { Optional.of(it as Object) }
+        def found = { Optional.of(acState(it)) }
         def notFound = { Optional.empty() }
         def noOp = { }
 
@@ -22,12 +22,16 @@ package org.onap.policy.clamp.acm.runtime.helper
 import org.onap.policy.clamp.acm.runtime.supervision.SupervisionAspect
 import org.onap.policy.clamp.acm.runtime.supervision.SupervisionParticipantScanner
 import org.onap.policy.clamp.acm.runtime.supervision.SupervisionScanner
+import org.onap.policy.clamp.acm.runtime.util.CommonTestData
 
 class SupervisionAspectTestHelper {
 
     static createAspect(SupervisionScanner scanner,
-                        SupervisionParticipantScanner participantScanner) {
-        return new SupervisionAspect(scanner, participantScanner)
+                        SupervisionParticipantScanner participantScanner,
+                        boolean incrementalScan = false) {
+        def parameters = CommonTestData.getTestParamaterGroup()
+        parameters.acmParameters.incrementalScan = incrementalScan
+        return new SupervisionAspect(scanner, participantScanner, parameters)
     }
 
     static void waitForExecution(int millis = 500) {
@@ -19,6 +19,8 @@
  */
 package org.onap.policy.clamp.acm.runtime.helper
 
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.onap.policy.clamp.acm.runtime.instantiation.InstantiationUtils
 import org.onap.policy.clamp.acm.runtime.main.utils.EncryptionUtils
 import org.onap.policy.clamp.acm.runtime.supervision.SupervisionParticipantHandler
@@ -62,7 +64,9 @@ class SupervisionParticipantHandlerTestHelper {
                 mocks.acDefinitionProvider as AcDefinitionProvider,
                 mocks.syncPublisher as ParticipantSyncPublisher,
                 mocks.messageProvider as MessageProvider,
-                mocks.encryptionUtils as EncryptionUtils
+                mocks.encryptionUtils as EncryptionUtils,
+                CommonTestData.getTestParamaterGroup(),
+                mocks.getOrDefault('meterRegistry', new SimpleMeterRegistry()) as MeterRegistry
         )
     }
 
@@ -20,6 +20,7 @@
 package org.onap.policy.clamp.acm.runtime.helper
 
 import org.onap.policy.clamp.acm.runtime.instantiation.InstantiationUtils
+import org.onap.policy.clamp.acm.runtime.supervision.scanner.DelayedDispatcher
 import org.onap.policy.clamp.acm.runtime.util.CommonTestData
 import org.onap.policy.clamp.models.acm.concepts.AcTypeState
 import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionDefinition
@@ -91,4 +92,14 @@ class SupervisionScannerTestHelper {
         }
         return ac
     }
+
+    // runs the delayed messages at once, so the publishers can be verified in the same block
+    static directDispatcher() {
+        return new DelayedDispatcher() {
+            @Override
+            void schedule(Runnable task, long delayMs) {
+                task.run()
+            }
+        }
+    }
 }
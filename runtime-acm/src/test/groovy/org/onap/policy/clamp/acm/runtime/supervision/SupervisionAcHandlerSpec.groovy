@@ -52,7 +52,7 @@ class SupervisionAcHandlerSpec extends Specification {
         def ac = helper.loadAc("Crud")
         def msg = helper.buildAck(ac, deployState, lockState)
         msgModifier(msg)
-        helper.acProvider.findAutomationComposition(_) >> acResult(ac)
+        helper.acProvider.findAutomationCompositionState(_) >> acResult(ac)
 
         when: "the ack message is handled"
         helper.handler."$handlerMethod"(msg)
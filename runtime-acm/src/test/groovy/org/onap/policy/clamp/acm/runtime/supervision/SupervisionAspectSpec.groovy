@@ -20,6 +20,11 @@
 package org.onap.policy.clamp.acm.runtime.supervision
 
 import org.onap.policy.clamp.acm.runtime.helper.SupervisionAspectTestHelper
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionInfo
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.AutomationCompositionDeployAck
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantMessageType
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantPrimeAck
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantStatus
 import spock.lang.Specification
 
 import java.util.concurrent.CountDownLatch
@@ -40,6 +45,7 @@ class SupervisionAspectSpec extends Specification {
 
         then:
         1 * supervisionScanner.run()
+        1 * supervisionScanner.updateGauges()
         1 * participantScanner.run()
 
         cleanup:
@@ -54,8 +60,8 @@ class SupervisionAspectSpec extends Specification {
                 supervisionScanner, participantScanner)
 
         when:
-        aspect.doCheck()
-        aspect.doCheck()
+        aspect.doCheck(new ParticipantStatus())
+        aspect.doCheck(new ParticipantStatus())
         SupervisionAspectTestHelper.waitForExecution()
 
         then:
@@ -82,11 +88,11 @@ class SupervisionAspectSpec extends Specification {
                 supervisionScanner, participantScanner)
 
         when: "first doCheck blocks the executor, next fills queue"
-        aspect.doCheck()
+        aspect.doCheck(new ParticipantStatus())
         Thread.sleep(50)
-        aspect.doCheck()
-        aspect.doCheck()
-        aspect.doCheck()
+        aspect.doCheck(new ParticipantStatus())
+        aspect.doCheck(new ParticipantStatus())
+        aspect.doCheck(new ParticipantStatus())
         latch.countDown()
         SupervisionAspectTestHelper.waitForExecution()
 
@@ -96,4 +102,58 @@ class SupervisionAspectSpec extends Specification {
         cleanup:
         aspect.close()
     }
+
+    def "getQueueSize should report the scans waiting to be executed"() {
+        given:
+        def latch = new CountDownLatch(1)
+        def supervisionScanner = Stub(SupervisionScanner) {
+            run() >> { latch.await() }
+        }
+        def aspect = SupervisionAspectTestHelper.createAspect(
+                supervisionScanner, Mock(SupervisionParticipantScanner))
+
+        when: "first doCheck blocks the executor, next one is queued"
+        aspect.doCheck(new ParticipantStatus())
+        Thread.sleep(50)
+        aspect.doCheck(new ParticipantStatus())
+
+        then:
+        aspect.queueSize == 1
+
+        cleanup:
+        latch.countDown()
+        aspect.close()
+    }
+
+    def "doCheck in incremental mode should schedule only the ids of the message"() {
+        given:
+        def supervisionScanner = Mock(SupervisionScanner)
+        def participantScanner = Mock(SupervisionParticipantScanner)
+        def aspect = SupervisionAspectTestHelper.createAspect(
+                supervisionScanner, participantScanner, true)
+        def instanceId = UUID.randomUUID()
+        def compositionId = UUID.randomUUID()
+        def ack = new AutomationCompositionDeployAck(ParticipantMessageType.AUTOMATION_COMPOSITION_DEPLOY_ACK)
+        ack.automationCompositionId = instanceId
+        def primeAck = new ParticipantPrimeAck()
+        primeAck.compositionId = compositionId
+        def status = new ParticipantStatus()
+        def info = new AutomationCompositionInfo()
+        info.automationCompositionId = instanceId
+        status.automationCompositionInfoList = [info]
+
+        when:
+        aspect.doCheck(ack)
+        aspect.doCheck(primeAck)
+        aspect.doCheck(status)
+        SupervisionAspectTestHelper.waitForExecution()
+
+        then:
+        2 * supervisionScanner.scheduleAutomationComposition(instanceId)
+        1 * supervisionScanner.scheduleAcDefinition(compositionId)
+        0 * supervisionScanner.run()
+
+        cleanup:
+        aspect.close()
+    }
 }
@@ -19,8 +19,11 @@
  */
 package org.onap.policy.clamp.acm.runtime.supervision
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import jakarta.validation.ValidationException
+import jakarta.ws.rs.core.Response
 import org.onap.policy.clamp.models.acm.concepts.ParticipantSupportedElementType
+import org.onap.policy.models.base.PfModelRuntimeException
 import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier
 
 import static org.onap.policy.clamp.acm.runtime.helper.SupervisionParticipantHandlerTestHelper.buildAcDef
@@ -41,6 +44,7 @@ import org.onap.policy.clamp.acm.runtime.supervision.comm.ParticipantDeregisterA
 import org.onap.policy.clamp.acm.runtime.supervision.comm.ParticipantRegisterAckPublisher
 import org.onap.policy.clamp.acm.runtime.supervision.comm.ParticipantSyncPublisher
 import org.onap.policy.clamp.acm.runtime.util.CommonTestData
+import org.onap.policy.clamp.models.acm.concepts.AcTypeState
 import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionInfo
 import org.onap.policy.clamp.models.acm.persistence.provider.AcDefinitionProvider
 import org.onap.policy.clamp.models.acm.persistence.provider.AutomationCompositionProvider
@@ -133,7 +137,7 @@ class SupervisionParticipantHandlerSpec extends Specification {
                         UUID.randomUUID())
         0 * registerAck.send(msg.messageId, PARTICIPANT_ID, REPLICA_ID)
         0 * acDefinitionProvider.updateAcDefinition(_, _)
-        0 * syncPublisher.sendRestartMsg(_, _, _, _)
+        0 * syncPublisher.sendRestartMsg(*_)
         thrown(ValidationException)
     }
 
@@ -163,7 +167,7 @@ class SupervisionParticipantHandlerSpec extends Specification {
                 Optional.of(participant)
         1 * registerAck.send(msg.messageId, PARTICIPANT_ID, REPLICA_ID)
         0 * acDefinitionProvider.updateAcDefinition(_, _)
-        0 * syncPublisher.sendRestartMsg(_, _, _, _)
+        0 * syncPublisher.sendRestartMsg(*_)
     }
 
     def "register with intermediaryVersion should log and process successfully"() {
@@ -189,6 +193,135 @@ class SupervisionParticipantHandlerSpec extends Specification {
         1 * registerAck.send(msg.messageId, PARTICIPANT_ID, REPLICA_ID)
     }
 
+    def "register without cached revisions should send all compositions and instances"() {
+        given:
+        def participantProvider = Mock(ParticipantProvider)
+        def acProvider = Mock(AutomationCompositionProvider)
+        def acDefinitionProvider = Mock(AcDefinitionProvider)
+        def syncPublisher = Mock(ParticipantSyncPublisher)
+        def handler = buildHandler(
+                participantProvider: participantProvider,
+                acProvider: acProvider,
+                acDefinitionProvider: acDefinitionProvider,
+                syncPublisher: syncPublisher)
+        def compositionId = UUID.randomUUID()
+        def acDef = buildPrimedAcDef(compositionId)
+        def ac = buildParticipantAc(compositionId)
+        def msg = createRegisterMessage()
+
+        when:
+        handler.handleParticipantMessage(msg)
+
+        then:
+        1 * participantProvider.getSupportedElementMap() >> Map.of()
+        1 * participantProvider.findParticipant(PARTICIPANT_ID) >> Optional.empty()
+        1 * participantProvider.getCompositionIds(PARTICIPANT_ID) >> Set.of(compositionId)
+        1 * acDefinitionProvider.getAcDefinition(compositionId) >> acDef
+        1 * acProvider.getAcInstancesByCompositionId(compositionId) >> [ac]
+        0 * acProvider.getAcInstanceRevisionsByCompositionId(_)
+        1 * syncPublisher.sendRestartMsg(PARTICIPANT_ID, REPLICA_ID, acDef, [ac], true)
+    }
+
+    def "register with cached revisions '#desc' should send only what is changed"() {
+        given:
+        def participantProvider = Mock(ParticipantProvider)
+        def acProvider = Mock(AutomationCompositionProvider)
+        def acDefinitionProvider = Mock(AcDefinitionProvider)
+        def syncPublisher = Mock(ParticipantSyncPublisher)
+        def handler = buildHandler(
+                participantProvider: participantProvider,
+                acProvider: acProvider,
+                acDefinitionProvider: acDefinitionProvider,
+                syncPublisher: syncPublisher)
+        def compositionId = UUID.randomUUID()
+        def acDef = buildPrimedAcDef(compositionId)
+        def ac = buildParticipantAc(compositionId)
+        def msg = createRegisterMessage()
+        msg.compositionRevisions = [(compositionId): compositionCached ? acDef.revisionId : UUID.randomUUID()]
+        msg.instanceRevisions = [(ac.instanceId): instanceCached ? ac.revisionId : UUID.randomUUID()]
+
+        when:
+        handler.handleParticipantMessage(msg)
+
+        then:
+        1 * participantProvider.getSupportedElementMap() >> Map.of()
+        1 * participantProvider.findParticipant(PARTICIPANT_ID) >> Optional.empty()
+        1 * participantProvider.getCompositionIds(PARTICIPANT_ID) >> Set.of(compositionId)
+        1 * acDefinitionProvider.getAcDefinition(compositionId) >> acDef
+        1 * acProvider.getAcInstanceRevisionsByCompositionId(compositionId) >> Map.of(ac.instanceId, ac.revisionId)
+        loadCount * acProvider.getAutomationComposition(ac.instanceId) >> ac
+        0 * acProvider.getAcInstancesByCompositionId(_)
+        sendCount * syncPublisher.sendRestartMsg(PARTICIPANT_ID, REPLICA_ID, acDef,
+                instanceCached ? [] : [ac], !compositionCached)
+
+        where:
+        desc                  | compositionCached | instanceCached | loadCount | sendCount
+        "all cached"          | true              | true           | 0         | 0
+        "instance changed"    | true              | false          | 1         | 1
+        "composition changed" | false             | true           | 0         | 1
+    }
+
+    // ---- Restart all ----
+
+    def "restart of all participants should restart each participant and record the fan-out"() {
+        given:
+        def participantProvider = Mock(ParticipantProvider)
+        def acDefinitionProvider = Mock(AcDefinitionProvider)
+        def syncPublisher = Mock(ParticipantSyncPublisher)
+        def acProvider = Mock(AutomationCompositionProvider)
+        def registry = new SimpleMeterRegistry()
+        def handler = buildHandler(
+                participantProvider: participantProvider,
+                acProvider: acProvider,
+                acDefinitionProvider: acDefinitionProvider,
+                syncPublisher: syncPublisher,
+                meterRegistry: registry)
+        def participantIds = (1..5).collect { UUID.randomUUID() }
+        def compositionId = UUID.randomUUID()
+        def acDef = buildPrimedAcDef(compositionId)
+
+        when:
+        handler.handleRestartOfAllParticipants()
+
+        then:
+        1 * participantProvider.getParticipants() >> participantIds.collect { CommonTestData.createParticipant(it) }
+        interaction {
+            participantIds.each { id ->
+                1 * participantProvider.getCompositionIds(id) >> Set.of(compositionId)
+                1 * syncPublisher.sendRestartMsg(id, null, acDef, [], true)
+            }
+        }
+        5 * acDefinitionProvider.getAcDefinition(compositionId) >> acDef
+        5 * acProvider.getAcInstancesByCompositionId(compositionId) >> []
+        registry.get("acm.restart.fanout").timer().count() == 1
+
+        cleanup:
+        handler.close()
+    }
+
+    def "restart of all participants should throw the failure of a participant"() {
+        given:
+        def participantProvider = Mock(ParticipantProvider)
+        def acDefinitionProvider = Mock(AcDefinitionProvider)
+        def handler = buildHandler(
+                participantProvider: participantProvider,
+                acDefinitionProvider: acDefinitionProvider)
+        def compositionId = UUID.randomUUID()
+
+        when:
+        handler.handleRestartOfAllParticipants()
+
+        then:
+        1 * participantProvider.getParticipants() >> [CommonTestData.createParticipant(PARTICIPANT_ID)]
+        1 * participantProvider.getCompositionIds(PARTICIPANT_ID) >> Set.of(compositionId)
+        1 * acDefinitionProvider.getAcDefinition(compositionId) >>
+                { throw new PfModelRuntimeException(Response.Status.NOT_FOUND, "not found") }
+        thrown(PfModelRuntimeException)
+
+        cleanup:
+        handler.close()
+    }
+
     // ---- Status ----
 
     def "status with instance out properties should save them"() {
@@ -384,6 +517,20 @@ class SupervisionParticipantHandlerSpec extends Specification {
         participant.getReplicas().put(REPLICA_ID, replica)
         return participant
     }
+    def buildPrimedAcDef(UUID compositionId) {
+        def acDef = buildAcDef(compositionId)
+        acDef.state = AcTypeState.PRIMED
+        acDef.revisionId = UUID.randomUUID()
+        return acDef
+    }
+
+    def buildParticipantAc(UUID compositionId) {
+        def ac = buildDeployedAc(compositionId)
+        ac.revisionId = UUID.randomUUID()
+        ac.elements.values().each { it.participantId = PARTICIPANT_ID }
+        return ac
+    }
+
     def buildParticipantDiff() {
         def participant = buildParticipant()
         def participantSupportedElementType = new ParticipantSupportedElementType()
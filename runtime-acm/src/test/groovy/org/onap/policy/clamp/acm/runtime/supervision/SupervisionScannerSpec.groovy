@@ -22,15 +22,19 @@ package org.onap.policy.clamp.acm.runtime.supervision
 import static org.onap.policy.clamp.acm.runtime.helper.SupervisionScannerTestHelper.buildAcDefinition
 import static org.onap.policy.clamp.acm.runtime.helper.SupervisionScannerTestHelper.buildMigratingAcFromResource
 import static org.onap.policy.clamp.acm.runtime.helper.SupervisionScannerTestHelper.buildMigratingAcWithMigrationStates
+import static org.onap.policy.clamp.acm.runtime.helper.SupervisionScannerTestHelper.directDispatcher
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.onap.policy.clamp.acm.runtime.instantiation.InstantiationUtils
 import org.onap.policy.clamp.acm.runtime.main.utils.EncryptionUtils
 import org.onap.policy.clamp.acm.runtime.supervision.comm.AcPreparePublisher
 import org.onap.policy.clamp.acm.runtime.supervision.comm.AutomationCompositionMigrationPublisher
 import org.onap.policy.clamp.acm.runtime.supervision.comm.ParticipantSyncPublisher
 import org.onap.policy.clamp.acm.runtime.supervision.scanner.AcDefinitionScanner
+import org.onap.policy.clamp.acm.runtime.supervision.scanner.CompiledAcDefinitionCache
 import org.onap.policy.clamp.acm.runtime.supervision.scanner.MonitoringScanner
 import org.onap.policy.clamp.acm.runtime.supervision.scanner.PhaseScanner
+import org.onap.policy.clamp.acm.runtime.supervision.scanner.ScanMetrics
 import org.onap.policy.clamp.acm.runtime.supervision.scanner.SimpleScanner
 import org.onap.policy.clamp.acm.runtime.supervision.scanner.StageScanner
 import org.onap.policy.clamp.acm.runtime.supervision.scanner.UpdateSync
@@ -38,6 +42,7 @@ import org.onap.policy.clamp.acm.runtime.util.CommonTestData
 import org.onap.policy.clamp.models.acm.concepts.AcTypeState
 import org.onap.policy.clamp.models.acm.concepts.AutomationComposition
 import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionDefinition
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionState
 import org.onap.policy.clamp.models.acm.concepts.DeployState
 import org.onap.policy.clamp.models.acm.concepts.LockState
 import org.onap.policy.clamp.models.acm.concepts.MigrationState
@@ -67,15 +72,15 @@ class SupervisionScannerSpec extends Specification {
         def messageProvider = Mock(MessageProvider) {
             findCompositionMessages() >> new HashSet([COMPOSITION_ID])
             findInstanceMessages() >> new HashSet()
-            createJob(COMPOSITION_ID) >> Optional.of(JOB_ID)
+            createJobs([COMPOSITION_ID]) >> [(COMPOSITION_ID): JOB_ID]
             getAllMessages(COMPOSITION_ID) >> [message]
         }
         def acProvider = mockAcProvider()
         def monitoringScanner = new MonitoringScanner(acProvider, acDefinitionProvider,
                 acDefinitionScanner, Mock(StageScanner), Mock(SimpleScanner),
-                Mock(PhaseScanner), messageProvider)
+                Mock(PhaseScanner), messageProvider, scanMetrics())
         def scanner = new SupervisionScanner(acProvider, acDefinitionProvider,
-                messageProvider, monitoringScanner)
+                messageProvider, monitoringScanner, CommonTestData.getTestParamaterGroup(), scanMetrics())
 
         when:
         scanner.run()
@@ -83,7 +88,7 @@ class SupervisionScannerSpec extends Specification {
         then:
         1 * acDefinitionScanner.scanAutomationCompositionDefinition(_, _)
         1 * messageProvider.removeMessage(_)
-        1 * messageProvider.removeJob(JOB_ID)
+        1 * messageProvider.removeJobs({ it.toList() == [JOB_ID] })
     }
 
     def "scan AcDefinition when job already exists should skip scan"() {
@@ -93,14 +98,14 @@ class SupervisionScannerSpec extends Specification {
         def messageProvider = Mock(MessageProvider) {
             findCompositionMessages() >> new HashSet()
             findInstanceMessages() >> new HashSet()
-            createJob(COMPOSITION_ID) >> Optional.empty()
+            createJobs([COMPOSITION_ID]) >> [:]
         }
         def acProvider = mockAcProvider()
         def monitoringScanner = new MonitoringScanner(acProvider, acDefinitionProvider,
                 acDefinitionScanner, Mock(StageScanner), Mock(SimpleScanner),
-                Mock(PhaseScanner), messageProvider)
+                Mock(PhaseScanner), messageProvider, scanMetrics())
         def scanner = new SupervisionScanner(acProvider, acDefinitionProvider,
-                messageProvider, monitoringScanner)
+                messageProvider, monitoringScanner, CommonTestData.getTestParamaterGroup(), scanMetrics())
 
         when:
         scanner.run()
@@ -123,15 +128,15 @@ class SupervisionScannerSpec extends Specification {
         def messageProvider = Mock(MessageProvider) {
             findCompositionMessages() >> new HashSet()
             findInstanceMessages() >> new HashSet()
-            createJob(ac.instanceId) >> Optional.of(JOB_ID)
+            createJobs([ac.instanceId]) >> [(ac.instanceId): JOB_ID]
             getAllMessages(_) >> []
         }
         def acDefinitionProvider = buildAcDefinitionProvider(AcTypeState.PRIMED)
         def monitoringScanner = new MonitoringScanner(acProvider, acDefinitionProvider,
                 Mock(AcDefinitionScanner), stageScanner, simpleScanner,
-                phaseScanner, messageProvider)
+                phaseScanner, messageProvider, scanMetrics())
         def scanner = new SupervisionScanner(acProvider, acDefinitionProvider,
-                messageProvider, monitoringScanner)
+                messageProvider, monitoringScanner, CommonTestData.getTestParamaterGroup(), scanMetrics())
 
         when:
         scanner.run()
@@ -147,6 +152,36 @@ class SupervisionScannerSpec extends Specification {
         "failed"           | DeployState.DEPLOYING  | StateChangeResult.FAILED
     }
 
+    def "scan stable AC without messages should not load the AC"() {
+        given:
+        def acState = new AutomationCompositionState(instanceId: INSTANCE_ID, compositionId: COMPOSITION_ID,
+                deployState: DeployState.DEPLOYED, lockState: LockState.LOCKED, subState: SubState.NONE,
+                stateChangeResult: StateChangeResult.NO_ERROR)
+        def acProvider = mockAcProvider(new HashSet([INSTANCE_ID]))
+        acProvider.findAutomationCompositionState(INSTANCE_ID) >> Optional.of(acState)
+        def simpleScanner = Mock(SimpleScanner)
+        def messageProvider = Mock(MessageProvider) {
+            findCompositionMessages() >> new HashSet()
+            findInstanceMessages() >> new HashSet()
+            createJobs([INSTANCE_ID]) >> [(INSTANCE_ID): JOB_ID]
+            getAllMessages(_) >> []
+        }
+        def acDefinitionProvider = buildAcDefinitionProvider(AcTypeState.PRIMED)
+        def monitoringScanner = new MonitoringScanner(acProvider, acDefinitionProvider,
+                Mock(AcDefinitionScanner), Mock(StageScanner), simpleScanner,
+                Mock(PhaseScanner), messageProvider, scanMetrics())
+        def scanner = new SupervisionScanner(acProvider, acDefinitionProvider,
+                messageProvider, monitoringScanner, CommonTestData.getTestParamaterGroup(), scanMetrics())
+
+        when:
+        scanner.run()
+
+        then:
+        0 * acProvider.findAutomationComposition(_)
+        0 * simpleScanner.saveAndSync(_, _)
+        1 * messageProvider.removeJobs({ it.toList() == [JOB_ID] })
+    }
+
     def "scan AC removed from DB should remove job"() {
         given:
         def acProvider = mockAcProvider(new HashSet([INSTANCE_ID]))
@@ -157,15 +192,15 @@ class SupervisionScannerSpec extends Specification {
         def messageProvider = Mock(MessageProvider) {
             findCompositionMessages() >> new HashSet()
             findInstanceMessages() >> new HashSet()
-            createJob(INSTANCE_ID) >> Optional.of(JOB_ID)
+            createJobs([INSTANCE_ID]) >> [(INSTANCE_ID): JOB_ID]
             getAllMessages(_) >> []
         }
         def acDefinitionProvider = buildAcDefinitionProvider(AcTypeState.PRIMED)
         def monitoringScanner = new MonitoringScanner(acProvider, acDefinitionProvider,
                 Mock(AcDefinitionScanner), stageScanner, simpleScanner,
-                phaseScanner, messageProvider)
+                phaseScanner, messageProvider, scanMetrics())
         def scanner = new SupervisionScanner(acProvider, acDefinitionProvider,
-                messageProvider, monitoringScanner)
+                messageProvider, monitoringScanner, CommonTestData.getTestParamaterGroup(), scanMetrics())
 
         when:
         scanner.run()
@@ -174,7 +209,7 @@ class SupervisionScannerSpec extends Specification {
         0 * stageScanner.scanStage(_, _, _, _)
         0 * simpleScanner.simpleScan(_, _)
         0 * phaseScanner.scanWithPhase(_, _, _)
-        1 * messageProvider.removeJob(JOB_ID)
+        1 * messageProvider.removeJobs({ it.toList() == [JOB_ID] })
     }
 
     def "scan job failure due to DataIntegrityViolation should skip processing"() {
@@ -193,15 +228,15 @@ class SupervisionScannerSpec extends Specification {
         def messageProvider = Mock(MessageProvider) {
             findCompositionMessages() >> new HashSet()
             findInstanceMessages() >> new HashSet([INSTANCE_ID])
-            createJob(ac.instanceId) >> { throw new DataIntegrityViolationException("", null) }
+            createJobs([ac.instanceId]) >> { throw new DataIntegrityViolationException("", null) }
             getAllMessages(INSTANCE_ID) >> [message]
         }
         def acDefinitionProvider = buildAcDefinitionProvider(AcTypeState.PRIMED)
         def monitoringScanner = new MonitoringScanner(acProvider, acDefinitionProvider,
                 Mock(AcDefinitionScanner), stageScanner, simpleScanner,
-                phaseScanner, messageProvider)
+                phaseScanner, messageProvider, scanMetrics())
         def scanner = new SupervisionScanner(acProvider, acDefinitionProvider,
-                messageProvider, monitoringScanner)
+                messageProvider, monitoringScanner, CommonTestData.getTestParamaterGroup(), scanMetrics())
 
         when:
         scanner.run()
@@ -211,7 +246,9 @@ class SupervisionScannerSpec extends Specification {
         0 * simpleScanner.simpleScan(_, _)
         0 * phaseScanner.scanWithPhase(_, _, _)
         0 * messageProvider.removeMessage(_)
+        0 * messageProvider.createJob(_)
         0 * messageProvider.removeJob(_)
+        1 * messageProvider.removeJobs({ it.isEmpty() })
     }
 
     def "scan DEPLOYING AC should invoke phaseScanner"() {
@@ -230,15 +267,15 @@ class SupervisionScannerSpec extends Specification {
         def messageProvider = Mock(MessageProvider) {
             findCompositionMessages() >> new HashSet()
             findInstanceMessages() >> new HashSet([INSTANCE_ID])
-            createJob(ac.instanceId) >> Optional.of(JOB_ID)
+            createJobs([ac.instanceId]) >> [(ac.instanceId): JOB_ID]
             getAllMessages(INSTANCE_ID) >> [message]
         }
         def acDefinitionProvider = buildAcDefinitionProvider(AcTypeState.PRIMED)
         def monitoringScanner = new MonitoringScanner(acProvider, acDefinitionProvider,
                 Mock(AcDefinitionScanner), stageScanner, simpleScanner,
-                phaseScanner, messageProvider)
+                phaseScanner, messageProvider, scanMetrics())
         def scanner = new SupervisionScanner(acProvider, acDefinitionProvider,
-                messageProvider, monitoringScanner)
+                messageProvider, monitoringScanner, CommonTestData.getTestParamaterGroup(), scanMetrics())
 
         when:
         scanner.run()
@@ -248,7 +285,7 @@ class SupervisionScannerSpec extends Specification {
         0 * simpleScanner.simpleScan(_, _)
         1 * phaseScanner.scanWithPhase(_, _, _)
         1 * messageProvider.removeMessage(_)
-        1 * messageProvider.removeJob(JOB_ID)
+        1 * messageProvider.removeJobs({ it.toList() == [JOB_ID] })
     }
 
     def "scan MIGRATING AC should invoke stageScanner"() {
@@ -267,21 +304,21 @@ class SupervisionScannerSpec extends Specification {
         def messageProvider = Mock(MessageProvider) {
             findCompositionMessages() >> new HashSet()
             findInstanceMessages() >> new HashSet()
-            createJob(ac.instanceId) >> Optional.of(JOB_ID)
+            createJobs([ac.instanceId]) >> [(ac.instanceId): JOB_ID]
             getAllMessages(_) >> []
         }
         def monitoringScanner = new MonitoringScanner(acProvider, acDefinitionProvider,
                 Mock(AcDefinitionScanner), stageScanner, Mock(SimpleScanner),
-                Mock(PhaseScanner), messageProvider)
+                Mock(PhaseScanner), messageProvider, scanMetrics())
         def scanner = new SupervisionScanner(acProvider, acDefinitionProvider,
-                messageProvider, monitoringScanner)
+                messageProvider, monitoringScanner, CommonTestData.getTestParamaterGroup(), scanMetrics())
 
         when:
         scanner.run()
 
         then:
         1 * stageScanner.scanStage(ac, _, _)
-        1 * messageProvider.removeJob(JOB_ID)
+        1 * messageProvider.removeJobs({ it.toList() == [JOB_ID] })
     }
 
     def "scan MIGRATION_REVERTING AC should invoke stageScanner"() {
@@ -301,21 +338,21 @@ class SupervisionScannerSpec extends Specification {
         def messageProvider = Mock(MessageProvider) {
             findCompositionMessages() >> new HashSet()
             findInstanceMessages() >> new HashSet()
-            createJob(ac.instanceId) >> Optional.of(JOB_ID)
+            createJobs([ac.instanceId]) >> [(ac.instanceId): JOB_ID]
             getAllMessages(_) >> []
         }
         def monitoringScanner = new MonitoringScanner(acProvider, acDefinitionProvider,
                 Mock(AcDefinitionScanner), stageScanner, Mock(SimpleScanner),
-                Mock(PhaseScanner), messageProvider)
+                Mock(PhaseScanner), messageProvider, scanMetrics())
         def scanner = new SupervisionScanner(acProvider, acDefinitionProvider,
-                messageProvider, monitoringScanner)
+                messageProvider, monitoringScanner, CommonTestData.getTestParamaterGroup(), scanMetrics())
 
         when:
         scanner.run()
 
         then:
         1 * stageScanner.scanStage(ac, _, _)
-        1 * messageProvider.removeJob(JOB_ID)
+        1 * messageProvider.removeJobs({ it.toList() == [JOB_ID] })
     }
 
     def "scan migration success should remove REMOVED elements and reset state"() {
@@ -337,18 +374,18 @@ class SupervisionScannerSpec extends Specification {
                 Mock(ParticipantSyncPublisher),
                 Mock(AutomationCompositionMigrationPublisher),
                 Mock(AcPreparePublisher), acRuntimeParameterGroup,
-                Mock(EncryptionUtils))
+                Mock(EncryptionUtils), new CompiledAcDefinitionCache(), directDispatcher(), scanMetrics())
         def messageProvider = Mock(MessageProvider) {
             findCompositionMessages() >> new HashSet()
             findInstanceMessages() >> new HashSet()
-            createJob(ac.instanceId) >> Optional.of(JOB_ID)
+            createJobs([ac.instanceId]) >> [(ac.instanceId): JOB_ID]
             getAllMessages(_) >> []
         }
         def monitoringScanner = new MonitoringScanner(acProvider, acDefinitionProvider,
                 Mock(AcDefinitionScanner), stageScanner, Mock(SimpleScanner),
-                Mock(PhaseScanner), messageProvider)
+                Mock(PhaseScanner), messageProvider, scanMetrics())
         def scanner = new SupervisionScanner(acProvider, acDefinitionProvider,
-                messageProvider, monitoringScanner)
+                messageProvider, monitoringScanner, CommonTestData.getTestParamaterGroup(), scanMetrics())
 
         when:
         scanner.run()
@@ -357,7 +394,7 @@ class SupervisionScannerSpec extends Specification {
         ac.elements.size() == 2
         ac.deployState == DeployState.DEPLOYED
         ac.elements.values().every { it.migrationState == MigrationState.DEFAULT }
-        1 * messageProvider.removeJob(JOB_ID)
+        1 * messageProvider.removeJobs({ it.toList() == [JOB_ID] })
     }
 
     def "scan '#desc' should invoke simpleScanner"() {
@@ -377,22 +414,22 @@ class SupervisionScannerSpec extends Specification {
         def messageProvider = Mock(MessageProvider) {
             findCompositionMessages() >> new HashSet()
             findInstanceMessages() >> new HashSet()
-            createJob(ac.instanceId) >> Optional.of(JOB_ID)
+            createJobs([ac.instanceId]) >> [(ac.instanceId): JOB_ID]
             getAllMessages(_) >> []
         }
         def acDefinitionProvider = buildAcDefinitionProvider(AcTypeState.PRIMED)
         def monitoringScanner = new MonitoringScanner(acProvider, acDefinitionProvider,
                 Mock(AcDefinitionScanner), Mock(StageScanner), simpleScanner,
-                Mock(PhaseScanner), messageProvider)
+                Mock(PhaseScanner), messageProvider, scanMetrics())
         def scanner = new SupervisionScanner(acProvider, acDefinitionProvider,
-                messageProvider, monitoringScanner)
+                messageProvider, monitoringScanner, CommonTestData.getTestParamaterGroup(), scanMetrics())
 
         when:
         scanner.run()
 
         then:
         1 * simpleScanner.simpleScan(ac, _)
-        1 * messageProvider.removeJob(JOB_ID)
+        1 * messageProvider.removeJobs({ it.toList() == [JOB_ID] })
 
         where:
         desc                    | deployState            | subState
@@ -419,7 +456,7 @@ class SupervisionScannerSpec extends Specification {
         def messageProvider = Mock(MessageProvider) {
             findCompositionMessages() >> new HashSet()
             findInstanceMessages() >> new HashSet([INSTANCE_ID])
-            createJob(ac.instanceId) >> Optional.of(JOB_ID)
+            createJobs([ac.instanceId]) >> [(ac.instanceId): JOB_ID]
             getAllMessages(INSTANCE_ID) >> [message]
         }
         def phaseScanner = Mock(PhaseScanner)
@@ -427,9 +464,9 @@ class SupervisionScannerSpec extends Specification {
         def acDefinitionProvider = buildAcDefinitionProvider(AcTypeState.PRIMED)
         def monitoringScanner = new MonitoringScanner(acProvider, acDefinitionProvider,
                 Mock(AcDefinitionScanner), stageScanner, simpleScanner,
-                phaseScanner, messageProvider)
+                phaseScanner, messageProvider, scanMetrics())
         def scanner = new SupervisionScanner(acProvider, acDefinitionProvider,
-                messageProvider, monitoringScanner)
+                messageProvider, monitoringScanner, CommonTestData.getTestParamaterGroup(), scanMetrics())
 
         when:
         scanner.run()
@@ -440,7 +477,7 @@ class SupervisionScannerSpec extends Specification {
         0 * phaseScanner.scanWithPhase(_, _, _)
         1 * simpleScanner.saveAndSync(_, _)
         1 * messageProvider.removeMessage(_)
-        1 * messageProvider.removeJob(JOB_ID)
+        1 * messageProvider.removeJobs({ it.toList() == [JOB_ID] })
     }
 
     // ---- Helpers ----
@@ -466,4 +503,8 @@ class SupervisionScannerSpec extends Specification {
         provider.getAcInstancesInTransition() >> instancesInTransition
         return provider
     }
+
+    def scanMetrics() {
+        new ScanMetrics(new SimpleMeterRegistry())
+    }
 }
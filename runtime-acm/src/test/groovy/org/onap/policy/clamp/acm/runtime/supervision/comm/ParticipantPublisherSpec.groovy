@@ -0,0 +1,75 @@
+/*-
+ * ============LICENSE_START=======================================================
+ *  Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.policy.clamp.acm.runtime.supervision.comm
+
+import java.util.concurrent.CompletableFuture
+import org.onap.policy.clamp.acm.runtime.util.CommonTestData
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantStatusReq
+import org.springframework.kafka.core.KafkaTemplate
+import org.springframework.kafka.support.SendResult
+import spock.lang.Specification
+
+class ParticipantPublisherSpec extends Specification {
+
+    static final TOPIC = "policy-acruntime-participant"
+
+    KafkaTemplate kafkaTemplate = Mock()
+
+    private ParticipantPublisher createPublisher(boolean async) {
+        def parameters = CommonTestData.getTestParamaterGroup()
+        parameters.asyncPublish = async
+        parameters.maxInFlightMessages = 1
+        def publisher = new ParticipantPublisher(kafkaTemplate, parameters)
+        publisher.operationTopic = TOPIC  // Note groovy allows setting private fields directly
+        return publisher
+    }
+
+    def "sync send waits for the acknowledgement and does not throw when it fails"() {
+        given:
+        def publisher = createPublisher(false)
+        def message = new ParticipantStatusReq()
+
+        when:
+        publisher.send(message)
+
+        then:
+        1 * kafkaTemplate.send(TOPIC, message) >> failedFuture("Kafka down")
+        noExceptionThrown()
+    }
+
+    def "async send does not wait for the acknowledgement"() {
+        given:
+        def publisher = createPublisher(true)
+        def message = new ParticipantStatusReq()
+
+        when: 'the message is never acknowledged'
+        publisher.send(message)
+
+        then: 'the send returns and holds the only in-flight permit'
+        1 * kafkaTemplate.send(TOPIC, message) >> new CompletableFuture<SendResult>()
+        publisher.sender.inFlight.availablePermits() == 0
+    }
+
+    private static CompletableFuture<SendResult> failedFuture(String message) {
+        def future = new CompletableFuture<SendResult>()
+        future.completeExceptionally(new RuntimeException(message))
+        return future
+    }
+}
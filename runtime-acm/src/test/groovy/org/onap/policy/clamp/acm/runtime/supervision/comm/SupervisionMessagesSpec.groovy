@@ -260,6 +260,26 @@ class SupervisionMessagesSpec extends Specification {
         1 * participantPublisher.sendToSyncTopic(_ as ParticipantSync)
     }
 
+    def "send ParticipantSync for restart with definitions '#withDefinitions'"() {
+        given:
+        def publisher = new ParticipantSyncPublisher(CommonTestData.getTestParamaterGroup(), participantPublisher)
+        def ac = loadAcFromResource()
+        def participantId = ac.elements.values().iterator().next().participantId
+        def acmDefinition = buildAcmDefinition()
+        acmDefinition.elementStateMap.values().iterator().next().participantId = participantId
+
+        when:
+        publisher.sendRestartMsg(participantId, UUID.randomUUID(), acmDefinition, [ac], withDefinitions)
+
+        then:
+        1 * participantPublisher.sendToSyncTopic({ ParticipantSync msg ->
+            msg.participantDefinitionUpdates.isEmpty() != withDefinitions
+                    && msg.automationcompositionList.size() == 1 })
+
+        where:
+        withDefinitions << [true, false]
+    }
+
     def "receive ParticipantRegister should delegate to participantHandler"() {
         given:
         def handler = Mock(SupervisionParticipantHandler)
@@ -26,7 +26,9 @@ import static org.onap.policy.clamp.acm.runtime.helper.PhaseScannerTestHelper.bu
 import static org.onap.policy.clamp.acm.runtime.helper.PhaseScannerTestHelper.buildDeployingAcForStartPhase
 import static org.onap.policy.clamp.acm.runtime.helper.PhaseScannerTestHelper.buildUndeployingAcWithTarget
 import static org.onap.policy.clamp.acm.runtime.helper.PhaseScannerTestHelper.buildUnlockingAc
+import static org.onap.policy.clamp.acm.runtime.helper.SupervisionScannerTestHelper.directDispatcher
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.onap.policy.clamp.acm.runtime.main.utils.EncryptionUtils
 import org.onap.policy.clamp.acm.runtime.supervision.comm.AutomationCompositionDeployPublisher
 import org.onap.policy.clamp.acm.runtime.supervision.comm.AutomationCompositionStateChangePublisher
@@ -57,7 +59,8 @@ class PhaseScannerSpec extends Specification {
         def phaseScanner = new PhaseScanner(acProvider, Mock(AcDefinitionProvider), Mock(ParticipantSyncPublisher),
                 Mock(AutomationCompositionStateChangePublisher),
                 Mock(AutomationCompositionDeployPublisher),
-                acRuntimeParameterGroup, new EncryptionUtils(acRuntimeParameterGroup))
+                acRuntimeParameterGroup, new EncryptionUtils(acRuntimeParameterGroup),
+                new CompiledAcDefinitionCache(), directDispatcher(), scanMetrics())
         def acDefinition = buildAcDefinition()
 
         when:
@@ -87,7 +90,8 @@ class PhaseScannerSpec extends Specification {
         def phaseScanner = new PhaseScanner(acProvider, Mock(AcDefinitionProvider), participantSyncPublisher,
                 Mock(AutomationCompositionStateChangePublisher),
                 Mock(AutomationCompositionDeployPublisher),
-                acRuntimeParameterGroup, new EncryptionUtils(acRuntimeParameterGroup))
+                acRuntimeParameterGroup, new EncryptionUtils(acRuntimeParameterGroup),
+                new CompiledAcDefinitionCache(), directDispatcher(), scanMetrics())
         def acDefinition = buildAcDefinition()
 
         when:
@@ -111,7 +115,8 @@ class PhaseScannerSpec extends Specification {
         def phaseScanner = new PhaseScanner(acProvider, Mock(AcDefinitionProvider), participantSyncPublisher,
                 Mock(AutomationCompositionStateChangePublisher),
                 Mock(AutomationCompositionDeployPublisher),
-                acRuntimeParameterGroup, new EncryptionUtils(acRuntimeParameterGroup))
+                acRuntimeParameterGroup, new EncryptionUtils(acRuntimeParameterGroup),
+                new CompiledAcDefinitionCache(), directDispatcher(), scanMetrics())
         def acDefinition = buildAcDefinition()
 
         when:
@@ -137,7 +142,8 @@ class PhaseScannerSpec extends Specification {
         def phaseScanner = new PhaseScanner(acProvider, Mock(AcDefinitionProvider), participantSyncPublisher,
                 Mock(AutomationCompositionStateChangePublisher),
                 Mock(AutomationCompositionDeployPublisher),
-                acRuntimeParameterGroup, new EncryptionUtils(acRuntimeParameterGroup))
+                acRuntimeParameterGroup, new EncryptionUtils(acRuntimeParameterGroup),
+                new CompiledAcDefinitionCache(), directDispatcher(), scanMetrics())
         def acDefinition = buildAcDefinition()
 
         when:
@@ -158,7 +164,8 @@ class PhaseScannerSpec extends Specification {
         def phaseScanner = new PhaseScanner(acProvider, Mock(AcDefinitionProvider), Mock(ParticipantSyncPublisher),
                 Mock(AutomationCompositionStateChangePublisher),
                 acDeployPublisher, acRuntimeParameterGroup,
-                new EncryptionUtils(acRuntimeParameterGroup))
+                new EncryptionUtils(acRuntimeParameterGroup),
+                new CompiledAcDefinitionCache(), directDispatcher(), scanMetrics())
         def acDefinition = buildAcDefinition()
 
         when:
@@ -177,7 +184,8 @@ class PhaseScannerSpec extends Specification {
         def phaseScanner = new PhaseScanner(acProvider, Mock(AcDefinitionProvider), Mock(ParticipantSyncPublisher),
                 Mock(AutomationCompositionStateChangePublisher),
                 acDeployPublisher, acRuntimeParameterGroup,
-                new EncryptionUtils(acRuntimeParameterGroup))
+                new EncryptionUtils(acRuntimeParameterGroup),
+                new CompiledAcDefinitionCache(), directDispatcher(), scanMetrics())
         def acDefinition = buildAcDefinition()
 
         when:
@@ -199,7 +207,8 @@ class PhaseScannerSpec extends Specification {
         def phaseScanner = new PhaseScanner(Mock(AutomationCompositionProvider), acDefinitionProvider,
                 Mock(ParticipantSyncPublisher), acStateChangePublisher,
                 Mock(AutomationCompositionDeployPublisher),
-                acRuntimeParameterGroup, new EncryptionUtils(acRuntimeParameterGroup))
+                acRuntimeParameterGroup, new EncryptionUtils(acRuntimeParameterGroup),
+                new CompiledAcDefinitionCache(), directDispatcher(), scanMetrics())
         def acDefinition = buildAcDefinition()
 
         when:
@@ -218,7 +227,8 @@ class PhaseScannerSpec extends Specification {
         def acRuntimeParameterGroup = CommonTestData.getParameterGroup("dbScanner")
         def phaseScanner = new PhaseScanner(acProvider, Mock(AcDefinitionProvider), Mock(ParticipantSyncPublisher),
                 acStateChangePublisher, Mock(AutomationCompositionDeployPublisher),
-                acRuntimeParameterGroup, new EncryptionUtils(acRuntimeParameterGroup))
+                acRuntimeParameterGroup, new EncryptionUtils(acRuntimeParameterGroup),
+                new CompiledAcDefinitionCache(), directDispatcher(), scanMetrics())
         def acDefinition = buildAcDefinition()
 
         when:
@@ -227,4 +237,8 @@ class PhaseScannerSpec extends Specification {
         then:
         1 * acStateChangePublisher.send(_ as AutomationComposition, _ as int, _ as boolean, _ as AutomationCompositionDefinition, _)
     }
+
+    def scanMetrics() {
+        new ScanMetrics(new SimpleMeterRegistry())
+    }
 }
@@ -25,7 +25,9 @@ import static org.onap.policy.clamp.acm.runtime.helper.StageScannerTestHelper.bu
 import static org.onap.policy.clamp.acm.runtime.helper.StageScannerTestHelper.buildMigratingAc
 import static org.onap.policy.clamp.acm.runtime.helper.StageScannerTestHelper.buildMigrationRevertingAc
 import static org.onap.policy.clamp.acm.runtime.helper.StageScannerTestHelper.buildPreparingAc
+import static org.onap.policy.clamp.acm.runtime.helper.SupervisionScannerTestHelper.directDispatcher
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.onap.policy.clamp.acm.runtime.main.utils.EncryptionUtils
 import org.onap.policy.clamp.acm.runtime.supervision.comm.AcPreparePublisher
 import org.onap.policy.clamp.acm.runtime.supervision.comm.AutomationCompositionMigrationPublisher
@@ -241,6 +243,11 @@ class StageScannerSpec extends Specification {
         return new StageScanner(acProvider, Mock(AcDefinitionProvider),
                 participantSyncPublisher ?: Mock(ParticipantSyncPublisher),
                 Mock(AutomationCompositionMigrationPublisher), Mock(AcPreparePublisher),
-                acRuntimeParameterGroup, encryptionUtils)
+                acRuntimeParameterGroup, encryptionUtils, new CompiledAcDefinitionCache(), directDispatcher(),
+                scanMetrics())
+    }
+
+    def scanMetrics() {
+        new ScanMetrics(new SimpleMeterRegistry())
     }
 }
@@ -127,7 +127,9 @@ class LiquibaseRollbackTest extends AbstractLiquibaseTestBase {
 
     private static Stream<Arguments> rollbackTagProvider() {
         return Stream.of(
-                Arguments.of("1800", "1801")
+                Arguments.of("1800", "1801"),
+                Arguments.of("1801", "1802"),
+                Arguments.of("1802", "1803")
         );
     }
 
@@ -0,0 +1,156 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.acm.runtime.main.utils;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.onap.policy.clamp.acm.runtime.util.CommonTestData;
+import org.onap.policy.clamp.models.acm.concepts.AutomationComposition;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionDefinition;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionElement;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaConceptIdentifier;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaNodeTemplate;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaNodeType;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaProperty;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaTopologyTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of the encryption and decryption of a sensitive property.
+ * The keyDerivationPerProperty benchmark reproduces the previous behaviour, where the key was derived for each
+ * property, and is the reference to compare with.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class EncryptionUtilsBenchmark {
+
+    private static final String PROPERTY = "password";
+    private static final String PLAIN_TEXT = "topSecret";
+
+    private EncryptionUtils encryptionUtils;
+    private AutomationCompositionDefinition acDefinition;
+    private AutomationComposition automationComposition;
+    private AutomationCompositionElement element;
+    private String encryptedText;
+
+    /**
+     * Set up an instance with one sensitive property.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        encryptionUtils = new EncryptionUtils(CommonTestData.getEncryptionParameterGroup());
+
+        var sensitiveProp = new ToscaProperty();
+        sensitiveProp.setName(PROPERTY);
+        sensitiveProp.setMetadata(Map.of("sensitive", "true"));
+        var nodeType = new ToscaNodeType();
+        nodeType.setName("MyType");
+        nodeType.setProperties(Map.of(PROPERTY, sensitiveProp));
+        var nodeTemplate = new ToscaNodeTemplate();
+        nodeTemplate.setName("MyNode");
+        nodeTemplate.setType("MyType");
+        var serviceTemplate = new ToscaServiceTemplate();
+        serviceTemplate.setNodeTypes(Map.of("MyType", nodeType));
+        serviceTemplate.setToscaTopologyTemplate(new ToscaTopologyTemplate());
+        serviceTemplate.getToscaTopologyTemplate().setNodeTemplates(Map.of("MyNode", nodeTemplate));
+        acDefinition = new AutomationCompositionDefinition();
+        acDefinition.setServiceTemplate(serviceTemplate);
+
+        element = new AutomationCompositionElement();
+        element.setId(UUID.randomUUID());
+        element.setDefinition(new ToscaConceptIdentifier("MyNode", "1.0.0"));
+        automationComposition = new AutomationComposition();
+        automationComposition.setElements(Map.of(element.getId(), element));
+
+        element.getProperties().put(PROPERTY, PLAIN_TEXT);
+        encryptionUtils.findAndEncryptSensitiveData(acDefinition, automationComposition);
+        encryptedText = (String) element.getProperties().get(PROPERTY);
+    }
+
+    /**
+     * Encrypt one sensitive property.
+     *
+     * @return the encrypted value
+     */
+    @Benchmark
+    public Object encrypt() {
+        element.getProperties().put(PROPERTY, PLAIN_TEXT);
+        encryptionUtils.findAndEncryptSensitiveData(acDefinition, automationComposition);
+        return element.getProperties().get(PROPERTY);
+    }
+
+    /**
+     * Decrypt one sensitive property.
+     *
+     * @return the decrypted value
+     */
+    @Benchmark
+    public Object decrypt() {
+        element.getProperties().put(PROPERTY, encryptedText);
+        encryptionUtils.decryptInstanceProperties(automationComposition.getElements());
+        return element.getProperties().get(PROPERTY);
+    }
+
+    /**
+     * Encrypt one property deriving the key and creating the cipher each time.
+     *
+     * @return the encrypted bytes
+     * @throws Exception if the encryption fails
+     */
+    @Benchmark
+    public byte[] keyDerivationPerProperty() throws Exception {
+        var factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+        var spec = new PBEKeySpec(UUID.nameUUIDFromBytes("encrypt".getBytes()).toString().toCharArray(),
+                "salt".getBytes(), 65536, 256);
+        var key = new SecretKeySpec(factory.generateSecret(spec).getEncoded(), "AES");
+        var cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, UUID.randomUUID().toString().getBytes()));
+        return cipher.doFinal(PLAIN_TEXT.getBytes());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EncryptionUtilsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -32,6 +32,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import javax.crypto.Cipher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -184,6 +185,34 @@ class EncryptionUtilsTest {
         assertEquals("listSecret", after.get("token"));
     }
 
+    @Test
+    void testDecryptSnapshot() throws Exception {
+        var element = new AutomationCompositionElement();
+        element.setId(UUID.randomUUID());
+        Map<String, Object> innerMap = new HashMap<>();
+        innerMap.put("token", "ENCRYPTED:" + encryptToBase64("listSecret"));
+        element.getProperties().put("someList", List.of(innerMap, Map.of("plain", "value")));
+        element.getProperties().put("config", Map.of("plain", "value"));
+        var plainElement = new AutomationCompositionElement();
+        plainElement.setId(UUID.randomUUID());
+        plainElement.getProperties().put("plain", "value");
+        var ac = new AutomationComposition();
+        ac.setElements(Map.of(element.getId(), element, plainElement.getId(), plainElement));
+
+        var snapshot = AutomationComposition.snapshotOf(ac);
+        encryptionUtilsEnabled.decryptInstanceProperties(snapshot.getElements());
+
+        var snapshotElement = snapshot.getElements().get(element.getId());
+        var snapshotList = (List<?>) snapshotElement.getProperties().get("someList");
+        assertEquals("listSecret", ((Map<?, ?>) snapshotList.getFirst()).get("token"));
+        assertThat(innerMap.get("token")).asString().startsWith("ENCRYPTED:");
+        // the subtrees without encrypted values are shared
+        assertThat(snapshotList.get(1)).isSameAs(((List<?>) element.getProperties().get("someList")).get(1));
+        assertThat(snapshotElement.getProperties().get("config")).isSameAs(element.getProperties().get("config"));
+        assertThat(snapshot.getElements().get(plainElement.getId()).getProperties())
+            .isSameAs(plainElement.getProperties());
+    }
+
     @Test
     void testDecrypt_invalidCipher_throwsRuntimeException() {
         // create a composition with a property that has a malformed ENCRYPTED: value
@@ -299,5 +328,32 @@ class EncryptionUtilsTest {
         encryptionUtilsEnabled.decryptInstanceProperties(ac.getElements());
         assertEquals("plainText", ac.getElements().get(elementId).getProperties().get("x"));
     }
-}
 
+    @Test
+    void testSecretKeyAndCipherReused() throws Exception {
+        var secretKey = encryptionUtilsEnabled.getSecretKey();
+        assertThat(encryptionUtilsEnabled.getSecretKey()).isSameAs(secretKey);
+
+        var iv = new byte[12];
+        var cipher = encryptionUtilsEnabled.getCipher(iv, Cipher.ENCRYPT_MODE);
+        assertThat(encryptionUtilsEnabled.getCipher(iv, Cipher.DECRYPT_MODE)).isSameAs(cipher);
+
+        // each thread has its own cipher, all of them share the derived key
+        var otherCipher = CompletableFuture.supplyAsync(() -> {
+            try {
+                return encryptionUtilsEnabled.getCipher(iv, Cipher.ENCRYPT_MODE);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).join();
+        assertThat(otherCipher).isNotSameAs(cipher);
+        assertThat(encryptionUtilsEnabled.getSecretKey()).isSameAs(secretKey);
+    }
+
+    private String encryptToBase64(String plainText) throws Exception {
+        var iv = new byte[12];
+        var cipherBytes = encryptionUtilsEnabled.getCipher(iv, Cipher.ENCRYPT_MODE).doFinal(plainText.getBytes());
+        return Base64.getEncoder().encodeToString(
+            ByteBuffer.allocate(iv.length + cipherBytes.length).put(iv).put(cipherBytes).array());
+    }
+}
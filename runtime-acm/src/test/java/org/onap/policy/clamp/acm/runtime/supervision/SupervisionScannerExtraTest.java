@@ -1,7 +1,7 @@
 
 /*
  * ============LICENSE_START=======================================================
- *  Copyright (C) 2025 OpenInfra Foundation Europe. All rights reserved
+ *  Copyright (C) 2025-2026 OpenInfra Foundation Europe. All rights reserved
  *  ================================================================================
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -20,56 +20,78 @@
 
 package org.onap.policy.clamp.acm.runtime.supervision;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyMap;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.clamp.acm.runtime.supervision.scanner.AcDefinitionScanner;
 import org.onap.policy.clamp.acm.runtime.supervision.scanner.MonitoringScanner;
 import org.onap.policy.clamp.acm.runtime.supervision.scanner.PhaseScanner;
+import org.onap.policy.clamp.acm.runtime.supervision.scanner.ScanMetrics;
 import org.onap.policy.clamp.acm.runtime.supervision.scanner.SimpleScanner;
 import org.onap.policy.clamp.acm.runtime.supervision.scanner.StageScanner;
+import org.onap.policy.clamp.acm.runtime.util.CommonTestData;
+import org.onap.policy.clamp.models.acm.concepts.DeployState;
+import org.onap.policy.clamp.models.acm.concepts.LockState;
+import org.onap.policy.clamp.models.acm.concepts.SubState;
 import org.onap.policy.clamp.models.acm.persistence.provider.AcDefinitionProvider;
 import org.onap.policy.clamp.models.acm.persistence.provider.AutomationCompositionProvider;
 import org.onap.policy.clamp.models.acm.persistence.provider.MessageProvider;
+import org.onap.policy.clamp.models.acm.persistence.repository.AutomationCompositionRepository;
+import org.onap.policy.clamp.models.acm.utils.TimestampHelper;
+import org.springframework.dao.DataIntegrityViolationException;
 
 /**
  * Extra tests to exercise additional branches in SupervisionScanner.
  */
 class SupervisionScannerExtraTest {
 
+    private AutomationCompositionProvider automationCompositionProvider;
     private AcDefinitionProvider acDefinitionProvider;
     private MessageProvider messageProvider;
     private MonitoringScanner monitoringScanner;
+    private MeterRegistry registry;
     private SupervisionScanner scanner;
 
     @BeforeEach
     void setUp() {
-        var automationCompositionProvider = mock(AutomationCompositionProvider.class);
+        automationCompositionProvider = mock(AutomationCompositionProvider.class);
         acDefinitionProvider = mock(AcDefinitionProvider.class);
         messageProvider = mock(MessageProvider.class);
+        registry = new SimpleMeterRegistry();
+        var scanMetrics = new ScanMetrics(registry);
         monitoringScanner = mock(MonitoringScanner.class,
             withSettings().useConstructor(automationCompositionProvider, acDefinitionProvider,
                 mock(AcDefinitionScanner.class), mock(StageScanner.class), mock(SimpleScanner.class),
-                mock(PhaseScanner.class), messageProvider));
+                mock(PhaseScanner.class), messageProvider, scanMetrics));
 
         scanner = new SupervisionScanner(automationCompositionProvider, acDefinitionProvider,
-            messageProvider, monitoringScanner);
+            messageProvider, monitoringScanner, CommonTestData.getTestParamaterGroup(), scanMetrics);
     }
 
     @Test
@@ -84,15 +106,15 @@ class SupervisionScannerExtraTest {
     void whenJobCreationFails_scanAutomationCompositionReturnsEarly() {
         UUID compId = UUID.randomUUID();
         when(acDefinitionProvider.getAllAcDefinitionsInTransition()).thenReturn(new HashSet<>(Set.of(compId)));
-        when(messageProvider.createJob(compId)).thenReturn(Optional.empty());
+        when(messageProvider.createJobs(List.of(compId))).thenReturn(Map.of());
 
         scanner.run();
 
         // removeOldJobs is always called at the start
         verify(messageProvider).removeOldJobs();
-        verify(messageProvider).createJob(compId);
+        verify(messageProvider).createJobs(List.of(compId));
         verify(messageProvider, never()).removeJob(any());
-        verify(monitoringScanner, never()).scanAutomationComposition(any(), any());
+        verify(monitoringScanner, never()).scanAcDefinition(any());
     }
 
     @Test
@@ -103,14 +125,179 @@ class SupervisionScannerExtraTest {
         doNothing().when(monitoringScanner).scanAcDefinition(any());
         when(acDefinitionProvider.getAllAcDefinitionsInTransition()).thenReturn(new HashSet<>(Set.of(compId)));
         when(messageProvider.findInstanceMessages()).thenReturn(new HashSet<>(Set.of(compId)));
-        when(messageProvider.createJob(compId)).thenReturn(Optional.of(UUID.randomUUID().toString()));
-
+        var jobId = UUID.randomUUID().toString();
+        when(messageProvider.createJobs(List.of(compId))).thenReturn(Map.of(compId, jobId));
 
         scanner.run();
 
         verify(messageProvider).removeOldJobs();
-        verify(messageProvider, atLeastOnce()).createJob(compId);
+        verify(messageProvider, times(2)).createJobs(List.of(compId));
+        verify(monitoringScanner).scanAcDefinition(compId);
         verify(monitoringScanner).scanAutomationComposition(eq(compId), anyMap());
-        verify(messageProvider, atLeastOnce()).removeJob(any());
+        verify(messageProvider, times(2)).removeJobs(argThat(jobIds -> jobIds.contains(jobId)));
+        verify(messageProvider, never()).createJob(any());
+    }
+
+    @Test
+    void whenShardOwnedByAnotherReplica_thenShardIsSkipped() {
+        var parameters = CommonTestData.getTestParamaterGroup();
+        parameters.getAcmParameters().setScanShards(4);
+        parameters.getAcmParameters().setScanThreadPoolSize(2);
+        try (var shardedScanner = new SupervisionScanner(automationCompositionProvider, acDefinitionProvider,
+                messageProvider, monitoringScanner, parameters, new ScanMetrics(registry))) {
+            var instanceId = UUID.randomUUID();
+            when(automationCompositionProvider.getAcInstancesInTransition())
+                .thenReturn(new HashSet<>(Set.of(instanceId)));
+            when(messageProvider.createJob(any(UUID.class))).thenReturn(Optional.empty());
+
+            shardedScanner.run();
+            // only the shard job has been requested
+            verify(messageProvider).createJob(any(UUID.class));
+            verify(monitoringScanner, never()).scanAutomationComposition(any(), any());
+
+            clearInvocations(messageProvider);
+            var jobId = UUID.randomUUID().toString();
+            when(messageProvider.createJob(any(UUID.class))).thenReturn(Optional.of(UUID.randomUUID().toString()));
+            when(messageProvider.createJobs(List.of(instanceId))).thenReturn(Map.of(instanceId, jobId));
+            shardedScanner.run();
+            verify(messageProvider).createJobs(List.of(instanceId));
+            verify(monitoringScanner).scanAutomationComposition(eq(instanceId), anyMap());
+            // both the instance job and the shard job are released
+            verify(messageProvider).removeJobs(argThat(jobIds -> jobIds.contains(jobId)));
+            verify(messageProvider).removeJob(any());
+        }
+    }
+
+    @Test
+    void whenScheduled_thenOnlyThatIdIsScanned() {
+        var instanceId = UUID.randomUUID();
+        var compositionId = UUID.randomUUID();
+        when(messageProvider.createJob(any(UUID.class))).thenReturn(Optional.of(UUID.randomUUID().toString()));
+
+        scanner.scheduleAutomationComposition(instanceId);
+        scanner.scheduleAcDefinition(compositionId);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(monitoringScanner).scanAutomationComposition(eq(instanceId), anyMap());
+            verify(monitoringScanner).scanAcDefinition(compositionId);
+        });
+        verify(acDefinitionProvider, never()).getAllAcDefinitionsInTransition();
+        verify(messageProvider, never()).findInstanceMessages();
+    }
+
+    @Test
+    void whenScheduledJobIsHeldElsewhere_thenScanIsRequestedAgain() {
+        var instanceId = UUID.randomUUID();
+        var jobId = UUID.randomUUID().toString();
+        when(messageProvider.createJob(instanceId)).thenReturn(Optional.empty()).thenReturn(Optional.of(jobId));
+
+        scanner.scheduleAutomationComposition(instanceId);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(monitoringScanner).scanAutomationComposition(eq(instanceId), anyMap());
+            verify(messageProvider).removeJob(jobId);
+        });
+        verify(messageProvider, times(2)).createJob(instanceId);
+    }
+
+    @Test
+    void whenScheduledScanFails_thenJobIsReleased() {
+        var compositionId = UUID.randomUUID();
+        var jobId = UUID.randomUUID().toString();
+        when(messageProvider.createJob(compositionId)).thenReturn(Optional.of(jobId));
+        doThrow(new IllegalStateException("scan failed")).when(monitoringScanner).scanAcDefinition(compositionId);
+
+        scanner.scheduleAcDefinition(compositionId);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> verify(messageProvider).removeJob(jobId));
+    }
+
+    @Test
+    void whenLastMessageIsRecent_thenScanIsDeferred() {
+        var instanceId = UUID.randomUUID();
+        when(automationCompositionProvider.getAcInstancesInTransition())
+            .thenReturn(new HashSet<>(Set.of(instanceId)));
+        when(messageProvider.getLastMsg(instanceId)).thenReturn(TimestampHelper.nowTimestamp());
+        when(messageProvider.createJob(any(UUID.class))).thenReturn(Optional.of(UUID.randomUUID().toString()));
+
+        scanner.run();
+        // the scan thread does not wait for the message delay
+        verify(monitoringScanner, never()).scanAutomationComposition(any(), any());
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+            verify(monitoringScanner).scanAutomationComposition(eq(instanceId), anyMap()));
+    }
+
+    @Test
+    void whenBatchOfJobsConflicts_thenBatchIsSkipped() {
+        var instanceId1 = UUID.randomUUID();
+        var instanceId2 = UUID.randomUUID();
+        when(automationCompositionProvider.getAcInstancesInTransition())
+            .thenReturn(new HashSet<>(Set.of(instanceId1, instanceId2)));
+        when(messageProvider.createJobs(any())).thenThrow(new DataIntegrityViolationException("conflict"));
+
+        scanner.run();
+
+        verify(monitoringScanner, never()).scanAutomationComposition(any(), any());
+        verify(messageProvider, never()).createJob(any());
+        verify(messageProvider).removeJobs(argThat(jobIds -> jobIds.isEmpty()));
+    }
+
+    @Test
+    void whenScanOfBatchFails_thenJobsOfBatchAreReleasedTogether() {
+        var instanceId1 = UUID.randomUUID();
+        var instanceId2 = UUID.randomUUID();
+        when(automationCompositionProvider.getAcInstancesInTransition())
+            .thenReturn(new HashSet<>(Set.of(instanceId1, instanceId2)));
+        when(messageProvider.createJobs(any())).thenReturn(Map.of(instanceId1, "job1", instanceId2, "job2"));
+        doThrow(new IllegalStateException("scan failed")).when(monitoringScanner)
+            .scanAutomationComposition(any(), anyMap());
+
+        scanner.run();
+
+        verify(messageProvider).removeJobs(argThat(jobIds -> Set.copyOf(jobIds).equals(Set.of("job1", "job2"))));
+        verify(messageProvider, never()).removeJob(any());
+    }
+
+    @Test
+    void whenRun_thenPhasesAreMeasured() {
+        var compId = UUID.randomUUID();
+        when(acDefinitionProvider.getAllAcDefinitionsInTransition()).thenReturn(new HashSet<>(Set.of(compId)));
+        when(messageProvider.createJobs(List.of(compId))).thenReturn(Map.of(compId, UUID.randomUUID().toString()));
+
+        scanner.run();
+
+        assertThat(timerCount(ScanMetrics.RUN)).isEqualTo(1);
+        assertThat(timerCount(ScanMetrics.REMOVE_OLD_JOBS)).isEqualTo(1);
+        assertThat(timerCount(ScanMetrics.CHECK_LAST_MSG)).isEqualTo(1);
+        assertThat(timerCount(ScanMetrics.CREATE_JOB)).isEqualTo(1);
+        assertThat(registry.get("acm.scan.ids").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void whenGaugesUpdated_thenStatesAndPendingMessagesAreReported() {
+        var stateCount = mock(AutomationCompositionRepository.StateCount.class);
+        when(stateCount.getDeployState()).thenReturn(DeployState.DEPLOYED);
+        when(stateCount.getLockState()).thenReturn(LockState.LOCKED);
+        when(stateCount.getSubState()).thenReturn(SubState.NONE);
+        when(stateCount.getCount()).thenReturn(2L);
+        when(automationCompositionProvider.countAcInstancesByState()).thenReturn(List.of(stateCount));
+        var instanceId = UUID.randomUUID();
+        when(messageProvider.countMessages()).thenReturn(Map.of(instanceId, 3L));
+
+        scanner.updateGauges();
+        assertThat(registry.get("acm.instances").tag("deployState", "DEPLOYED").tag("lockState", "LOCKED")
+                .tag("subState", "NONE").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("acm.messages.pending").tag("identificationId", instanceId.toString())
+                .gauge().value()).isEqualTo(3);
+
+        // the gauge of an id without pending messages is removed
+        when(messageProvider.countMessages()).thenReturn(Map.of());
+        scanner.updateGauges();
+        assertThat(registry.find("acm.messages.pending").gauges()).isEmpty();
+    }
+
+    private long timerCount(String phase) {
+        return registry.get("acm.scan.phase").tag("phase", phase).timer().count();
     }
 }
@@ -0,0 +1,68 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.acm.runtime.supervision.scanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.clamp.acm.runtime.instantiation.InstantiationUtils;
+import org.onap.policy.clamp.acm.runtime.util.CommonTestData;
+import org.onap.policy.clamp.models.acm.concepts.AcTypeState;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionDefinition;
+
+class CompiledAcDefinitionCacheTest {
+
+    @Test
+    void testGet() {
+        var serviceTemplate = InstantiationUtils.getToscaServiceTemplate(CommonTestData.TOSCA_SERVICE_TEMPLATE_YAML);
+        var acDefinition = CommonTestData.createAcDefinition(serviceTemplate, AcTypeState.PRIMED);
+        var cache = new CompiledAcDefinitionCache();
+
+        var compiled = cache.get(acDefinition);
+        assertThat(compiled.isRevisionOf(acDefinition)).isTrue();
+        assertThat(cache.get(new AutomationCompositionDefinition(acDefinition))).isSameAs(compiled);
+
+        acDefinition.setRevisionId(UUID.randomUUID());
+        var recompiled = cache.get(acDefinition);
+        assertThat(recompiled).isNotSameAs(compiled);
+        assertThat(recompiled.isRevisionOf(acDefinition)).isTrue();
+        assertThat(cache.get(acDefinition)).isSameAs(recompiled);
+    }
+
+    @Test
+    void testMaxEntries() {
+        var serviceTemplate = InstantiationUtils.getToscaServiceTemplate(CommonTestData.TOSCA_SERVICE_TEMPLATE_YAML);
+        var acDefinition = CommonTestData.createAcDefinition(serviceTemplate, AcTypeState.PRIMED);
+        var cache = new CompiledAcDefinitionCache();
+        var compiled = cache.get(acDefinition);
+        for (var i = 0; i < CompiledAcDefinitionCache.MAX_ENTRIES; i++) {
+            acDefinition.setCompositionId(UUID.randomUUID());
+            cache.get(acDefinition);
+        }
+        acDefinition.setCompositionId(compiled.getCompositionId());
+        acDefinition.setRevisionId(compiled.getRevisionId());
+        assertThat(cache.get(acDefinition)).isNotSameAs(compiled);
+
+        acDefinition.setCompositionId(null);
+        assertThat(cache.get(acDefinition)).isNotSameAs(cache.get(acDefinition));
+    }
+}
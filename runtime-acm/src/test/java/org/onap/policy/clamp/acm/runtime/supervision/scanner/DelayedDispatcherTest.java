@@ -0,0 +1,54 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.acm.runtime.supervision.scanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class DelayedDispatcherTest {
+
+    @Test
+    void testScheduleInOrderOfDelay() throws InterruptedException {
+        List<String> dispatched = new CopyOnWriteArrayList<>();
+        var latch = new CountDownLatch(2);
+        try (var dispatcher = new DelayedDispatcher()) {
+            dispatcher.schedule(() -> {
+                dispatched.add("second");
+                latch.countDown();
+            }, 200);
+            dispatcher.schedule(() -> {
+                throw new IllegalStateException("publisher error");
+            }, 0);
+            dispatcher.schedule(() -> {
+                dispatched.add("first");
+                latch.countDown();
+            }, 50);
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        // a failing task does not stop the next ones
+        assertThat(dispatched).containsExactly("first", "second");
+    }
+}
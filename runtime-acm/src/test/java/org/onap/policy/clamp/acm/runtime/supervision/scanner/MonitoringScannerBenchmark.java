@@ -0,0 +1,173 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.clamp.acm.runtime.supervision.scanner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.clamp.acm.runtime.Application;
+import org.onap.policy.clamp.acm.runtime.instantiation.InstantiationUtils;
+import org.onap.policy.clamp.acm.runtime.util.CommonTestData;
+import org.onap.policy.clamp.models.acm.concepts.AcTypeState;
+import org.onap.policy.clamp.models.acm.concepts.AutomationComposition;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionDefinition;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionElementInfo;
+import org.onap.policy.clamp.models.acm.concepts.AutomationCompositionInfo;
+import org.onap.policy.clamp.models.acm.concepts.DeployState;
+import org.onap.policy.clamp.models.acm.concepts.LockState;
+import org.onap.policy.clamp.models.acm.messages.kafka.participant.ParticipantStatus;
+import org.onap.policy.clamp.models.acm.persistence.provider.AcDefinitionProvider;
+import org.onap.policy.clamp.models.acm.persistence.provider.AutomationCompositionProvider;
+import org.onap.policy.clamp.models.acm.persistence.provider.MessageProvider;
+import org.onap.policy.clamp.models.acm.utils.AcmStateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+/**
+ * Throughput of a scan of all the deployed instances by the MonitoringScanner, on the in-memory H2 database of the
+ * test profile. The scanStable benchmark measures the scan of instances with nothing to do, and the
+ * scanWithStatusMessage benchmark the save and the scan of a status message of every element.
+ * The benchmark has to run from the runtime-acm directory, where the test resources are found.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class MonitoringScannerBenchmark {
+
+    private static final String AC_JSON = "src/test/resources/rest/acm/AutomationCompositionSmoke.json";
+
+    @Param({"10", "100"})
+    private int instances;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private ConfigurableApplicationContext context;
+    private MessageProvider messageProvider;
+    private MonitoringScanner monitoringScanner;
+    private final List<UUID> instanceIds = new ArrayList<>();
+    private final List<AutomationComposition> automationCompositions = new ArrayList<>();
+    private long counter;
+
+    /**
+     * Start the runtime and save a primed composition with the configured number of deployed instances.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, 1);
+        broker.afterPropertiesSet();
+        // the scheduled scan of the runtime must not run during the benchmark
+        context = new SpringApplicationBuilder(Application.class)
+                .profiles("test")
+                .properties("spring.embedded.kafka.brokers=" + broker.getBrokersAsString(), "server.port=0",
+                        "runtime.participantParameters.heartBeatMs=3600000")
+                .run();
+        messageProvider = context.getBean(MessageProvider.class);
+        monitoringScanner = context.getBean(MonitoringScanner.class);
+        var acDefinitionProvider = context.getBean(AcDefinitionProvider.class);
+        var automationCompositionProvider = context.getBean(AutomationCompositionProvider.class);
+
+        var serviceTemplate = InstantiationUtils.getToscaServiceTemplate(CommonTestData.TOSCA_SERVICE_TEMPLATE_YAML);
+        var acDefinition = CommonTestData.createAcDefinition(serviceTemplate, AcTypeState.PRIMED);
+        acDefinitionProvider.updateAcDefinition(acDefinition, CommonTestData.TOSCA_COMP_NAME);
+
+        for (var i = 0; i < instances; i++) {
+            var automationComposition = InstantiationUtils.getAutomationCompositionFromResource(AC_JSON, "" + i);
+            automationComposition.setCompositionId(acDefinition.getCompositionId());
+            automationComposition = automationCompositionProvider.createAutomationComposition(automationComposition);
+            AcmStateUtils.setCascadedState(automationComposition, DeployState.DEPLOYED, LockState.LOCKED);
+            automationComposition = automationCompositionProvider.updateAutomationComposition(automationComposition);
+            instanceIds.add(automationComposition.getInstanceId());
+            automationCompositions.add(automationComposition);
+        }
+    }
+
+    /**
+     * Stop the runtime and the broker.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        broker.destroy();
+    }
+
+    @Benchmark
+    public void scanStable() {
+        Map<UUID, AutomationCompositionDefinition> acDefinitionMap = new HashMap<>();
+        for (var instanceId : instanceIds) {
+            monitoringScanner.scanAutomationComposition(instanceId, acDefinitionMap);
+        }
+    }
+
+    @Benchmark
+    public void scanWithStatusMessage() {
+        messageProvider.saveInstanceOutProperties(createParticipantStatus());
+        scanStable();
+    }
+
+    private ParticipantStatus createParticipantStatus() {
+        var participantStatus = new ParticipantStatus();
+        participantStatus.setParticipantId(CommonTestData.getParticipantId());
+        participantStatus.setReplicaId(CommonTestData.getReplicaId());
+        counter++;
+        for (var automationComposition : automationCompositions) {
+            var acInfo = new AutomationCompositionInfo();
+            acInfo.setAutomationCompositionId(automationComposition.getInstanceId());
+            acInfo.setDeployState(DeployState.DEPLOYED);
+            acInfo.setLockState(LockState.LOCKED);
+            for (var element : automationComposition.getElements().values()) {
+                var elementInfo = new AutomationCompositionElementInfo();
+                elementInfo.setAutomationCompositionElementId(element.getId());
+                elementInfo.setDeployState(DeployState.DEPLOYED);
+                elementInfo.setLockState(LockState.LOCKED);
+                elementInfo.setOutProperties(Map.of("counter", counter));
+                acInfo.getElements().add(elementInfo);
+            }
+            participantStatus.getAutomationCompositionInfoList().add(acInfo);
+        }
+        return participantStatus;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MonitoringScannerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
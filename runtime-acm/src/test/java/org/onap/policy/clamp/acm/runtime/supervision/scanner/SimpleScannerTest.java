@@ -28,6 +28,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Consumer;
@@ -57,6 +58,7 @@ class SimpleScannerTest {
     private static final UUID COMPOSITION_ID = UUID.randomUUID();
     private static final UUID INSTANCE_ID = UUID.randomUUID();
     private static final Map<String, Object> OUT_PROPERTIES = Map.of("key", "value");
+    private static final ScanMetrics SCAN_METRICS = new ScanMetrics(new SimpleMeterRegistry());
 
     @Test
     void testFailScenario() {
@@ -73,7 +75,7 @@ class SimpleScannerTest {
         var acProvider = mock(AutomationCompositionProvider.class);
         var encryptionUtils = new EncryptionUtils(acRuntimeParameterGroup);
         var simpleScanner = new SimpleScanner(acProvider, mock(AcDefinitionProvider.class),
-                mock(ParticipantSyncPublisher.class), acRuntimeParameterGroup, encryptionUtils);
+                mock(ParticipantSyncPublisher.class), acRuntimeParameterGroup, encryptionUtils, SCAN_METRICS);
         var result = simpleScanner.scanMessage(automationComposition, docMessage);
         assertTrue(result.isUpdated());
         assertTrue(result.isToBeSync());
@@ -98,7 +100,7 @@ class SimpleScannerTest {
         var acProvider = mock(AutomationCompositionProvider.class);
         var encryptionUtils = new EncryptionUtils(acRuntimeParameterGroup);
         var simpleScanner = new SimpleScanner(acProvider, mock(AcDefinitionProvider.class),
-                mock(ParticipantSyncPublisher.class), acRuntimeParameterGroup, encryptionUtils);
+                mock(ParticipantSyncPublisher.class), acRuntimeParameterGroup, encryptionUtils, SCAN_METRICS);
 
         // wrong MessageType
         docMessage.setMessageType(ParticipantMessageType.PARTICIPANT_PRIME_ACK);
@@ -142,7 +144,7 @@ class SimpleScannerTest {
         var acProvider = mock(AutomationCompositionProvider.class);
         var encryptionUtils = new EncryptionUtils(acRuntimeParameterGroup);
         var simpleScanner = new SimpleScanner(acProvider, mock(AcDefinitionProvider.class),
-                mock(ParticipantSyncPublisher.class), acRuntimeParameterGroup, encryptionUtils);
+                mock(ParticipantSyncPublisher.class), acRuntimeParameterGroup, encryptionUtils, SCAN_METRICS);
         var result = simpleScanner.scanMessage(automationComposition, docMessage);
         assertTrue(result.isUpdated());
         assertFalse(result.isToBeSync());
@@ -165,7 +167,7 @@ class SimpleScannerTest {
         var acProvider = mock(AutomationCompositionProvider.class);
         var encryptionUtils = new EncryptionUtils(acRuntimeParameterGroup);
         var simpleScanner = new SimpleScanner(acProvider, mock(AcDefinitionProvider.class),
-                mock(ParticipantSyncPublisher.class), acRuntimeParameterGroup, encryptionUtils);
+                mock(ParticipantSyncPublisher.class), acRuntimeParameterGroup, encryptionUtils, SCAN_METRICS);
         var result = simpleScanner.scanMessage(automationComposition, docMessage);
         assertTrue(result.isUpdated());
         assertFalse(result.isToBeSync());
@@ -193,7 +195,7 @@ class SimpleScannerTest {
         var acProvider = mock(AutomationCompositionProvider.class);
         var encryptionUtils = new EncryptionUtils(acRuntimeParameterGroup);
         var simpleScanner = new SimpleScanner(acProvider, mock(AcDefinitionProvider.class),
-                mock(ParticipantSyncPublisher.class), acRuntimeParameterGroup, encryptionUtils);
+                mock(ParticipantSyncPublisher.class), acRuntimeParameterGroup, encryptionUtils, SCAN_METRICS);
         var result = simpleScanner.scanMessage(automationComposition, docMessage);
         assertTrue(result.isUpdated());
         assertFalse(result.isToBeSync());
@@ -259,7 +261,7 @@ class SimpleScannerTest {
         var acRuntimeParameterGroup = CommonTestData.getParameterGroup("dbScanner");
         var encryptionUtils = new EncryptionUtils(acRuntimeParameterGroup);
         var simpleScanner = new SimpleScanner(acProvider, mock(AcDefinitionProvider.class),
-                mock(ParticipantSyncPublisher.class), acRuntimeParameterGroup, encryptionUtils);
+                mock(ParticipantSyncPublisher.class), acRuntimeParameterGroup, encryptionUtils, SCAN_METRICS);
         simpleScanner.simpleScan(automationComposition, new UpdateSync());
         verify(acProvider, times(0)).updateAutomationComposition(any());
 
@@ -283,7 +285,7 @@ class SimpleScannerTest {
         var acRuntimeParameterGroup = CommonTestData.getParameterGroup("dbScanner");
         var simpleScanner = new SimpleScanner(acProvider, mock(AcDefinitionProvider.class),
                 mock(ParticipantSyncPublisher.class), acRuntimeParameterGroup,
-                new EncryptionUtils(acRuntimeParameterGroup));
+                new EncryptionUtils(acRuntimeParameterGroup), SCAN_METRICS);
         var result = simpleScanner.scanMessage(automationComposition, docMessage);
         assertTrue(result.isUpdated());
         assertTrue(result.isToBeSync());